@@ -0,0 +1,25 @@
+package com.tw.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The main class of the benchmarks jar. It accepts all the JMH command line options,
+ * and always adds the GC profiler, that reports the bytes allocated per operation (gc.alloc.rate.norm) and the GC counts and times,
+ * so every result comes with its allocation.
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws Exception {
+		Options options = new OptionsBuilder()
+			.parent( new CommandLineOptions(args) )
+			.addProfiler(GCProfiler.class)
+			.build();
+
+		new Runner(options).run();
+	}
+
+}
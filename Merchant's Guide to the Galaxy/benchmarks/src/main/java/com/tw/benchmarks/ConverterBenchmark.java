@@ -0,0 +1,98 @@
+package com.tw.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.tw.math.Converter;
+
+/**
+ * The cost of each public conversion of the Converter, for each Distribution of inputs.
+ *
+ * An invalid input throws an Exception, that is consumed by the Blackhole, so the INVALID distribution measures the cost of a rejection.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConverterBenchmark {
+
+	@Param({"SHORT", "LONG", "INVALID", "HOT"})
+	private Inputs.Distribution aDistribution;
+
+	private Inputs aInputs;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.aInputs = new Inputs(this.aDistribution);
+	}
+
+	@Benchmark
+	public void romanToArabic(Blackhole pBlackhole) {
+		this.aInputs.next();
+
+		try {
+			pBlackhole.consume( Converter.convertRomanToArabic(this.aInputs.getRoman()) );
+		} catch ( RuntimeException re ) {
+			pBlackhole.consume(re);
+		}
+	}
+
+	@Benchmark
+	public int tryRomanToArabic() {
+		this.aInputs.next();
+
+		return Converter.tryConvertRomanToArabic( this.aInputs.getRoman() );
+	}
+
+	@Benchmark
+	public void arabicToRoman(Blackhole pBlackhole) {
+		this.aInputs.next();
+
+		try {
+			pBlackhole.consume( Converter.convertArabicToRoman(this.aInputs.getArabic()) );
+		} catch ( RuntimeException re ) {
+			pBlackhole.consume(re);
+		}
+	}
+
+	@Benchmark
+	public void arabicStringToRoman(Blackhole pBlackhole) {
+		this.aInputs.next();
+
+		try {
+			pBlackhole.consume( Converter.convertArabicToRoman(this.aInputs.getArabicString()) );
+		} catch ( RuntimeException re ) {
+			pBlackhole.consume(re);
+		}
+	}
+
+	@Benchmark
+	public Object processDecimalValues() {
+		this.aInputs.next();
+
+		return Converter.processDecimalValues( this.aInputs.getDecimal() );
+	}
+
+	@Benchmark
+	public boolean hasInvalidConsecutiveRepetitions() {
+		this.aInputs.next();
+
+		return Converter.hasInvalidConsecutiveRepetitions( this.aInputs.getRoman() );
+	}
+
+}
@@ -0,0 +1,144 @@
+package com.tw.benchmarks;
+
+import static com.tw.utils.Constants.MAXIMUM_ROMAN_VALUE;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import com.tw.math.Converter;
+
+/**
+ * The inputs of the benchmarks, generated with a fixed seed, so every run measures exactly the same values.
+ *
+ * Each Distribution fills tables of SIZE inputs, that the benchmarks read one after the other (see next()),
+ * so the branch predictor cannot learn a single value, except in the HOT distribution, that repeats the same one on purpose.
+ */
+public class Inputs {
+
+	public static final int SIZE = 1024;
+	private static final int MASK = SIZE - 1;
+
+	private static final String SYMBOLS = "IVXLCDM";
+
+	/**
+	 * The realistic kinds of inputs
+	 */
+	public enum Distribution {
+		/**
+		 * Roman Numbers with up to 4 Symbols, like the ones of the sentences (ex: glob prok)
+		 */
+		SHORT,
+		/**
+		 * Roman Numbers with 10 Symbols or more (ex: MMMDCCCLXXXVIII)
+		 */
+		LONG,
+		/**
+		 * Inputs rejected by the rules: empty, repeated or badly subtracted Symbols, and Arabic values out of the Roman range
+		 */
+		INVALID,
+		/**
+		 * The same valid input, again and again
+		 */
+		HOT
+	}
+
+	private final String[]		aRomans		= new String[SIZE];
+	private final int[]			aArabics	= new int[SIZE];
+	private final String[]		aArabicStrings	= new String[SIZE];
+	private final BigDecimal[]	aDecimals	= new BigDecimal[SIZE];
+
+	private int aIndex;
+
+	public Inputs(Distribution pDistribution) {
+		Random random = new Random(42);
+
+		for ( int index = 0; index < SIZE; index = index + 1 ) {
+			if ( pDistribution == Distribution.INVALID ) {
+				this.aRomans[index]			= getInvalidRoman(random, index);
+				this.aArabics[index]		= getInvalidArabic(index);
+				this.aArabicStrings[index]	= index % 2 == 0 ? Integer.toString(this.aArabics[index]) : "12a" + index;
+			} else {
+				int arabic;
+				if ( pDistribution == Distribution.HOT ) {
+					arabic = 1944;
+				} else if ( pDistribution == Distribution.SHORT ) {
+					arabic = getArabicWithLength(random, 1, 4);
+				} else {
+					arabic = getArabicWithLength(random, 10, 15);
+				}
+
+				this.aRomans[index]			= Converter.convertArabicToRoman(arabic);
+				this.aArabics[index]		= arabic;
+				this.aArabicStrings[index]	= Integer.toString(arabic);
+			}
+
+			// A Variable value, as divided by addValuation(), multiplied by a quantity
+			BigDecimal variableValue = new BigDecimal(1 + random.nextInt(100000)).divide( new BigDecimal(1 + random.nextInt(3999)), 10, RoundingMode.HALF_EVEN );
+			this.aDecimals[index] = variableValue.multiply( new BigDecimal(Math.max(1, this.aArabics[index])) );
+		}
+	}
+
+	/**
+	 * This method moves to the next input, that is read by the getters
+	 */
+	public void next() {
+		this.aIndex = (this.aIndex + 1) & MASK;
+	}
+
+	public String getRoman() {
+		return this.aRomans[this.aIndex];
+	}
+
+	public int getArabic() {
+		return this.aArabics[this.aIndex];
+	}
+
+	public String getArabicString() {
+		return this.aArabicStrings[this.aIndex];
+	}
+
+	public BigDecimal getDecimal() {
+		return this.aDecimals[this.aIndex];
+	}
+
+	private static int getArabicWithLength(Random pRandom, int pMinimumLength, int pMaximumLength) {
+		int response;
+
+		int length;
+		do {
+			response = 1 + pRandom.nextInt(MAXIMUM_ROMAN_VALUE);
+			length = Converter.convertArabicToRoman(response).length();
+		} while ( length < pMinimumLength || length > pMaximumLength );
+
+		return response;
+	}
+
+	private static String getInvalidRoman(Random pRandom, int pIndex) {
+		String response;
+
+		if ( pIndex % 16 == 0 ) {
+			response = "";
+		} else {
+			do {
+				StringBuilder roman = new StringBuilder();
+
+				int length = 2 + pRandom.nextInt(7);
+				for ( int index = 0; index < length; index = index + 1 ) {
+					roman.append( SYMBOLS.charAt(pRandom.nextInt(SYMBOLS.length())) );
+				}
+
+				response = roman.toString();
+			} while ( !Converter.isError(Converter.tryConvertRomanToArabic(response)) );
+		}
+
+		return response;
+	}
+
+	private static int getInvalidArabic(int pIndex) {
+		int[] invalidArabics = { 0, -1, MAXIMUM_ROMAN_VALUE + 1, 123456 };
+
+		return invalidArabics[pIndex % invalidArabics.length];
+	}
+
+}
@@ -0,0 +1,69 @@
+package com.tw.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.tw.math.Converter;
+
+/**
+ * The ways to reject an invalid Roman Number, always with the INVALID Distribution:
+ * 		- the Exception, with its stack trace, thrown by convertRomanToArabic()
+ * 		- the same Exception, preallocated and without a stack trace (Converter.STACKLESS_EXCEPTIONS_PROPERTY), that is only read by a new JVM
+ * 		- the error code of tryConvertRomanToArabic(), without any Exception
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RejectionBenchmark {
+
+	private Inputs aInputs;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.aInputs = new Inputs(Inputs.Distribution.INVALID);
+	}
+
+	@Benchmark
+	public void exception(Blackhole pBlackhole) {
+		throwAndCatch(pBlackhole);
+	}
+
+	@Benchmark
+	@Fork(value = 2, jvmArgsAppend = "-D" + Converter.STACKLESS_EXCEPTIONS_PROPERTY + "=true")
+	public void stacklessException(Blackhole pBlackhole) {
+		throwAndCatch(pBlackhole);
+	}
+
+	@Benchmark
+	public int errorCode() {
+		this.aInputs.next();
+
+		return Converter.tryConvertRomanToArabic( this.aInputs.getRoman() );
+	}
+
+	private void throwAndCatch(Blackhole pBlackhole) {
+		this.aInputs.next();
+
+		try {
+			pBlackhole.consume( Converter.convertRomanToArabic(this.aInputs.getRoman()) );
+		} catch ( RuntimeException re ) {
+			pBlackhole.consume(re);
+		}
+	}
+
+}
@@ -0,0 +1,61 @@
+package com.tw.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tw.math.RomanCodec;
+import com.tw.math.RomanCodecs;
+
+/**
+ * Each RomanCodec engine, with the same inputs, so a candidate engine can be compared with the reference one
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RomanCodecBenchmark {
+
+	@Param({"reference", "converter", "packed"})
+	private String aCodecName;
+
+	@Param({"SHORT", "LONG", "INVALID", "HOT"})
+	private Inputs.Distribution aDistribution;
+
+	private RomanCodec	aCodec;
+	private Inputs		aInputs;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.aCodec		= RomanCodecs.getCodec(this.aCodecName);
+		this.aInputs	= new Inputs(this.aDistribution);
+	}
+
+	@Benchmark
+	public int tryDecode() {
+		this.aInputs.next();
+
+		return this.aCodec.tryDecode( this.aInputs.getRoman() );
+	}
+
+	@Benchmark
+	public int validate() {
+		this.aInputs.next();
+
+		return this.aCodec.validate( this.aInputs.getRoman() );
+	}
+
+}
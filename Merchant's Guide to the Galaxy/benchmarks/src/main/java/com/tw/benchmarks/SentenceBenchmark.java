@@ -0,0 +1,96 @@
+package com.tw.benchmarks;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tw.main.SentenceProcessor;
+
+/**
+ * The cost of processing a single Read Line Sentence, of each kind, by SentenceProcessor.processInputLineRead(),
+ * after the Nouns and the Variables of the example input are known.
+ * The responses are printed by the SentenceProcessor, so the Standard Output is discarded while it runs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SentenceBenchmark {
+
+	public enum Kind {
+		MAPPING		("glob is I"),
+		VALUATION	("glob prok Gold is 57800 Credits"),
+		HOW_MUCH	("how much is pish tegj glob glob ?"),
+		HOW_MANY	("how many Credits is glob prok Silver ?"),
+		UNKNOWN		("how much wood could a woodchuck chuck if a woodchuck could chuck wood ?");
+
+		private final String aLine;
+
+		private Kind(String pLine) {
+			this.aLine = pLine;
+		}
+
+		public String getLine() {
+			return this.aLine;
+		}
+	}
+
+	private static final String[] EXAMPLE_INPUT = {
+		"glob is I", "prok is V", "pish is X", "tegj is L",
+		"glob glob Silver is 34 Credits", "glob prok Gold is 57800 Credits", "pish pish Iron is 3910 Credits"
+	};
+
+	@Param({"MAPPING", "VALUATION", "HOW_MUCH", "HOW_MANY", "UNKNOWN"})
+	private Kind aKind;
+
+	private SentenceProcessor	aProcessor;
+	private PrintStream			aStandardOutput;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.aStandardOutput = System.out;
+		System.setOut( new PrintStream(new OutputStream() {
+			@Override
+			public void write(int pByte) {
+				// Discarded
+			}
+
+			@Override
+			public void write(byte[] pBytes, int pOffset, int pLength) {
+				// Discarded
+			}
+		}) );
+
+		this.aProcessor = new SentenceProcessor();
+		for ( String line : EXAMPLE_INPUT ) {
+			this.aProcessor.processInputLineRead(line);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		System.setOut(this.aStandardOutput);
+	}
+
+	@Benchmark
+	public String processInputLineRead() {
+		return this.aProcessor.processInputLineRead( this.aKind.getLine() );
+	}
+
+}
@@ -0,0 +1,83 @@
+package com.tw.main;
+
+import static com.tw.math.Converter.processDecimalValues;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import com.tw.math.ExtendedRomanCodec;
+import com.tw.math.FixedPointDecimal;
+import com.tw.math.RowFormatter;
+
+/**
+ * This class formats the rows of a conversion table with the galactic Nouns of a SentenceProcessor.
+ * Each row has 4 columns, separated by tabs:
+ *
+ * 		Arabic number		Roman Number		Nouns/Multipliers		Credits of the Variable
+ *
+ * Example, after "glob is I", "prok is V" and "glob glob Silver is 34 Credits":
+ * 		4	IV	glob prok	68
+ *
+ * A Roman Symbol without a Noun is written as it is. The Mappings are copied when this formatter is created,
+ * so it can be used by many threads while the SentenceProcessor keeps reading sentences.
+ */
+public class GalacticRowFormatter implements RowFormatter {
+
+	/**
+	 * The Noun of each ASCII Roman Symbol
+	 */
+	private final String[]	aNouns	= new String[128];
+	private final double	aVariableValue;
+
+	/**
+	 * @param		pNounToRoman		The Noun/Multiplier to Roman Mapping
+	 * @param		pVariableValue		The value of the Variable, in Credits
+	 */
+	public GalacticRowFormatter(Map<String, Character> pNounToRoman, double pVariableValue) {
+		this.aVariableValue	= pVariableValue;
+
+		for ( Map.Entry<String, Character> mapping : pNounToRoman.entrySet() ) {
+			char romanCharacter = mapping.getValue();
+
+			if ( romanCharacter < this.aNouns.length ) {
+				String noun = this.aNouns[romanCharacter];
+
+				// When many Nouns have the same Roman Symbol, the first in alphabetical order is used, so the table is always the same
+				if ( noun == null || mapping.getKey().compareTo(noun) < 0 ) {
+					this.aNouns[romanCharacter] = mapping.getKey();
+				}
+			}
+		}
+	}
+
+	@Override
+	public void appendRow(int pArabic, StringBuffer pRow) {
+		pRow.append(pArabic).append('\t');
+
+		int romanStart = pRow.length();
+		RowFormatter.appendRoman(pArabic, pRow);
+		int romanEnd = pRow.length();
+
+		pRow.append('\t');
+		for ( int index = romanStart; index < romanEnd; index = index + 1 ) {
+			char romanCharacter = pRow.charAt(index);
+			String noun = romanCharacter < this.aNouns.length ? this.aNouns[romanCharacter] : null;
+
+			if ( index > romanStart && romanCharacter != ExtendedRomanCodec.OVERLINE ) {
+				pRow.append(' ');
+			}
+
+			if ( noun != null ) {
+				pRow.append(noun);
+			} else {
+				pRow.append(romanCharacter);
+			}
+		}
+
+		pRow.append('\t');
+		if ( !FixedPointDecimal.appendProduct(pRow, pArabic, this.aVariableValue) ) {
+			pRow.append( processDecimalValues( new BigDecimal(pArabic).multiply(new BigDecimal(this.aVariableValue)) ) );
+		}
+	}
+
+}
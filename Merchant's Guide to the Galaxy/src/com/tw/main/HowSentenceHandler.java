@@ -0,0 +1,44 @@
+package com.tw.main;
+
+import com.tw.sentences.SentenceGrammar;
+import com.tw.sentences.SentenceTokens;
+import com.tw.utils.Keywords;
+
+/**
+ * This handler answers the How Much and How Many Sentences, that start with "how" and have at least four terms
+ * 
+ * Examples:
+ * 		how much is pish tegj glob glob ?
+ * 		how many Credits is glob prok Silver ?
+ */
+public class HowSentenceHandler implements SentenceHandler {
+
+	@Override
+	public int getLeadingKeyword() {
+		return Keywords.HOW;
+	}
+
+	@Override
+	public int getMinimumSize() {
+		return 4;
+	}
+
+	@Override
+	public int getMaximumSize() {
+		return Integer.MAX_VALUE;
+	}
+
+	@Override
+	public String handle(SentenceProcessor pProcessor, SentenceTokens pTokens) {
+		String response = null;
+		
+		if (	pProcessor.matches(pTokens, SentenceGrammar.HOW_MUCH)		||
+				pProcessor.matches(pTokens, SentenceGrammar.HOW_MANY)
+		) {
+			response = pProcessor.answerMatchedHowSentence(pTokens);
+		}
+		
+		return response;
+	}
+
+}
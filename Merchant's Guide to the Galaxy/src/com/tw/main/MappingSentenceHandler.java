@@ -0,0 +1,41 @@
+package com.tw.main;
+
+import com.tw.sentences.SentenceGrammar;
+import com.tw.sentences.SentenceTokens;
+
+/**
+ * This handler adds the Noun/Multiplier to Roman Mapping Sentences, with any first term and exactly three terms
+ * 
+ * Example:
+ * 		glob is I
+ */
+public class MappingSentenceHandler implements SentenceHandler {
+
+	@Override
+	public int getLeadingKeyword() {
+		return ANY_FIRST_TERM;
+	}
+
+	@Override
+	public int getMinimumSize() {
+		return 3;
+	}
+
+	@Override
+	public int getMaximumSize() {
+		return 3;
+	}
+
+	@Override
+	public String handle(SentenceProcessor pProcessor, SentenceTokens pTokens) {
+		String response = null;
+		
+		if ( pProcessor.matches(pTokens, SentenceGrammar.MAPPING) ) {
+			pProcessor.addMatchedMapping(pTokens);
+			response = "";
+		}
+		
+		return response;
+	}
+
+}
@@ -0,0 +1,131 @@
+package com.tw.main;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.tw.sentences.SentenceTokens;
+import com.tw.utils.Keywords;
+
+/**
+ * This class gives each Read Line Sentence to the SentenceHandlers that can accept it, by a table built only once, from the shapes that they declare.
+ *
+ * The table has a row for each keyword of the first term (see Keywords, ignoring the case, with Keywords.NONE for a term that is no keyword),
+ * and a column for each quantity of terms, up to INDEXED_SIZES. Each cell keeps the handlers that accept this first term and this quantity of terms,
+ * in their order, so a line is never given to a handler that can not accept it, however many handlers there are.
+ * The Sentences with INDEXED_SIZES terms or more share the last column, and only for them the quantity of terms is tested again.
+ */
+public class SentenceDispatcher {
+
+	private static final int INDEXED_SIZES = 16;
+
+	private final SentenceHandler[][][] aTable = new SentenceHandler[Keywords.KEYWORDS_COUNT][INDEXED_SIZES + 1][];
+
+	/**
+	 * @param		pHandlers		The handlers, in the order that they must receive the Sentences
+	 *
+	 * @throws		IllegalArgumentException		If a handler declares an invalid shape
+	 */
+	public SentenceDispatcher(List<SentenceHandler> pHandlers) {
+		for ( SentenceHandler handler : pHandlers ) {
+			validate(handler);
+		}
+
+		for ( int keyword = Keywords.NONE; keyword < Keywords.KEYWORDS_COUNT; keyword = keyword + 1 ) {
+			for ( int size = 0; size <= INDEXED_SIZES; size = size + 1 ) {
+				List<SentenceHandler> handlers = new ArrayList<SentenceHandler>();
+
+				for ( SentenceHandler handler : pHandlers ) {
+					if ( isAccepted(handler, keyword, size) ) {
+						handlers.add(handler);
+					}
+				}
+
+				this.aTable[keyword][size] = handlers.toArray( new SentenceHandler[handlers.size()] );
+			}
+		}
+	}
+
+	/**
+	 * This method gives the Sentence to each handler of its cell of the table, until one of them handles it
+	 *
+	 * @param		pProcessor		The SentenceProcessor that read the Sentence
+	 * @param		pTokens			The Read Line Sentence, and its terms
+	 *
+	 * @return		String			The response of the handler ("" if there is none), or null if no handler handles the Sentence
+	 */
+	public String dispatch(SentenceProcessor pProcessor, SentenceTokens pTokens) {
+		String response = null;
+
+		int size = pTokens.size();
+		SentenceHandler[] handlers = getCell( getFirstKeyword(pTokens), size );
+		for ( int index = 0; response == null && index < handlers.length; index = index + 1 ) {
+			// Only the last column has more than one quantity of terms
+			if ( size < INDEXED_SIZES || isInRange(handlers[index], size) ) {
+				response = handlers[index].handle(pProcessor, pTokens);
+			}
+		}
+
+		return response;
+	}
+
+	/**
+	 * @param		pTokens		A Read Line Sentence, and its terms
+	 *
+	 * @return		List		The handlers that can accept the Sentence, in the order that they receive it
+	 */
+	public List<SentenceHandler> getHandlers(SentenceTokens pTokens) {
+		List<SentenceHandler> response = new ArrayList<SentenceHandler>();
+
+		int size = pTokens.size();
+		for ( SentenceHandler handler : getCell( getFirstKeyword(pTokens), size ) ) {
+			if ( isInRange(handler, size) ) {
+				response.add(handler);
+			}
+		}
+
+		return response;
+	}
+
+	private SentenceHandler[] getCell(int pKeyword, int pSize) {
+		return this.aTable[pKeyword][ Math.min(pSize, INDEXED_SIZES) ];
+	}
+
+	private static int getFirstKeyword(SentenceTokens pTokens) {
+		return pTokens.size() > 0 ? pTokens.getKeyword(0) : Keywords.NONE;
+	}
+
+	/**
+	 * @return	boolean		Indicates if the handler accepts the first term, and a quantity of terms of the column
+	 */
+	private static boolean isAccepted(SentenceHandler pHandler, int pKeyword, int pSize) {
+		int leadingKeyword = pHandler.getLeadingKeyword();
+		boolean response = leadingKeyword == SentenceHandler.ANY_FIRST_TERM || leadingKeyword == pKeyword;
+
+		if ( pSize < INDEXED_SIZES ) {
+			response = response && isInRange(pHandler, pSize);
+		} else {
+			response = response && pHandler.getMaximumSize() >= INDEXED_SIZES;
+		}
+
+		return response;
+	}
+
+	private static boolean isInRange(SentenceHandler pHandler, int pSize) {
+		return pSize >= pHandler.getMinimumSize() && pSize <= pHandler.getMaximumSize();
+	}
+
+	private static void validate(SentenceHandler pHandler) {
+		int leadingKeyword = pHandler.getLeadingKeyword();
+
+		if ( leadingKeyword != SentenceHandler.ANY_FIRST_TERM && ( leadingKeyword < Keywords.NONE || leadingKeyword >= Keywords.KEYWORDS_COUNT ) ) {
+			throw new IllegalArgumentException("The SentenceHandler " + pHandler + " has an invalid leading keyword: " + leadingKeyword);
+		}
+
+		if ( pHandler.getMinimumSize() < 0 || pHandler.getMinimumSize() > pHandler.getMaximumSize() ) {
+			throw new IllegalArgumentException(
+				"The SentenceHandler " + pHandler + " has an invalid quantity of terms: " + pHandler.getMinimumSize() + " to " + pHandler.getMaximumSize()
+			);
+		}
+	}
+
+}
@@ -0,0 +1,47 @@
+package com.tw.main;
+
+import com.tw.sentences.SentenceTokens;
+
+/**
+ * This interface handles a form of Sentence read by the SentenceProcessor (ex: the Mapping Sentences, like "glob is I").
+ *
+ * A handler declares the shape of the Sentences that it can accept: the keyword of their first term, and their quantity of terms.
+ * The SentenceDispatcher puts each handler in a table, by first term and quantity of terms, only once, so a line is only given to the handlers
+ * that can accept it, in the order of SentenceHandlers.getHandlers(), until one of them handles it.
+ *
+ * The built in handlers are in SentenceHandlers, and others can be registered for the ServiceLoader (META-INF/services/com.tw.main.SentenceHandler).
+ * An implementation must be thread safe, and have a public constructor without parameters, to be found by the ServiceLoader.
+ */
+public interface SentenceHandler {
+
+	/**
+	 * The leading keyword of a handler that accepts any first term
+	 */
+	int ANY_FIRST_TERM = -1;
+
+	/**
+	 * @return	int		The id of the keyword of the first term of the accepted Sentences, ignoring the case (see Keywords), or ANY_FIRST_TERM
+	 */
+	int getLeadingKeyword();
+
+	/**
+	 * @return	int		The least quantity of terms of the accepted Sentences
+	 */
+	int getMinimumSize();
+
+	/**
+	 * @return	int		The greatest quantity of terms of the accepted Sentences, or Integer.MAX_VALUE
+	 */
+	int getMaximumSize();
+
+	/**
+	 * This method handles a Sentence that has the declared shape, if it is of the form of this handler
+	 *
+	 * @param		pProcessor		The SentenceProcessor that read the Sentence, with its Nouns and Variables
+	 * @param		pTokens			The Read Line Sentence, and its terms
+	 *
+	 * @return		String			The response to be shown ("" if there is none), or null if the Sentence is not of this form
+	 */
+	String handle(SentenceProcessor pProcessor, SentenceTokens pTokens);
+
+}
@@ -0,0 +1,58 @@
+package com.tw.main;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * This class lists the SentenceHandlers used by the application.
+ *
+ * The built in handlers come first, in the order of the original SentenceProcessor (Mapping, Valuation and How Much/Many),
+ * and then the handlers registered for the ServiceLoader (META-INF/services/com.tw.main.SentenceHandler), in the order that it finds them.
+ * So a registered handler only receives the lines that none of the built in ones handles.
+ */
+public class SentenceHandlers {
+
+	public static final SentenceHandler MAPPING		= new MappingSentenceHandler();
+	public static final SentenceHandler VALUATION	= new ValuationSentenceHandler();
+	public static final SentenceHandler HOW			= new HowSentenceHandler();
+
+	/**
+	 * The handlers are only looked for when this class is loaded, by the first call to getHandlers()
+	 */
+	private static class HandlersHolder {
+		private static final List<SentenceHandler> HANDLERS = loadHandlers();
+	}
+
+	/**
+	 * @return	List		The built in handlers, and then the ones registered for the ServiceLoader
+	 */
+	public static List<SentenceHandler> getHandlers() {
+		return HandlersHolder.HANDLERS;
+	}
+
+	/**
+	 * @return	List		Only the built in handlers
+	 */
+	public static List<SentenceHandler> getBuiltInHandlers() {
+		List<SentenceHandler> response = new ArrayList<SentenceHandler>();
+
+		response.add(MAPPING);
+		response.add(VALUATION);
+		response.add(HOW);
+
+		return response;
+	}
+
+	private static List<SentenceHandler> loadHandlers() {
+		List<SentenceHandler> response = getBuiltInHandlers();
+
+		for ( SentenceHandler handler : ServiceLoader.load(SentenceHandler.class) ) {
+			response.add(handler);
+		}
+
+		return Collections.unmodifiableList(response);
+	}
+
+}
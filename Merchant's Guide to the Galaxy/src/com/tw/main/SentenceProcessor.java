@@ -1,32 +1,35 @@
 package com.tw.main;
 
-import static com.tw.math.Converter.convertRomanToArabic;
+import static com.tw.math.Converter.isError;
 import static com.tw.math.Converter.processDecimalValues;
-import static com.tw.utils.Constants.CREDIT;
 import static com.tw.utils.Constants.CREDITS;
-import static com.tw.utils.Constants.HOW;
 import static com.tw.utils.Constants.IS;
 import static com.tw.utils.Constants.I_HAVE_NO_IDEA_WHAT_YOU_ARE_TALKING_ABOUT;
-import static com.tw.utils.Constants.MANY;
-import static com.tw.utils.Constants.QUESTION_MARK;
 import static com.tw.utils.Utils.*;
 
 import java.io.BufferedReader;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.math.BigDecimal;
+import java.math.MathContext;
 import java.math.RoundingMode;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
-import java.util.Set;
 
+import com.tw.math.FixedPointDecimal;
+import com.tw.math.RomanCode;
+import com.tw.math.RomanCodec;
+import com.tw.math.RomanCodecs;
+import com.tw.math.RowFormatter;
 import com.tw.math.exceptions.EmptyRomanException;
 import com.tw.math.exceptions.FourTimesRepetitionException;
 import com.tw.math.exceptions.InvalidArabicException;
 import com.tw.math.exceptions.InvalidRomanException;
+import com.tw.sentences.SentenceGrammar;
+import com.tw.sentences.SentenceTokens;
+import com.tw.utils.NumericParser;
 
 /**
  * This is the Main class of this application, and the one that has a executable Main Method
@@ -80,9 +83,66 @@ public class SentenceProcessor {
 	 */
 	private Map<String, Double>	aVariableMap;
 	
+	/**
+	 * The grammar of the Mapping form, that needs no Nouns and Variables. It is shared by every call of isMappingSentence(), even from
+	 * several threads: a match never reads the spans that it keeps, so only they can be mixed, and they are never read here
+	 */
+	private static final SentenceGrammar MAPPING_GRAMMAR = new SentenceGrammar();
+	
+	/**
+	 * This Attribute converts the Roman Numbers of the Nouns/Multipliers
+	 */
+	private final RomanCodec	aCodec;
+	
+	/**
+	 * The terms of the line being processed, reused for each line
+	 */
+	private final SentenceTokens	aTokens = new SentenceTokens();
+	
+	/**
+	 * The grammar that classifies the Sentences, over the Nouns and Variables known until now, and keeps the spans of the last one matched
+	 */
+	private final SentenceGrammar	aGrammar;
+	
+	/**
+	 * The table that gives each line only to the SentenceHandlers that can accept it
+	 */
+	private final SentenceDispatcher	aDispatcher;
+	
+	/**
+	 * This constructor uses the engine chosen for this application (see RomanCodecs.getDefault())
+	 */
 	public SentenceProcessor() {
+		this( RomanCodecs.getDefault() );
+	}
+	
+	/**
+	 * This constructor uses the handlers chosen for this application (see SentenceHandlers.getHandlers())
+	 * 
+	 * @param		pCodec		The engine that converts the Roman Numbers of the Nouns/Multipliers
+	 */
+	public SentenceProcessor(RomanCodec pCodec) {
+		this( pCodec, SentenceHandlers.getHandlers() );
+	}
+	
+	/**
+	 * @param		pCodec			The engine that converts the Roman Numbers of the Nouns/Multipliers
+	 * @param		pHandlers		The handlers of the Sentences, in the order that they must receive them
+	 */
+	public SentenceProcessor(RomanCodec pCodec, List<SentenceHandler> pHandlers) {
+		if ( pCodec == null ) {
+			throw new IllegalArgumentException("The RomanCodec must not be null");
+		}
+		
+		if ( pHandlers == null ) {
+			throw new IllegalArgumentException("The SentenceHandlers must not be null");
+		}
+		
+		this.aCodec = pCodec;
 		instanciate_NounMultiplier_toRoman_Mapping();
 		instanciateValuationMapping();
+		this.aGrammar = new SentenceGrammar(this.aNounMultiplier_toRoman_Map, this.aVariableMap);
+		this.aDispatcher = new SentenceDispatcher(pHandlers);
 	}
 	
 	/**
@@ -131,14 +191,14 @@ public class SentenceProcessor {
 	}
 	
 	/**
-	 * This method will take three StringBuffers. 
+	 * This method will take three StringBuffers and a number. 
 	 * The 1st one is part of a Response Sentence to be shown to users.
 	 * The 2nd one is a Variable name to be looked at aVariableMap, to get its Value.
-	 * The 3rd one is a Multiplier to be multiplied by the Variable Value.
+	 * The 3rd one is the Arabic value of the Multipliers, to be multiplied by the Variable Value.
 	 * 
 	 * @param pResponse
 	 * @param pVariableName
-	 * @param pMultipliers
+	 * @param pArabicNumber
 	 * @param pSecondaryVariableName
 	 * 
 	 * @return
@@ -146,33 +206,76 @@ public class SentenceProcessor {
 	private StringBuffer appendNumericalValue(
 		StringBuffer pResponse, 
 		StringBuffer pVariableName, 
-		StringBuffer pMultipliers,
+		int pArabicNumber,
 		StringBuffer pSecondaryVariableName		// TODO Refactor with the Method Overloaded above
 	) {
-		String romanMultipliers = convertMultipliersToRoman(pMultipliers.toString());
-		int arabicNumber = convertRomanToArabic(romanMultipliers);
+		boolean hasSecondaryVariable = pSecondaryVariableName != null && isStringValid(pSecondaryVariableName.toString());
 		
-		BigDecimal finalValue = calculateFinalValue(pVariableName, arabicNumber);
+		pResponse = pResponse.append(" ");
+		
+		// The common case, a single multiplication, is done in fixed point, without any BigDecimal
+		boolean isValueAppended = false;
+		if ( !hasSecondaryVariable ) {
+			isValueAppended = FixedPointDecimal.appendProduct(pResponse, pArabicNumber, getVariableValueToMultiply(pVariableName));
+		}
 		
-		if ( pSecondaryVariableName != null && isStringValid(pSecondaryVariableName.toString()) ) {
-			// TODO Implement some Test Methods for this clause, to test NullPointer
-			BigDecimal arabicNumberSecondVariable = new BigDecimal(this.aVariableMap.get(pSecondaryVariableName.toString()));
+		if ( !isValueAppended ) {
+			BigDecimal finalValue = calculateFinalValue(pVariableName, pArabicNumber);
 			
-			if ( !isEqualsZero(arabicNumberSecondVariable) ) {
-				/* Do the Math
-				 * 
-				 * TODO Implement some Test Methods for this clause, avoiding a Division by Zero
-				 */
-				finalValue = finalValue.divide(arabicNumberSecondVariable);
+			if ( hasSecondaryVariable ) {
+				// TODO Implement some Test Methods for this clause, to test NullPointer
+				BigDecimal arabicNumberSecondVariable = new BigDecimal(this.aVariableMap.get(pSecondaryVariableName.toString()));
+				
+				if ( !isEqualsZero(arabicNumberSecondVariable) ) {
+					/* Do the Math
+					 * 
+					 * TODO Implement some Test Methods for this clause, avoiding a Division by Zero
+					 */
+					// 34 digits keep every terminating quotient exact, and round the others before the 5 decimal places of the answer
+					finalValue = finalValue.divide(arabicNumberSecondVariable, MathContext.DECIMAL128);
+				}
 			}
+			
+			// Remove the excess of Decimal Digitis
+			finalValue = processDecimalValues(finalValue);
+			
+			pResponse = pResponse.append(finalValue);
 		}
 		
-		// Remove the excess of Decimal Digitis
-		finalValue = processDecimalValues(finalValue);
+		return pResponse;
+	}
+	
+	/**
+	 * This method looks for the Variable by	pVariableName	in the VariableMap, exactly as calculateFinalValue() does
+	 * 
+	 * @param pVariableName		Variable name to be looked in aVariableMap
+	 * 
+	 * @return					The Variable value, or 1 if there is no Variable name
+	 */
+	private double getVariableValueToMultiply(StringBuffer pVariableName) {
+		double response = 1;
 		
-		pResponse = pResponse.append(" ").append(finalValue);
+		if (	isStringValid( pVariableName.toString() )	) {
+			response = this.aVariableMap.get( pVariableName.toString().trim() );
+		}
 		
-		return pResponse;
+		return response;
+	}
+	
+	/**
+	 * This method creates a RowFormatter, for the RangeConverter, that writes the Nouns/Multipliers of each Roman Number,
+	 * and its value in Credits of the		pVariableName		(ex: Silver), with the Mappings read until now
+	 * 
+	 * @param		pVariableName		A Variable, already valued
+	 * 
+	 * @return		RowFormatter		The formatter of the conversion table rows
+	 */
+	public RowFormatter getRowFormatter(String pVariableName) {
+		if ( !this.aVariableMap.containsKey(pVariableName) ) {
+			throw new IllegalArgumentException("The Variable " + pVariableName + " has no value");
+		}
+		
+		return new GalacticRowFormatter( this.aNounMultiplier_toRoman_Map, this.aVariableMap.get(pVariableName) );
 	}
 	
 	/**
@@ -197,14 +300,47 @@ public class SentenceProcessor {
 	 * If this Sentence is a kind of Valuation (has Nouns as multipliers, a Variable and a Quantity of Credits assigned to this),
 	 * 		It will process it, extract its numerical values, do the necessary calculations and store them into the Variable Map.
 	 * 
-	 * @param pReadLine
+	 * Invalid Multipliers are reported by the returned value, instead of an Exception, once they are common in the input.
+	 * 
+	 * @param		pReadLine
+	 * 
+	 * @return		boolean		Indicates if the Valuation was added to the Variable Map
+	 */
+	public boolean addValuation(String pReadLine) {
+		return addValuation( new SentenceTokens(pReadLine) );
+	}
+	
+	/**
+	 * This method does the same of addValuation(String), over the terms of a Read Line Sentence already split
+	 * 
+	 * @param		pTokens		The Read Line Sentence, and its terms
+	 * 
+	 * @return		boolean		Indicates if the Valuation was added to the Variable Map
+	 */
+	public boolean addValuation(SentenceTokens pTokens) {
+		return this.isValuationSentence(pTokens) && addMatchedValuation(pTokens);
+	}
+	
+	/**
+	 * This method adds the Valuation Sentence just matched by aGrammar, from the spans of its terms
+	 * 
+	 * @param		pTokens		The Read Line Sentence, and its terms
+	 * 
+	 * @return		boolean		Indicates if the Valuation was added to the Variable Map
 	 */
-	public void addValuation(String pReadLine) {
-		if ( this.isValuationSentence(pReadLine) ) {
-			String romanMultiplier = this.extratMultipliersAndConvertToRoman(pReadLine);
-			int multiplier		= convertRomanToArabic(romanMultiplier);
-			String variable		= getVariableNameFromValuationSentence(pReadLine);
-			int value			= getAttributedValue(pReadLine);
+	boolean addMatchedValuation(SentenceTokens pTokens) {
+		boolean response = false;
+		
+		// All the Multipliers are valid Nouns, once it is a Valuation Sentence
+		int multiplier = convertMultipliersToArabic(
+			pTokens, this.aGrammar.getStart(SentenceGrammar.MULTIPLIERS), this.aGrammar.getEnd(SentenceGrammar.MULTIPLIERS)
+		);
+		
+		if ( !isError(multiplier) ) {
+			String variable		= pTokens.get( this.aGrammar.getIndex(SentenceGrammar.VARIABLE) );
+			
+			// The Valuation Sentence has a valid Integer there, so it is never INVALID
+			int value			= (int) pTokens.parseInt( this.aGrammar.getIndex(SentenceGrammar.VALUE) );
 			
 			BigDecimal dividend = new BigDecimal(value);
 			BigDecimal divisor = new BigDecimal(multiplier);
@@ -212,7 +348,10 @@ public class SentenceProcessor {
 			double variableValue = divisionResult.doubleValue();
 			
 			this.aVariableMap.put(variable, variableValue);
+			response = true;
 		}
+		
+		return response;
 	}
 	
 	/**
@@ -228,43 +367,73 @@ public class SentenceProcessor {
 	 * @return
 	 */
 	public String processHowSentence(String pReadLine) {
+		return processHowSentence( new SentenceTokens(pReadLine) );
+	}
+	
+	/**
+	 * This method does the same of processHowSentence(String), over the terms of a Read Line Sentence already split
+	 * 
+	 * @param		pTokens		The Read Line Sentence, and its terms
+	 * 
+	 * @return		String		The response to the How Much/Many sentence
+	 */
+	public String processHowSentence(SentenceTokens pTokens) {
+		String response = I_HAVE_NO_IDEA_WHAT_YOU_ARE_TALKING_ABOUT;
+		
+		if ( isHowMuchManySentenceValid(pTokens) ) {
+			response = answerMatchedHowSentence(pTokens);
+		}
+		
+		return response;
+	}
+	
+	/**
+	 * This method answers the How Much/Many Sentence just matched by aGrammar, from the spans of its terms
+	 * 
+	 * @param		pTokens		The Read Line Sentence, and its terms
+	 * 
+	 * @return		String		The response to the How Much/Many sentence
+	 */
+	String answerMatchedHowSentence(SentenceTokens pTokens) {
 		StringBuffer response = new StringBuffer();
 		
-		if ( isHowMuchManySentenceValid(pReadLine) ) {
-			StringBuffer variable = new StringBuffer();
-			StringBuffer credits = new StringBuffer();
-			
-			StringBuffer secondaryVariable = null;
-			
-			List<String> terms = split(pReadLine);
+		StringBuffer variable = new StringBuffer();
+		StringBuffer credits = new StringBuffer();
+		
+		StringBuffer secondaryVariable = null;
+		
+		// The Multipliers are the terms from		firstMultiplierIndex		, and before		endMultiplierIndex
+		int firstMultiplierIndex	= this.aGrammar.getStart(SentenceGrammar.MULTIPLIERS);
+		int endMultiplierIndex		= this.aGrammar.getEnd(SentenceGrammar.MULTIPLIERS);
+		if ( this.aGrammar.getForm() == SentenceGrammar.HOW_MANY ) {
+			variable = variable.append( pTokens.get(this.aGrammar.getIndex(SentenceGrammar.VARIABLE)) ).append(" ");
 			
-			List<String> multipliersList = new ArrayList<String>();
-			if ( isHowMuchSentenceValid(pReadLine) ) {
-				multipliersList = getMultipliersFromHowMuchSentence(pReadLine);
-			} else if ( isHowManySentenceValid(pReadLine) ) {
-				multipliersList = getMultipliersFromHowManySentence(pReadLine);
-				
-				variable = variable.append(terms.get( terms.size() -2 )).append(" ");
-				
-				// TODO Refact this IF ELSE clause
-				if ( !pReadLine.contains(CREDITS) ) {
-					secondaryVariable = new StringBuffer(terms.get(2));
-					credits = new StringBuffer(" ").append(secondaryVariable);
-				} else {
-					credits = new StringBuffer(" "+ CREDITS);
-				}
+			/* The Unit is Credits, or a Variable, in the case of Sentences like "how many Silver is glob Gold ?", but only when the line
+			 * has no "Credits" at all. A Unit that is no Variable is "credits" in another case
+			 */
+			int unitIndex = this.aGrammar.getIndex(SentenceGrammar.UNIT);
+			if (	!pTokens.getLine().contains(CREDITS)						&&
+					this.aVariableMap.containsKey(pTokens.get(unitIndex))
+			) {
+				secondaryVariable = new StringBuffer(pTokens.get(unitIndex));
+				credits = new StringBuffer(" ").append(secondaryVariable);
+			} else {
+				credits = new StringBuffer(" "+ CREDITS);
 			}
-			
-			// Repeating the Multipliers
-			StringBuffer multipliers = getMultipliers(multipliersList);
-			
+		}
+		
+		// Repeating the Multipliers
+		StringBuffer multipliers = getMultipliers(pTokens, firstMultiplierIndex, endMultiplierIndex);
+		
+		int arabicNumber = convertMultipliersToArabic(pTokens, firstMultiplierIndex, endMultiplierIndex);
+		if ( !isError(arabicNumber) ) {
 			response = prepareResponse(response, variable, multipliers);
 			
 			/* Append the Numerical Value;
 			 * 
 			 * TODO Refact this IF ELSE this clauses
 			 */
-			response = appendNumericalValue( response, variable, multipliers, secondaryVariable );
+			response = appendNumericalValue( response, variable, arabicNumber, secondaryVariable );
 			
 			// Append Credits, if its a How Many sentence
 			response = response.append(credits);
@@ -287,77 +456,6 @@ public class SentenceProcessor {
 		return pResponse;
 	}
 	
-	/**
-	 * Assuming that the	pReadLine	is a How Much sentence [this test can be done by isHowMuchSentenceValid() method], 
-	 * this method are going to split it in its terms, and extract from them the multipliers (ex: glob prok pish tegj)
-	 * 
-	 * @param	pReadLine	String with a HowMuch sentence
-	 * 
-	 * @return	List containing only the multipliers of the How Much sentence
-	 */
-	private List<String> getMultipliersFromHowMuchSentence(String pReadLine) {
-		List<String> terms		= split(pReadLine);
-		
-		int finalMultipliersIndex = terms.size() - 2;
-		List<String> multipliers = new ArrayList<String>();
-		for ( int index = 3; index <= finalMultipliersIndex; index = index + 1 ) {
-			multipliers.add(terms.get(index));
-		}
-		return multipliers;
-	}
-	
-	/**
-	 * Assuming that the	pReadLine	is a How Much sentence [this test can be done by isHowMuchSentenceValid() method], 
-	 * this method are going take the terms, spliced before by the homonym overloaded method, and extract from them only the multipliers (ex: glob prok pish tegj)
-	 * 
-	 * @param		pTerms	List collection, containing all the terms from a How Much sentence
-	 * @return		List containing only the multipliers of the How Much sentence
-	 */
-	private List<String> getMultipliersFromHowMuchSentence(List<String> pTerms) {
-		int finalMultipliersIndex = pTerms.size() - 2;
-		List<String> multipliers = new ArrayList<String>();
-		for ( int index = 4; index < finalMultipliersIndex; index = index + 1 ) {
-			multipliers.add(pTerms.get(index));
-		}
-		return multipliers;
-	}
-	
-	/**
-	 * This method assumes that the Read Line contains a How Many kind of Sentence
-	 * Assuming that, it will extract all the multiplier Nouns, put them in a List collection of String, and return it.
-	 * 
-	 * @param		pReadLine	A sentence of How Many kind
-	 * 
-	 * @return		List collection with all multiplier Nouns
-	 */
-	private List<String> getMultipliersFromHowManySentence(String pReadLine) {
-		List<String> terms		= split(pReadLine);
-		
-		int finalMultipliersIndex = terms.size() - 3;
-		List<String> multipliers = new ArrayList<String>();
-		for ( int index = 4; index <= finalMultipliersIndex; index = index + 1 ) {
-			multipliers.add(terms.get(index));
-		}
-		return multipliers;
-	}
-	
-	/**
-	 * This method will assume that the 	pTerms		are a List containing all terms from a How Many kind of sentence
-	 * Assuming that, it will extract all the multiplier Nouns, put them in a List collection of String, and return it.
-	 * 
-	 * @param		pTerms		A List with all Terms from a How Many kind of Sentence
-	 * 
-	 * @return		List collection with only multiplier Nouns
-	 */
-	private List<String> getMultipliersFromHowManySentence(List<String> pTerms) {
-		int finalMultipliersIndex = pTerms.size() - 3;
-		List<String> multipliers = new ArrayList<String>();
-		for ( int index = 4; index < finalMultipliersIndex; index = index + 1 ) {
-			multipliers.add(pTerms.get(index));
-		}
-		return multipliers;
-	}
-	
 	/**
 	 * This method will receive a Sentence, and test if its a kind of How Many sentence
 	 * 
@@ -374,37 +472,19 @@ public class SentenceProcessor {
 	 * @return		boolean		Indicates if the 	pReadLine	is a Valid Sentence
 	 */
 	public boolean isHowManySentenceValid(String pReadLine) {
-		boolean response = false;
-		
-		List<String> terms = split(pReadLine);
-		if (	terms.get(0).equalsIgnoreCase(HOW)								&&
-				terms.get(1).equalsIgnoreCase(MANY)								&&
-				(
-					terms.get(2).equalsIgnoreCase(CREDITS)		||
-					
-					// In the case of Sentences like "how many Silver is glob Gold ?"
-					this.aVariableMap.containsKey(terms.get(2))		
-				)							&&
-				terms.get(3).equalsIgnoreCase(IS)								&&
-				terms.get(terms.size() - 1).equalsIgnoreCase(QUESTION_MARK)
-		) {
-			// Here we should have Multiplier(s) and a Variable
-			int variableIndex = terms.size() - 2;
-			
-			List<String> multipliers = getMultipliersFromHowManySentence(terms);
-			
-			boolean areAllOriginalMultipliersValid = areAllOriginalMultipliersValid(multipliers);
-			boolean isVariableValid = this.aVariableMap.containsKey(terms.get(variableIndex));
-			
-			if (
-					areAllOriginalMultipliersValid	&&
-					isVariableValid
-			) {
-				response = true;
-			}
-		}
-		
-		return response;
+		return isHowManySentenceValid( new SentenceTokens(pReadLine) );
+	}
+	
+	/**
+	 * This method does the same of isHowManySentenceValid(String), over the terms of a Read Line Sentence already split
+	 * 
+	 * @param		pTokens		A How Many kind of Sentence, and its terms
+	 * 
+	 * @return		boolean		Indicates if the Sentence is Valid
+	 */
+	public boolean isHowManySentenceValid(SentenceTokens pTokens) {
+		// All the Multipliers are known Nouns, and the Variable and the Unit (Credits, or another Variable) are known Variables
+		return this.aGrammar.matches(pTokens, SentenceGrammar.HOW_MANY);
 	}
 	
 	/**
@@ -421,18 +501,21 @@ public class SentenceProcessor {
 	 * @return		boolean		Indicates if the 	pReadLine	is a Valid Sentence
 	 */
 	public boolean isHowMuchManySentenceValid(String pReadLine) {
-		boolean response = false;
-		
-		List<String> terms = split(pReadLine);
-		if (	terms.get(0).equalsIgnoreCase(HOW)						&&
-				terms.get(terms.size() - 1).equalsIgnoreCase(QUESTION_MARK)
-		) {
-			response = 
-				isHowMuchSentenceValid(pReadLine)	||
-				isHowManySentenceValid(pReadLine);
-		}
-		
-		return response;
+		return isHowMuchManySentenceValid( new SentenceTokens(pReadLine) );
+	}
+	
+	/**
+	 * This method does the same of isHowMuchManySentenceValid(String), over the terms of a Read Line Sentence already split
+	 * 
+	 * @param		pTokens		A How Much/Many kind of Sentence, and its terms
+	 * 
+	 * @return		boolean		Indicates if the Sentence is Valid
+	 */
+	public boolean isHowMuchManySentenceValid(SentenceTokens pTokens) {
+		// The form that matches the last is the one kept by aGrammar
+		return
+			isHowMuchSentenceValid(pTokens)	||
+			isHowManySentenceValid(pTokens);
 	}
 	
 	/**
@@ -449,17 +532,9 @@ public class SentenceProcessor {
 			boolean areAllOriginalMultipliersValid = areAllOriginalMultipliersValidFromValuationSentence(pReadLineValuationSentence);
 			
 			if ( areAllOriginalMultipliersValid ) {
-				List<String> originalMultipliers= 
-					split(
-						splitToGetOriginalMultiplierTermsFromValuationSentence(pReadLineValuationSentence)
-					);
-				StringBuffer sbMultipliers = new StringBuffer("");
-				for (String multiplier : originalMultipliers) {
-					Character romanMultiplier = this.aNounMultiplier_toRoman_Map.get(multiplier);
-					sbMultipliers = sbMultipliers.append(Character.toString(romanMultiplier));
-				}
-				response = sbMultipliers.toString();
-				
+				response = convertMultipliersToRoman(
+					splitToGetOriginalMultiplierTermsFromValuationSentence(pReadLineValuationSentence)
+				);
 			}
 			
 		}
@@ -512,24 +587,19 @@ public class SentenceProcessor {
 	 * @return		boolean		Indicates if the 	pReadLine	is a Valid How Much sentence
 	 */
 	public boolean isHowMuchSentenceValid(String pReadLine) {
-		boolean response = false;
-		
-		List<String> terms		= split(pReadLine);
-		
-		if (	isEqualsHow(			terms.get(0))						&&
-				isEqualsMuch(			terms.get(1))						&&
-				isEqualsIs(				terms.get(2))						&&
-				isEqualsQuestionMark(	terms.get(terms.size() - 1))
-		) {
-			// From now on, only have Multipliers
-			List<String> multipliers = getMultipliersFromHowMuchSentence(terms);
-			
-			if (	areAllOriginalMultipliersValid(multipliers)		) {
-				response = true;
-			}
-		}
-		
-		return response;
+		return isHowMuchSentenceValid( new SentenceTokens(pReadLine) );
+	}
+	
+	/**
+	 * This method does the same of isHowMuchSentenceValid(String), over the terms of a Read Line Sentence already split
+	 * 
+	 * @param		pTokens		Sentence to be tested to be or not a How Much, and its terms
+	 * 
+	 * @return		boolean		Indicates if the Sentence is a Valid How Much sentence
+	 */
+	public boolean isHowMuchSentenceValid(SentenceTokens pTokens) {
+		// From the 4th term to the Question Mark, all the terms are known Nouns/Multipliers
+		return this.aGrammar.matches(pTokens, SentenceGrammar.HOW_MUCH);
 	}
 	
 	/**
@@ -547,12 +617,44 @@ public class SentenceProcessor {
 		) {
 			List<String> originalMultipliers= split( pMultipliers );
 			
-			StringBuffer sbMultipliers = new StringBuffer("");
-			for (String multiplier : originalMultipliers) {
-				Character romanMultiplier = this.aNounMultiplier_toRoman_Map.get(multiplier);
-				sbMultipliers = sbMultipliers.append(Character.toString(romanMultiplier));
+			// Each Multiplier is a single Roman character, so the String is built from an array of the exact size, without any boxing
+			char[] romanCharacters = new char[originalMultipliers.size()];
+			for ( int index = 0; index < romanCharacters.length; index = index + 1 ) {
+				romanCharacters[index] = this.aNounMultiplier_toRoman_Map.get(originalMultipliers.get(index));
 			}
-			response = sbMultipliers.toString();
+			response = new String(romanCharacters);
+		}
+		
+		return response;
+	}
+	
+	/**
+	 * This method assumes that the terms, from		pFirstIndex		and before		pEndIndex		, are Nouns/Multipliers
+	 * Assuming this, it will convert them to an Arabic Number, through their packed RomanCode, by the RomanCodec
+	 * 
+	 * @param		pTokens			The terms of a Sentence
+	 * @param		pFirstIndex		The index of the first Noun/Multiplier
+	 * @param		pEndIndex		The index after the last Noun/Multiplier
+	 * @return		int				An Arabic Number, or the negative error code of the violated Roman rule (see Converter)
+	 */
+	private int convertMultipliersToArabic(SentenceTokens pTokens, int pFirstIndex, int pEndIndex) {
+		int response;
+		
+		long romanCode = RomanCode.EMPTY;
+		for ( int index = pFirstIndex; index < pEndIndex && romanCode != RomanCode.INVALID; index = index + 1 ) {
+			char romanMultiplier = this.aNounMultiplier_toRoman_Map.get(pTokens.get(index));
+			romanCode = RomanCode.append(romanCode, romanMultiplier);
+		}
+		
+		if ( romanCode != RomanCode.INVALID ) {
+			response = this.aCodec.tryDecode(romanCode);
+		} else {
+			// Too many Multipliers to be packed
+			char[] romanCharacters = new char[pEndIndex - pFirstIndex];
+			for ( int index = 0; index < romanCharacters.length; index = index + 1 ) {
+				romanCharacters[index] = this.aNounMultiplier_toRoman_Map.get(pTokens.get(pFirstIndex + index));
+			}
+			response = this.aCodec.tryDecode( new String(romanCharacters) );
 		}
 		
 		return response;
@@ -566,23 +668,18 @@ public class SentenceProcessor {
 	 * @return		boolean		Indicates if the	pReadLine	contains a Unit to Roman Mapping Sentence
 	 */
 	public static boolean isMappingSentence(String pReadLine) {
-		List<String> sentenceTerms = split(pReadLine);
-		
-		Set<Character> romanValues = getRomanNumerals();
-		
-		boolean isMappingSentence = false;
-		if (	sentenceTerms != null && sentenceTerms.size() == 3		&&
-				
-				sentenceTerms.get(0).length() >= 0						&&
-				
-				sentenceTerms.get(1).equals(IS)						&&
-				
-				sentenceTerms.get(2).length() == 1 &&
-				romanValues.contains( sentenceTerms.get(2).charAt(0) )
-		) {
-			isMappingSentence = true;
-		}
-		return isMappingSentence;
+		return isMappingSentence( new SentenceTokens(pReadLine) );
+	}
+	
+	/**
+	 * This method does the same of isMappingSentence(String), over the terms of a Read Line Sentence already split
+	 * 
+	 * @param		pTokens		A Read Line Sentence, and its terms
+	 * 
+	 * @return		boolean		Indicates if the Sentence is a Unit to Roman Mapping Sentence
+	 */
+	public static boolean isMappingSentence(SentenceTokens pTokens) {
+		return MAPPING_GRAMMAR.matches(pTokens, SentenceGrammar.MAPPING);
 	}
 	
 	/**
@@ -596,41 +693,19 @@ public class SentenceProcessor {
 	 * @return		boolean		Indicates if the 	pReadLine	is and ValuationSentence
 	 */
 	public boolean isValuationSentence(String pReadLine) {
-		boolean isMappingSentence = false;
-		
-		if ( isStringValid(pReadLine) ) { 
-			List<String> sentenceTerms = split(pReadLine);
-			
-			if (	sentenceTerms != null && sentenceTerms.size() >= 3		) {
-				String creditTerm	= sentenceTerms.get(sentenceTerms.size() - 1 );
-				String numericTerm	= sentenceTerms.get(sentenceTerms.size() - 2 );
-				String isVerbTerm	= sentenceTerms.get(sentenceTerms.size() - 3 );
-				
-				if (	sentenceTerms != null && sentenceTerms.size() >= 5		) {
-					if (	
-							(
-								creditTerm.equals(CREDITS)	||
-								creditTerm.equals(CREDIT)
-							)									&&
-							isNumeric(numericTerm)				&&
-							isVerbTerm.equals(IS)		
-					) {
-						//String variableTerm	= getVariableName(sentenceTerms);
-						isMappingSentence = true;
-						for ( int index = sentenceTerms.size() - 5; index >= 0; index = index - 1 ) {
-							String romanianTerm	= sentenceTerms.get( index );
-							
-							if ( !this.aNounMultiplier_toRoman_Map.containsKey(romanianTerm) ) {
-								isMappingSentence = false;
-								break;	// Does not have at least one of this terms, so the response should be False.
-							}
-						}
-					}
-				}
-			}
-		}
-		
-		return isMappingSentence;
+		return isValuationSentence( new SentenceTokens(pReadLine) );
+	}
+	
+	/**
+	 * This method does the same of isValuationSentence(String), over the terms of a Read Line Sentence already split
+	 * 
+	 * @param		pTokens		A Read Line Sentence, and its terms
+	 * 
+	 * @return		boolean		Indicates if the Sentence is a Valuation Sentence
+	 */
+	public boolean isValuationSentence(SentenceTokens pTokens) {
+		// All the terms before the Variable are known Nouns/Multipliers, and there is at least one
+		return this.aGrammar.matches(pTokens, SentenceGrammar.VALUATION);
 	}
 	
 	/**
@@ -639,21 +714,45 @@ public class SentenceProcessor {
 	 * @param	pReadLine	A Noun/Multiplier to Roman attribution Sentence
 	 */
 	public void addNounMultiplier_Roman_Mapping(String pReadLine) {
-		if ( isMappingSentence(pReadLine) ) {
-			if ( this.aNounMultiplier_toRoman_Map == null ) {
-				instanciate_NounMultiplier_toRoman_Mapping();
-			}
-			
-			List<String> sentenceTerms = split(pReadLine);
-			
-			this.aNounMultiplier_toRoman_Map.put( 
-				sentenceTerms.get(0),			//	Variable
-				//sentenceTerms.get(1)				is
-				sentenceTerms.get(2).charAt(0)	//	Roman Numeral
-			);
+		addNounMultiplier_Roman_Mapping( new SentenceTokens(pReadLine) );
+	}
+	
+	/**
+	 * This method does the same of addNounMultiplier_Roman_Mapping(String), over the terms of a Read Line Sentence already split
+	 * 
+	 * @param	pTokens		A Noun/Multiplier to Roman attribution Sentence, and its terms
+	 */
+	public void addNounMultiplier_Roman_Mapping(SentenceTokens pTokens) {
+		if ( this.aGrammar.matches(pTokens, SentenceGrammar.MAPPING) ) {
+			addMatchedMapping(pTokens);
 		}
 	}
 	
+	/**
+	 * This method matches the terms of a Sentence against a form of the grammar, over the Nouns and Variables known until now,
+	 * keeping its spans for the add/answer methods of the matched Sentences, that are called by the built in SentenceHandlers
+	 * 
+	 * @param		pTokens		A Read Line Sentence, and its terms
+	 * @param		pForm		A form of Sentence (ex: SentenceGrammar.MAPPING)
+	 * 
+	 * @return		boolean		Indicates if the Sentence has this form
+	 */
+	boolean matches(SentenceTokens pTokens, int pForm) {
+		return this.aGrammar.matches(pTokens, pForm);
+	}
+	
+	/**
+	 * This method adds the Mapping Sentence just matched by aGrammar, from the spans of its terms
+	 * 
+	 * @param	pTokens		A Noun/Multiplier to Roman attribution Sentence, and its terms
+	 */
+	void addMatchedMapping(SentenceTokens pTokens) {
+		this.aNounMultiplier_toRoman_Map.put( 
+			pTokens.get( this.aGrammar.getIndex(SentenceGrammar.NOUN) ),				//	Noun
+			pTokens.charAt( this.aGrammar.getIndex(SentenceGrammar.VALUE), 0 )		//	Roman Numeral
+		);
+	}
+	
 	/**
 	 * This method assumes that it will receive a Valuation Sentence
 	 * Assuming this, it will extract the Numeric quantity of Credits assigned to it
@@ -671,7 +770,8 @@ public class SentenceProcessor {
 		if ( isValuationSentence(pReadLineValuationSentence) ) {
 			List<String> terms = split(pReadLineValuationSentence);
 			
-			value = Integer.parseInt(terms.get(terms.size() -2));
+			// The Valuation Sentence has a valid Integer there, so it is never INVALID
+			value = (int) NumericParser.parseInt(terms.get(terms.size() -2));
 		}
 		
 		return value;
@@ -692,6 +792,23 @@ public class SentenceProcessor {
 		return multipliersSB;
 	}
 	
+	/**
+	 * This method gets the Multipliers of a Sentence, from		pFirstIndex		and before		pEndIndex		, and converts them to a StringBuffer
+	 * 
+	 * @param		pTokens			The terms of a Sentence
+	 * @param		pFirstIndex		The index of the first Multiplier
+	 * @param		pEndIndex		The index after the last Multiplier
+	 * 
+	 * @return		StringBuffer	A StringBuffer containing all the Multipliers, in the original order
+	 */
+	private static StringBuffer getMultipliers(SentenceTokens pTokens, int pFirstIndex, int pEndIndex) {
+		StringBuffer multipliersSB = new StringBuffer();
+		for ( int index = pFirstIndex; index < pEndIndex; index = index + 1 ) {
+			multipliersSB = multipliersSB.append(pTokens.get(index)).append(" ");
+		}
+		return multipliersSB;
+	}
+	
 	/**
 	 * This method assumes that it will receive a Valuation Sentence, and its going to extract from it 
 	 * 
@@ -823,14 +940,14 @@ public class SentenceProcessor {
 		 * 		If its a Question Sentence, to Print the Response sentence
 		 */
 		String response = "";
+		
+		/* The line is split only once, and given only to the SentenceHandlers that accept its first term and its quantity of terms,
+		 * until one of them handles it
+		 */
+		SentenceTokens tokens = this.aTokens.tokenize(pReadLine);
 		try {
-			if (	isMappingSentence(pReadLine)		) {
-				this.addNounMultiplier_Roman_Mapping(pReadLine);
-			} else if ( this.isValuationSentence(pReadLine)	) {
-				this.addValuation(pReadLine);
-			} else if ( this.isHowMuchManySentenceValid(pReadLine) ) {
-				response = this.processHowSentence(pReadLine);
-			} else {
+			response = this.aDispatcher.dispatch(this, tokens);
+			if ( response == null ) {
 				response = I_HAVE_NO_IDEA_WHAT_YOU_ARE_TALKING_ABOUT;
 			}
 		} catch ( EmptyRomanException | FourTimesRepetitionException | InvalidArabicException | InvalidRomanException  exception ) {
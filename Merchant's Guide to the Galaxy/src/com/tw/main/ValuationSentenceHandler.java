@@ -0,0 +1,43 @@
+package com.tw.main;
+
+import static com.tw.utils.Constants.I_HAVE_NO_IDEA_WHAT_YOU_ARE_TALKING_ABOUT;
+
+import com.tw.sentences.SentenceGrammar;
+import com.tw.sentences.SentenceTokens;
+
+/**
+ * This handler adds the Valuation Sentences, with any first term and at least five terms
+ * 
+ * Example:
+ * 		glob glob Silver is 34 Credits
+ */
+public class ValuationSentenceHandler implements SentenceHandler {
+
+	@Override
+	public int getLeadingKeyword() {
+		return ANY_FIRST_TERM;
+	}
+
+	@Override
+	public int getMinimumSize() {
+		return 5;
+	}
+
+	@Override
+	public int getMaximumSize() {
+		return Integer.MAX_VALUE;
+	}
+
+	@Override
+	public String handle(SentenceProcessor pProcessor, SentenceTokens pTokens) {
+		String response = null;
+		
+		if ( pProcessor.matches(pTokens, SentenceGrammar.VALUATION) ) {
+			// Multipliers that break the Roman rules have no answer
+			response = pProcessor.addMatchedValuation(pTokens) ? "" : I_HAVE_NO_IDEA_WHAT_YOU_ARE_TALKING_ABOUT;
+		}
+		
+		return response;
+	}
+
+}
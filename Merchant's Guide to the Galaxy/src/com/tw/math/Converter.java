@@ -1,10 +1,12 @@
 package com.tw.math;
 
+import static com.tw.math.RomanSymbols.*;
 import static com.tw.utils.Constants.*;
 import static com.tw.utils.Utils.*;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Set;
 
@@ -12,6 +14,7 @@ import com.tw.math.exceptions.EmptyRomanException;
 import com.tw.math.exceptions.FourTimesRepetitionException;
 import com.tw.math.exceptions.InvalidArabicException;
 import com.tw.math.exceptions.InvalidRomanException;
+import com.tw.utils.NumericParser;
 
 /**
  * Roman numerals are based on seven symbols:
@@ -54,6 +57,28 @@ import com.tw.math.exceptions.InvalidRomanException;
  */
 public class Converter {
 	
+	/**
+	 * All the Roman Numbers, indexed by its Arabic value (from 1 to 3999). Built once, when the class is loaded.
+	 */
+	private static final String[] ROMAN_NUMBERS = buildRomanNumbers();
+	
+	// Error codes of the Exception free API. An Arabic value is never negative, so they cannot be mistaken for one.
+	public static final int ERROR_EMPTY_ROMAN				= -1;
+	public static final int ERROR_FOUR_TIMES_REPETITION		= -2;
+	public static final int ERROR_INVALID_ROMAN				= -3;
+	public static final int ERROR_OVERFLOW					= -4;
+	public static final int ERROR_EMPTY_ARABIC				= -5;
+	public static final int ERROR_INVALID_ARABIC			= -6;
+	public static final int ERROR_ZERO_ARABIC				= -7;
+	
+	/**
+	 * When this System property is "true", the throwing API throws a preallocated instance of each Exception, without stack trace.
+	 * Under a flood of invalid input, building the stack traces costs more than the conversions.
+	 */
+	public static final String STACKLESS_EXCEPTIONS_PROPERTY = "com.tw.math.stacklessExceptions";
+	
+	private static final boolean STACKLESS_EXCEPTIONS = Boolean.getBoolean(STACKLESS_EXCEPTIONS_PROPERTY);
+	
 	/**
 	 * This method will remove the excess of Decimal digits from the		pFinalValue		if it has more then 5 decimal digits
 	 * 
@@ -89,147 +114,527 @@ public class Converter {
 	/**
 	 * This method is responsible to convert a Roman number (ex: V) to an Arabic number (ex: 5)
 	 * 
+	 * The canonical Roman Numbers are found in the RomanIndex, with a single lookup.
+	 * Any other Roman number goes to the rules engine, that accepts the non canonical forms allowed by the rules, and tells why an invalid one is rejected.
+	 * 
 	 * @param		pRoman
 	 * 
 	 * @return		An Arabic Number
 	 */
 	public static int convertRomanToArabic(String pRoman) {
-		validateRoman(pRoman);
+		long result = convertRomanToArabicByIndexOrRules(pRoman);
+		
+		if ( result < 0 ) {
+			throw getException( (int) result, pRoman );
+		}
+		
+		// A sum greater than Integer.MAX_VALUE is returned overflowed, as it always was
+		return (int) result;
+	}
+	
+	/**
+	 * This method converts a Roman number (ex: V) to an Arabic number (ex: 5), exactly as convertRomanToArabic(), but without throwing any Exception.
+	 * 
+	 * As an Arabic value is never negative, the violated rule is returned as a negative error code:
+	 * 		ERROR_EMPTY_ROMAN				instead of an EmptyRomanException
+	 * 		ERROR_FOUR_TIMES_REPETITION		instead of a FourTimesRepetitionException
+	 * 		ERROR_INVALID_ROMAN				instead of an InvalidRomanException
+	 * 		ERROR_OVERFLOW					if the sum does not fit in an int (only a Roman number with millions of characters can get there)
+	 * 
+	 * @param		pRoman		A Roman number
+	 * 
+	 * @return		int			The Arabic number, or a negative error code
+	 */
+	public static int tryConvertRomanToArabic(CharSequence pRoman) {
+		long response = convertRomanToArabicByIndexOrRules(pRoman);
+		
+		if ( response > Integer.MAX_VALUE ) {
+			response = ERROR_OVERFLOW;
+		}
+		
+		return (int) response;
+	}
+	
+	/**
+	 * This method converts a Roman number, written in any RomanAlphabet (ex: "mcmxliv", or the Unicode Roman Numerals), to an Arabic number.
+	 * Its characters are classified by the tables of the alphabet while they are converted, so the Roman number is not normalized before.
+	 * 
+	 * @param		pRoman		A Roman number
+	 * @param		pAlphabet	The alphabet of		pRoman
+	 * 
+	 * @return		An Arabic Number
+	 */
+	public static int convertRomanToArabic(String pRoman, RomanAlphabet pAlphabet) {
+		long result = convertRomanToArabicByIndexOrRules(pRoman, pAlphabet);
+		
+		if ( result < 0 ) {
+			throw getException( (int) result, pRoman );
+		}
+		
+		return (int) result;
+	}
+	
+	/**
+	 * This method converts a Roman number, written in any RomanAlphabet, exactly as convertRomanToArabic(String, RomanAlphabet), but without throwing any Exception
+	 * 
+	 * @param		pRoman		A Roman number
+	 * @param		pAlphabet	The alphabet of		pRoman
+	 * 
+	 * @return		int			The Arabic number, or a negative error code
+	 */
+	public static int tryConvertRomanToArabic(CharSequence pRoman, RomanAlphabet pAlphabet) {
+		long response = convertRomanToArabicByIndexOrRules(pRoman, pAlphabet);
+		
+		if ( response > Integer.MAX_VALUE ) {
+			response = ERROR_OVERFLOW;
+		}
 		
+		return (int) response;
+	}
+	
+	/**
+	 * This method decodes a batch of ASCII (or ISO-8859-1) Roman numbers, separated by new lines ('\n'), straight from a ByteBuffer.
+	 * 
+	 * The bytes are read with absolute gets, from the position to the limit of		pIn		, so it works with heap, direct and memory mapped buffers,
+	 * without copying them to Strings. Each Roman number is validated and summed in a single pass, by the same RomanAutomaton of the rules engine,
+	 * and its result is exactly the one of tryConvertRomanToArabic(): the Arabic number, or a negative error code.
+	 * An empty line is ERROR_EMPTY_ROMAN, but a new line at the end of the buffer does not start another Roman number.
+	 * 
+	 * When		pOut		is full, the decoding stops. The position of		pIn		is always moved after the last decoded Roman number,
+	 * so the next batch can be decoded by calling this method again.
+	 * 
+	 * The buffer holds the whole input, so a last line without new line is a complete Roman number. To decode an input read in parts,
+	 * see decodeAll(ByteBuffer, int[], boolean).
+	 * 
+	 * @param		pIn			The Roman numbers, one per line
+	 * @param		pOut		Receives the result of each Roman number, from the index 0
+	 * 
+	 * @return		int			The quantity of Roman numbers decoded
+	 */
+	public static int decodeAll(ByteBuffer pIn, int[] pOut) {
+		return decodeAll(pIn, pOut, true);
+	}
+	
+	/**
+	 * This method decodes a batch of Roman numbers as decodeAll(ByteBuffer, int[]), from an input that may be read in parts (ex: from a channel).
+	 * 
+	 * Unless		pEndOfInput		, a last line without new line may be the start of a Roman number split between two reads, so it is not decoded,
+	 * and the position of		pIn		is left at its start. After compacting the buffer and reading more bytes, it is decoded whole by the next call.
+	 * 
+	 * @param		pIn				The Roman numbers, one per line
+	 * @param		pOut			Receives the result of each Roman number, from the index 0
+	 * @param		pEndOfInput		Indicates if no more bytes will follow the ones of		pIn
+	 * 
+	 * @return		int				The quantity of Roman numbers decoded
+	 */
+	public static int decodeAll(ByteBuffer pIn, int[] pOut, boolean pEndOfInput) {
 		int response = 0;
 		
-		for ( int index = 0; index < pRoman.length(); index = index + 1 ) {
-			boolean shouldSubtract = shouldSubtractValue(pRoman, index);
+		int position = pIn.position();
+		int limit = pIn.limit();
+		
+		// Indicates if the last line is not terminated, and left for the next call
+		boolean pending = false;
+		
+		while ( position < limit && response < pOut.length && !pending ) {
+			int sum = 0;
 			
-			char actualCharacter = pRoman.charAt(index);
-			int actualValue = getArabicValue(actualCharacter);
+			int state = RomanAutomaton.START;
+			char previousCharacter = ' ';
+			int previousValue = 0;
+			
+			int index = position;
+			char actualCharacter = ' ';
+			while ( index < limit && (actualCharacter = (char) (pIn.get(index) & 0xFF)) != '\n' ) {
+				if ( state != RomanAutomaton.REJECTED ) {
+					int actualValue = getArabicValue(actualCharacter);
+					
+					state = RomanAutomaton.next(state, RomanAutomaton.getInput(actualCharacter, previousCharacter, index - position));
+					sum = addPreviousValue(sum, previousValue, actualValue);
+					
+					previousCharacter	= actualCharacter;
+					previousValue		= actualValue;
+				}
+				
+				index = index + 1;
+			}
 			
-			response = sumOrSubtract(response, shouldSubtract, actualValue);
+			pending = index == limit && !pEndOfInput;
+			if ( !pending ) {
+				long result = getRulesResult(state, sum, previousValue);
+				if ( result > Integer.MAX_VALUE ) {
+					result = ERROR_OVERFLOW;
+				}
+				
+				pOut[response] = (int) result;
+				response = response + 1;
+				
+				// Skips the new line
+				position = Math.min(index + 1, limit);
+			}
 		}
 		
+		pIn.position(position);
+		
 		return response;
 	}
 	
 	/**
-	 * This method will evaluate if the Character at Index Position is Smaller then the next one.
-	 * If this is true, the first should be subtracted from the second.
-	 * Otherwise, they should be summed
+	 * @param		pResult		A result of tryConvertRomanToArabic(), or of tryValidateArabicToRoman()
 	 * 
-	 * @param pRoman
-	 * @param pIndex
+	 * @return		boolean		Indicates if		pResult		is an error code, instead of a value
+	 */
+	public static boolean isError(int pResult) {
+		return pResult < 0;
+	}
+	
+	/**
+	 * @param		pRoman		A Roman number
 	 * 
-	 * @return
+	 * @return		long		The Arabic number, as an unsigned int, or a negative error code
+	 */
+	private static long convertRomanToArabicByIndexOrRules(CharSequence pRoman) {
+		long response = ERROR_EMPTY_ROMAN;
+		
+		// This validation should be the first to be invoked, to prevent NullPointerExceptions
+		if ( pRoman != null && pRoman.length() > 0 ) {
+			response = RomanIndex.getArabicValue(pRoman);
+			if ( response == RomanIndex.NOT_FOUND ) {
+				response = convertRomanToArabicByRules(pRoman);
+			}
+		}
+		
+		return response;
+	}
+	
+	/**
+	 * The STANDARD alphabet goes to the RomanIndex and to the rules engine, and any other one to the rules engine of the alphabets
+	 * 
+	 * @param		pRoman		A Roman number
+	 * @param		pAlphabet	The alphabet of		pRoman
+	 * 
+	 * @return		long		The Arabic number, as an unsigned int, or a negative error code
+	 */
+	private static long convertRomanToArabicByIndexOrRules(CharSequence pRoman, RomanAlphabet pAlphabet) {
+		long response = ERROR_EMPTY_ROMAN;
+		
+		if ( pAlphabet == RomanAlphabet.STANDARD ) {
+			response = convertRomanToArabicByIndexOrRules(pRoman);
+		} else if ( pRoman != null && pRoman.length() > 0 ) {
+			response = convertRomanToArabicByRules(pRoman, pAlphabet);
+		}
+		
+		return response;
+	}
+	
+	/**
+	 * This method is the rules engine of the Roman to Arabic conversion, for any RomanAlphabet.
+	 * 
+	 * It works exactly as the rules engine of the standard Symbols, but each character is looked up in the tables of the alphabet,
+	 * and moves the RomanAutomaton with each one of its Symbols (a Unicode character like U+2163 is IV, two Symbols).
+	 * The standard Symbols keep their own loop, that looks each character up in a single ASCII table, since it is the path of every rejected Roman number.
+	 * 
+	 * @param		pRoman		A not empty Roman number
+	 * @param		pAlphabet	The alphabet of		pRoman
+	 * 
+	 * @return		long		The Arabic Number, as an unsigned int, or a negative error code
 	 */
-	private static boolean shouldSubtractValue(String pRoman, int pIndex) {
-		boolean shouldSubtract = false;
+	private static long convertRomanToArabicByRules(CharSequence pRoman, RomanAlphabet pAlphabet) {
+		int sum = 0;
 		
-		char actualCharacter = pRoman.charAt(pIndex);
+		int state = RomanAutomaton.START;
+		char previousCharacter = ' ';
+		int previousValue = 0;
 		
-		if ( pIndex + 1 < pRoman.length() ) {
-			char nextCharacter = pRoman.charAt(pIndex + 1);
+		for ( int index = 0; index < pRoman.length() && state != RomanAutomaton.REJECTED; index = index + 1 ) {
+			char actualCharacter = pRoman.charAt(index);
+			int entry = pAlphabet.getEntry(actualCharacter);
 			
-			if ( convertRomanToArabic(Character.toString(actualCharacter)) < convertRomanToArabic(Character.toString(nextCharacter)) ) {
-				shouldSubtract = true;
+			int symbols = Math.max( 1, RomanAlphabet.getLength(entry) );
+			for ( int symbolIndex = 0; symbolIndex < symbols; symbolIndex = symbolIndex + 1 ) {
+				int input = RomanAutomaton.getInput(entry, symbolIndex, actualCharacter, previousCharacter, index);
+				int actualValue = input == RomanAutomaton.REPEATED_NONE ? 0 : getValue(input);
+				
+				state = RomanAutomaton.next(state, input);
+				
+				// The previous value is resolved now that the actual one is known
+				sum = addPreviousValue(sum, previousValue, actualValue);
+				previousValue = actualValue;
 			}
+			
+			previousCharacter = actualCharacter;
 		}
-		return shouldSubtract;
+		
+		return getRulesResult(state, sum, previousValue);
 	}
 	
 	/**
-	 * This method converts a Roman character to an Integer
+	 * This method is the rules engine of the Roman to Arabic conversion.
 	 * 
-	 * @param pActualCharacter
-	 * @return
+	 * The validation and the conversion are done together, in a single pass from the Left to the Right:
+	 * 		each character moves the RomanAutomaton, that validates all the rules, and has its value looked up in the RomanSymbols table.
+	 * Each Symbol value is kept until the next Symbol is known: if it is smaller then the next one, it is subtracted, otherwise it is summed.
+	 * 
+	 * An invalid Repetition always has precedence over an invalid Subtraction, even if the Subtraction comes first.
+	 * 
+	 * @param		pRoman		A not empty Roman number
+	 * 
+	 * @return		long		The Arabic Number, as an unsigned int, or a negative error code
 	 */
-	private static int getArabicValue(char pActualCharacter) {
-		int resposeValue = 0;
-		
-		if (  pActualCharacter == I  ) {
-			resposeValue = 1;
-		} else if (  pActualCharacter == V  ) {
-			resposeValue = 5;
-		} else if (  pActualCharacter == X  ) {
-			resposeValue = 10;
-		} else if (  pActualCharacter == L  ) {
-			resposeValue = 50;
-		} else if (  pActualCharacter == C  ) {
-			resposeValue = 100;
-		} else if (  pActualCharacter == D  ) {
-			resposeValue = 500;
-		} else if (  pActualCharacter == M  ) {
-			resposeValue = 1000;
+	private static long convertRomanToArabicByRules(CharSequence pRoman) {
+		int sum = 0;
+		
+		int state = RomanAutomaton.START;
+		char previousCharacter = ' ';
+		int previousValue = 0;
+		
+		for ( int index = 0; index < pRoman.length() && state != RomanAutomaton.REJECTED; index = index + 1 ) {
+			char actualCharacter = pRoman.charAt(index);
+			int actualValue = getArabicValue(actualCharacter);
+			
+			state = RomanAutomaton.next(state, RomanAutomaton.getInput(actualCharacter, previousCharacter, index));
+			
+			// The previous value is resolved now that the actual one is known
+			sum = addPreviousValue(sum, previousValue, actualValue);
+			
+			previousCharacter	= actualCharacter;
+			previousValue		= actualValue;
 		}
 		
-		return resposeValue;
+		return getRulesResult(state, sum, previousValue);
 	}
 	
 	/**
-	 * This method its goind to do or a Sum or a Subtraction of		pResponseValue		and		pToSumOrSubtractValue		, based on the boolean		pInShouldSubtract
+	 * This method gives the result of every rules engine (of the standard Symbols, of the alphabets, and of decodeAll()), after the last Symbol
 	 * 
-	 * @param pResponseValue
-	 * @param pInShouldSubtract
-	 * @param pToSumOrSubtractValue
-	 * @return
+	 * @param		pState			The State of the RomanAutomaton after the last Symbol
+	 * @param		pSum			The sum of the Symbols before the last one
+	 * @param		pLastValue		The value of the last Symbol, that is always summed
+	 * 
+	 * @return		long			The Arabic Number, as an unsigned int, or the negative error code of the violated rule
+	 */
+	private static long getRulesResult(int pState, int pSum, int pLastValue) {
+		long response = (pSum + pLastValue) & 0xFFFFFFFFL;
+		
+		int errorCode = getErrorCode( RomanAutomaton.getRule(pState) );
+		if ( errorCode < 0 ) {
+			response = errorCode;
+		}
+		
+		return response;
+	}
+	
+	/**
+	 * @param		pRule		A Rule of the RomanAutomaton
+	 * 
+	 * @return		int			The error code of the violated		pRule		, or 0 if it is VALID
+	 */
+	public static int getErrorCode(int pRule) {
+		int response = 0;
+		
+		if ( pRule == RomanAutomaton.EMPTY ) {
+			response = ERROR_EMPTY_ROMAN;
+		} else if ( pRule == RomanAutomaton.REPETITION ) {
+			response = ERROR_FOUR_TIMES_REPETITION;
+		} else if ( pRule == RomanAutomaton.SUBTRACTION ) {
+			response = ERROR_INVALID_ROMAN;
+		}
+		
+		return response;
+	}
+	
+	/**
+	 * This method builds the Exception of an error code, for the throwing API.
+	 * 
+	 * In the stackless mode (see STACKLESS_EXCEPTIONS_PROPERTY) the preallocated instance of each Exception is returned,
+	 * so the		pValue		is not in its message.
+	 * 
+	 * @param		pErrorCode		A negative error code
+	 * @param		pValue			The Roman, or Arabic, value that was rejected, or null if it is not known
+	 * 
+	 * @return		RuntimeException	The Exception that explains the error
 	 */
-	private static int sumOrSubtract(int pResponseValue, boolean pInShouldSubtract, int pToSumOrSubtractValue) {
-		if ( !pInShouldSubtract ) {
-			pResponseValue = pResponseValue + pToSumOrSubtractValue;
+	public static RuntimeException getException(int pErrorCode, CharSequence pValue) {
+		return getException(pErrorCode, pValue, STACKLESS_EXCEPTIONS);
+	}
+	
+	static RuntimeException getException(int pErrorCode, CharSequence pValue, boolean pIsStackless) {
+		RuntimeException response;
+		
+		if ( pErrorCode == ERROR_EMPTY_ROMAN ) {
+			response = pIsStackless ? EmptyRomanException.getStackless() : new EmptyRomanException();
+		} else if ( pErrorCode == ERROR_FOUR_TIMES_REPETITION ) {
+			response = pIsStackless ? FourTimesRepetitionException.getStackless() : new FourTimesRepetitionException();
+		} else if ( pErrorCode == ERROR_INVALID_ROMAN && pValue == null ) {
+			response = pIsStackless ? InvalidRomanException.getStackless() : new InvalidRomanException();
+		} else if ( pErrorCode == ERROR_INVALID_ROMAN ) {
+			response = pIsStackless ? InvalidRomanException.getStackless() : new InvalidRomanException( pValue.toString() );
+		} else if ( pErrorCode == ERROR_ZERO_ARABIC ) {
+			response = pIsStackless ? InvalidRomanException.getStackless() : new InvalidRomanException("The Arabic Zero (0) number cannot be represented in Roman numbers");
+		} else if ( pErrorCode == ERROR_INVALID_ARABIC && pValue == null ) {
+			response = pIsStackless ? InvalidArabicException.getStackless() : new InvalidArabicException();
+		} else if ( pErrorCode == ERROR_INVALID_ARABIC ) {
+			response = pIsStackless ? InvalidArabicException.getStackless() : new InvalidArabicException( pValue.toString() );
 		} else {
-			pResponseValue = pResponseValue - pToSumOrSubtractValue;
+			response = new IllegalArgumentException("This (" + pErrorCode + ") is not an error code");
 		}
-		return pResponseValue;
+		
+		return response;
+	}
+	
+	/**
+	 * This method converts a Roman character to an Integer
+	 * 
+	 * @param pActualCharacter
+	 * @return
+	 */
+	private static int getArabicValue(char pActualCharacter) {
+		return getValue(getSymbol(pActualCharacter));
 	}
 	
 	/**
 	 * This method is responsible to convert an Arabic number (ex: 5) to a Roman number (ex: V)
 	 * 
+	 * The		pArabic		string is parsed only once, and the conversion is delegated to the int overload
+	 * 
 	 * @param	pArabic
 	 * 
 	 * @return	A Roman Number
 	 */
 	public static String convertArabicToRoman(String pArabic) {
-		StringBuffer stringBuffer = new StringBuffer("");
+		int arabicValue = validateArabitToRomanConvertion(pArabic);
 		
-		validateArabitToRomanConvertion(pArabic);
+		return convertArabicToRoman(arabicValue);
+	}
+	
+	/**
+	 * This method is responsible to convert an Arabic number (ex: 5) to a Roman number (ex: V)
+	 * 
+	 * All the Roman Numbers, from 1 to 3999, are already in the ROMAN_NUMBERS table, so its just a lookup.
+	 * To write the Roman Number in a buffer, without any String, see RomanEncoder.
+	 * 
+	 * @param	pArabic		An Arabic number, from 1 to 3999
+	 * 
+	 * @return	A Roman Number
+	 */
+	public static String convertArabicToRoman(int pArabic) {
+		int errorCode = getArabicToRomanErrorCode(pArabic);
 		
-		// Starting from Right to the Left
-		int multiplier = 1;
-		for ( int index = pArabic.length() -1; index >= 0; index = index - 1 ) {
-			char actualCharacter = pArabic.charAt(index);
-			
-			int actualValue = getArabicDigit(actualCharacter);
-			
-			stringBuffer = getRomanValue(actualValue, multiplier).append(stringBuffer); 
-			
-			multiplier = multiplier * 10;
+		if ( errorCode < 0 ) {
+			throw getException( errorCode, Integer.toString(pArabic) );
 		}
 		
-		String romanResponse = stringBuffer.toString();
-		romanResponse = romanResponse.trim();
-		
-		validateRoman(romanResponse);
-		
-		return romanResponse;
+		return ROMAN_NUMBERS[pArabic];
+	}
+	
+	/**
+	 * This method gives the shared RomanNumber of an Arabic number. It is only looked up, so no object is created.
+	 * 
+	 * @param	pArabic		An Arabic number, from 1 to 3999
+	 * 
+	 * @return	RomanNumber		The instance of this value, with its Roman Number, bytes and BigDecimal
+	 */
+	public static RomanNumber getRomanNumber(int pArabic) {
+		return RomanNumber.valueOf(pArabic);
+	}
+	
+	/**
+	 * This method gives the shared RomanNumber of a Roman number, decoded by the same rules of convertRomanToArabic()
+	 * 
+	 * @param	pRoman		A Roman number
+	 * 
+	 * @return	RomanNumber		The instance of its value
+	 */
+	public static RomanNumber getRomanNumber(CharSequence pRoman) {
+		return RomanNumber.valueOf(pRoman);
 	}
 	
 	/**
 	 * This method is responsible to do all the necessary validations on the	pArabic		string, to assure that its convertible to a Roman Number
 	 * 
 	 * @param	pArabic		A String that is supposed to contain an Arabic Number that we want to convert to an Roman Number
+	 * 
+	 * @return	int			The Arabic value of		pArabic
 	 */
-	private static void validateArabitToRomanConvertion(String pArabic) {
+	private static int validateArabitToRomanConvertion(String pArabic) {
 		if ( !isStringValid(pArabic) ) {
-			throw new InvalidArabicException();
+			throw getException(ERROR_INVALID_ARABIC, null);
 		}
 		
-		if ( !isArabicValid(pArabic) ) {
-			throw new InvalidArabicException(pArabic);
+		int arabicValue = getArabicValue(pArabic);
+		if ( arabicValue == Integer.MIN_VALUE ) {
+			throw getException(ERROR_INVALID_ARABIC, pArabic);
 		}
 		
-		int arabicValue = getArabicValue(pArabic);
-		if ( arabicValue == 0 ) {
-			throw new InvalidRomanException("The Arabic Zero (0) number cannot be represented in Roman numbers");
+		return arabicValue;
+	}
+	
+	/**
+	 * This method does all the validations of convertArabicToRoman(String), but without throwing any Exception
+	 * 
+	 * @param	pArabic		A String that is supposed to contain an Arabic Number that we want to convert to an Roman Number
+	 * 
+	 * @return	int			The Arabic value of		pArabic		, from 1 to 3999, or a negative error code:
+	 * 						ERROR_EMPTY_ARABIC, ERROR_INVALID_ARABIC (not a number, or out of the Roman range) or ERROR_ZERO_ARABIC
+	 */
+	public static int tryValidateArabicToRoman(String pArabic) {
+		int response = ERROR_EMPTY_ARABIC;
+		
+		if ( isStringValid(pArabic) ) {
+			response = getArabicValue(pArabic);
+			
+			if ( response == Integer.MIN_VALUE ) {
+				response = ERROR_INVALID_ARABIC;
+			} else {
+				int errorCode = getArabicToRomanErrorCode(response);
+				if ( errorCode < 0 ) {
+					response = errorCode;
+				}
+			}
 		}
+		
+		return response;
+	}
+	
+	/**
+	 * @param	pArabic		An Arabic number
+	 * 
+	 * @return	int			ERROR_ZERO_ARABIC, ERROR_INVALID_ARABIC if it is out of the Roman range, or 0 if it can be converted
+	 */
+	static int getArabicToRomanErrorCode(int pArabic) {
+		int response = 0;
+		
+		if ( pArabic == 0 ) {
+			response = ERROR_ZERO_ARABIC;
+		} else if ( pArabic < 0 || pArabic > MAXIMUM_ROMAN_VALUE ) {
+			response = ERROR_INVALID_ARABIC;
+		}
+		
+		return response;
+	}
+	
+	/**
+	 * This method builds the ROMAN_NUMBERS table, with all the Roman Numbers from 1 to 3999, digit by digit.
+	 * The position 0 is left empty, once Zero cannot be represented in Roman numbers.
+	 * 
+	 * @return	String[]	The Roman Number of each Arabic number, from 1 to 3999
+	 */
+	private static String[] buildRomanNumbers() {
+		String[] romanNumbers = new String[MAXIMUM_ROMAN_VALUE + 1];
+		
+		StringBuilder romanNumber = new StringBuilder();
+		for ( int arabic = 1; arabic <= MAXIMUM_ROMAN_VALUE; arabic = arabic + 1 ) {
+			romanNumber.setLength(0);
+			
+			// Starting from the Left (thousands) to the Right (unities)
+			for ( int multiplier = 1000; multiplier >= 1; multiplier = multiplier / 10 ) {
+				romanNumber.append( getRomanValue( (arabic / multiplier) % 10, multiplier ) );
+			}
+			
+			romanNumbers[arabic] = romanNumber.toString();
+		}
+		
+		return romanNumbers;
 	}
 	
 	/**
@@ -243,12 +648,9 @@ public class Converter {
 	public static int getArabicValue(String pArabic) {
 		int response = Integer.MIN_VALUE;
 		
-		if ( isStringValid(pArabic) ) {
-			try {
-				response = Integer.parseInt(pArabic);
-			} catch ( NumberFormatException nfe ) {
-				// The pArabic cannot be converted to an Integer
-			}
+		long arabicValue = NumericParser.parseInt(pArabic);
+		if ( NumericParser.isValid(arabicValue) ) {
+			response = (int) arabicValue;
 		}
 		
 		return response;
@@ -261,13 +663,7 @@ public class Converter {
 	 * @return
 	 */
 	public static boolean isArabicValid(String pArabic) {
-		boolean isValid = true;
-		try {
-			Integer.parseInt(pArabic);
-		} catch ( NumberFormatException nfe ) {
-			isValid = false;
-		}
-		return isValid;
+		return NumericParser.isValid( NumericParser.parseInt(pArabic) );
 	}
 	
 	/**
@@ -279,39 +675,16 @@ public class Converter {
 	 * @return		int			An Integer, with the equivalent content of the	pArabic		character
 	 */
 	public static int getArabicDigit(char pArabic) {
-		int response = Integer.MIN_VALUE;
+		int response = NumericParser.getDigit(pArabic);
 		
-		try {
-			response = Integer.parseInt(
-				Character.toString(pArabic)
-			);
-		} catch ( NumberFormatException nfe ) {
+		if ( response < 0 ) {
 			// The pArabic cannot be converted to an Integer
+			response = Integer.MIN_VALUE;
 		}
 		
 		return response;
 	}
 	
-	/**
-	 * This method is responsible to do all the necessary validations in a Roman Number
-	 * 
-	 * @param pRoman
-	 */
-	private static void validateRoman(String pRoman) {
-		// This validation should be the first to be invoked, to prevent NullPointerExceptions
-		if ( !isStringValid(pRoman) ) {
-			throw new EmptyRomanException();
-		}
-		
-		if ( hasInvalidConsecutiveRepetitions(pRoman) ) {
-			throw new FourTimesRepetitionException();
-		}
-		
-		if ( hasInvalidInternalSubtraction(pRoman) ) {
-			throw new InvalidRomanException(pRoman);
-		}
-	}
-	
 	/**
 	 * This method implements this rules:
 	 * 
@@ -325,105 +698,13 @@ public class Converter {
 		boolean response = false;
 		
 		if ( isStringValid(pRoman) ) {
-			int repetitions = 1;
-			char lastRomanCharacterAnalised = ' ';
-			for ( int index = 0; index < pRoman.length(); index = index + 1 ) {
-				lastRomanCharacterAnalised = pRoman.charAt(index);
-				if ( index > 0 && isCharacterEqualsPrevious(pRoman, index) ) {
-					repetitions = repetitions + 1;
-					
-					if (	
-							repetitions >= 2	&&
-							(
-								lastRomanCharacterAnalised == V	||
-								lastRomanCharacterAnalised == L	||
-								lastRomanCharacterAnalised == D
-							)
-					) {
-						break;
-					}
-					
-					if ( repetitions >= 4 ) {
-						// It should break here, to avoid the case of a IIIV to be considered valid.
-						break;
-					}
-				} else {
-					repetitions = 1;
-				}
-			}
-			
-			if (
-					repetitions > 3 ||
-					(
-						repetitions >= 2	&&
-						(
-							lastRomanCharacterAnalised == V	||
-							lastRomanCharacterAnalised == L	||
-							lastRomanCharacterAnalised == D
-						)
-					)
-			) {
-				response = true;
-			}
+			long result = RomanAutomaton.run(pRoman);
+			response = RomanAutomaton.getResultRule(result) == RomanAutomaton.REPETITION;
 		}
 		
 		return response;
 	}
 	
-	/**
-	 * This method is responsible to validate this following rules
-	 * 		"I" can be subtracted from "V" and "X" only.
-	 * 		"X" can be subtracted from "L" and "C" only.
-	 * 		"C" can be subtracted from "D" and "M" only.
-	 * 		"V", "L", and "D" can never be subtracted.
-	 * 
-	 * @param		pRoman		A Roman number
-	 * 
-	 * @return		boolean		indicates if the pRoman has an internal Invalid Subtraction
-	 */
-	private static boolean hasInvalidInternalSubtraction(String pRoman) {
-		boolean response = false;
-		
-		/* index < pRoman.length() - 1
-		 * Make this iteration to stop in the Penultimate character
-		 */
-		for ( int index = 0; index < pRoman.length() - 1; index = index + 1 ) {
-			char actualCharacter	= pRoman.charAt(index		);
-			char nextCharacter		= pRoman.charAt(index  + 1	);
-			
-			int actualValue			= getValue(pRoman, index		);
-			int nextValue			= getValue(pRoman, index + 1	);
-			
-			if ( 
-					actualValue < nextValue &&
-					(
-						(actualCharacter == I && (nextCharacter != V && nextCharacter != X))	|| 
-						(actualCharacter == X && (nextCharacter != L && nextCharacter != C))	||
-						(actualCharacter == C && (nextCharacter != D && nextCharacter != M))	||
-						(actualCharacter == V && (nextCharacter != V && nextCharacter != X))
-					)
-			) {
-				response = true;
-			}
-		}
-		
-		return response;
-	}
-	
-	/**
-	 * This method will extrat from		pRoman		a Character from specific	pIndex		and converts this to an Integer
-	 * 
-	 * @param pRoman
-	 * @param pIndex
-	 * 
-	 * @return
-	 */
-	private static int getValue(String pRoman, int pIndex) {
-		char actualCharacter = pRoman.charAt(pIndex);
-		int actualValue = convertRomanToArabic(Character.toString(actualCharacter));
-		return actualValue;
-	}
-	
 	/**
 	 * This method are goind to receive an Arabic digit and its Multiplier (that indicates in which digit its used to be place. Ex: unity, tens, hundreds, thousands, etc)
 	 * and converts it to a Roman character
@@ -460,9 +741,6 @@ public class Converter {
 		}
 		romanNumberSB = mapArabitToRoman(pArabicDigit, romanNumberSB, lessSignificant, meanSignificant, moreSignificant);
 		
-		String response = romanNumberSB.toString();
-		response = response.toString();
-		
 		return romanNumberSB;
 	}
 	
@@ -486,30 +764,26 @@ public class Converter {
 	) {
 		if (  pArabicDigit >= 1 && pArabicDigit < 4 ) {
 			for ( int index = 0; index < pArabicDigit; index = index + 1 ) {
-				pRomanNumberSB = pRomanNumberSB.append( Character.toString(pLessSignificant) );
+				pRomanNumberSB = pRomanNumberSB.append(pLessSignificant);
 			}
 		} else if (  pArabicDigit >= 4 && pArabicDigit < 9  ) {
 			if ( pArabicDigit == 4 ) {
-				pRomanNumberSB = pRomanNumberSB.append( Character.toString(pLessSignificant) );
+				pRomanNumberSB = pRomanNumberSB.append(pLessSignificant);
 			}
 			
-			pRomanNumberSB = pRomanNumberSB.append( Character.toString(pMeanSignificant) );
+			pRomanNumberSB = pRomanNumberSB.append(pMeanSignificant);
 			
 			for ( int index = 6; index <= pArabicDigit; index = index + 1 ) {
-				pRomanNumberSB = pRomanNumberSB.append( Character.toString(pLessSignificant) );
+				pRomanNumberSB = pRomanNumberSB.append(pLessSignificant);
 			}
 		} else if (  pArabicDigit == 9  ) {
 			if ( pArabicDigit == 9 ) {
-				pRomanNumberSB = pRomanNumberSB.append( Character.toString(pLessSignificant) );
+				pRomanNumberSB = pRomanNumberSB.append(pLessSignificant);
 			}
 			
-			pRomanNumberSB = pRomanNumberSB.append( Character.toString(pMoreSignificant) );
+			pRomanNumberSB = pRomanNumberSB.append(pMoreSignificant);
 		}
 		return pRomanNumberSB;
 	}
 	
-	private static boolean isCharacterEqualsPrevious(String pRoman, int pIndex) {
-		return pRoman.charAt(pIndex) == pRoman.charAt(pIndex - 1);
-	}
-	
 }
\ No newline at end of file
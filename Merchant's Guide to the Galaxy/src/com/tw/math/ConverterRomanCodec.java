@@ -0,0 +1,36 @@
+package com.tw.math;
+
+/**
+ * The default engine: every method is delegated to the Converter, so it is the engine of the application when no other one is chosen.
+ * As any other RomanCodec, it is compared against the ReferenceRomanCodec.
+ */
+public class ConverterRomanCodec implements RomanCodec {
+
+	public static final String NAME = "converter";
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public int decode(CharSequence pRoman) {
+		return Converter.convertRomanToArabic( pRoman == null ? null : pRoman.toString() );
+	}
+
+	@Override
+	public int tryDecode(CharSequence pRoman) {
+		return Converter.tryConvertRomanToArabic(pRoman);
+	}
+
+	@Override
+	public String encode(int pArabic) {
+		return Converter.convertArabicToRoman(pArabic);
+	}
+
+	@Override
+	public int validate(CharSequence pRoman) {
+		return Converter.getErrorCode( RomanAutomaton.getResultRule(RomanAutomaton.run(pRoman)) );
+	}
+
+}
@@ -0,0 +1,317 @@
+package com.tw.math;
+
+import static com.tw.math.RomanSymbols.*;
+import static com.tw.utils.Constants.MAXIMUM_ROMAN_VALUE;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigInteger;
+
+import com.tw.utils.CharClasses;
+import com.tw.utils.NumericParser;
+
+/**
+ * This class converts numbers greater than 3999 to Roman Numbers, and back, with the Vinculum notation:
+ * a line over a Symbol multiplies its value by 1000. So a V with a line is 5,000, an X with a line is 10,000, and an M with a line is 1,000,000.
+ * Each line is written as a Combining Overline (U+0305) after the Symbol, and a Symbol can have many lines (the Level), each one multiplying by 1000 again.
+ *
+ * The number is written in groups of 3 digits, from the most significant one:
+ * 		- the first group, at the highest Level, is the canonical Roman Number of the number divided by 1000^Level, from 1 to 3999
+ * 		- each next group, one Level lower, is the canonical Roman Number of its 3 digits, from 1 to 999 (a group 0 is not written)
+ * So, 1,000 to 3,999 are written as always, 4,000 is IV with lines, and 1,234,567 is MCCXXXIV with lines followed by DLXVII.
+ *
+ * The encoder writes straight to a Writer (or any Appendable), a group at a time, so a huge number never needs to be held in memory as a Roman Number.
+ * The decoder reads from a Reader, a character at a time, and validates each group with the RomanAutomaton, as Converter.convertRomanToArabic() does.
+ */
+public class ExtendedRomanCodec {
+
+	/**
+	 * The Combining Overline, that multiplies the value of the previous Symbol by 1000
+	 */
+	public static final char OVERLINE = '\u0305';
+
+	private static final int			GROUP_SIZE		= 1000;
+
+	/**
+	 * The least overlined first group: encode() writes 1 to 3 thousands of a Level as M, MM and MMM of the Level below
+	 */
+	private static final int			MINIMUM_OVERLINED_FIRST_GROUP	= 4;
+	private static final BigInteger		BIG_GROUP_SIZE	= BigInteger.valueOf(GROUP_SIZE);
+
+	/**
+	 * This method converts a number to its Roman Number with the Vinculum notation
+	 *
+	 * @param		pArabic		A positive number
+	 *
+	 * @return		String		The Roman Number
+	 */
+	public static String encode(long pArabic) {
+		StringWriter writer = new StringWriter();
+
+		try {
+			encode(pArabic, writer);
+		} catch ( IOException ioe ) {
+			// A StringWriter does not throw IOException
+			throw new IllegalStateException(ioe);
+		}
+
+		return writer.toString();
+	}
+
+	/**
+	 * This method writes the Roman Number of a positive long, with the Vinculum notation
+	 *
+	 * @param		pArabic			A positive number
+	 * @param		pWriter			Receives the Roman Number: a Writer, or any other Appendable
+	 *
+	 * @throws		IOException		If the Writer fails
+	 */
+	public static void encode(long pArabic, Appendable pWriter) throws IOException {
+		validate( Long.signum(pArabic), Long.valueOf(pArabic) );
+
+		int level = 0;
+		long levelSize = 1;
+		while ( pArabic / levelSize > MAXIMUM_ROMAN_VALUE ) {
+			levelSize = levelSize * GROUP_SIZE;
+			level = level + 1;
+		}
+
+		writeGroup( (int) (pArabic / levelSize), level, pWriter );
+
+		for ( level = level - 1; level >= 0; level = level - 1 ) {
+			levelSize = levelSize / GROUP_SIZE;
+			writeGroup( (int) ((pArabic / levelSize) % GROUP_SIZE), level, pWriter );
+		}
+	}
+
+	/**
+	 * This method writes the Roman Number of a positive BigInteger, with the Vinculum notation.
+	 * The groups are taken from its decimal digits, so no big division is done.
+	 *
+	 * @param		pArabic			A positive number
+	 * @param		pWriter			Receives the Roman Number: a Writer, or any other Appendable
+	 *
+	 * @throws		IOException		If the Writer fails
+	 */
+	public static void encode(BigInteger pArabic, Appendable pWriter) throws IOException {
+		validate( pArabic.signum(), pArabic );
+
+		String digits = pArabic.toString();
+
+		// The first group has from 1 to 3 digits, the others have 3 digits
+		int groupEnd = digits.length() % 3 == 0 ? 3 : digits.length() % 3;
+		int level = (digits.length() - groupEnd) / 3;
+
+		int firstGroup = (int) NumericParser.parseInt(digits, 0, groupEnd);
+		if ( level > 0 && firstGroup * GROUP_SIZE + getGroup(digits, groupEnd) <= MAXIMUM_ROMAN_VALUE ) {
+			// The first 2 groups together still are a canonical Roman Number (from 1000 to 3999)
+			firstGroup = firstGroup * GROUP_SIZE + getGroup(digits, groupEnd);
+			groupEnd = groupEnd + 3;
+			level = level - 1;
+		}
+		writeGroup(firstGroup, level, pWriter);
+
+		for ( level = level - 1; level >= 0; level = level - 1 ) {
+			writeGroup( getGroup(digits, groupEnd), level, pWriter );
+			groupEnd = groupEnd + 3;
+		}
+	}
+
+	/**
+	 * This method converts a Roman Number, with the Vinculum notation, to a number
+	 *
+	 * @param		pRoman		A Roman Number
+	 *
+	 * @return		BigInteger	The number
+	 */
+	public static BigInteger decode(CharSequence pRoman) {
+		BigInteger response = null;
+
+		try {
+			response = decode( new StringReader(pRoman == null ? "" : pRoman.toString()) );
+		} catch ( IOException ioe ) {
+			// A StringReader does not throw IOException
+			throw new IllegalStateException(ioe);
+		}
+
+		return response;
+	}
+
+	/**
+	 * This method reads a Roman Number, with the Vinculum notation, until the end of the Reader or a white space (that is consumed)
+	 *
+	 * @param		pReader			The characters of the Roman Number
+	 *
+	 * @return		long			The number
+	 *
+	 * @throws		IOException				If the Reader fails
+	 * @throws		ArithmeticException		If the number does not fit in a long
+	 */
+	public static long decodeLong(Reader pReader) throws IOException {
+		return decode(pReader).longValueExact();
+	}
+
+	/**
+	 * This method reads a Roman Number, with the Vinculum notation, until the end of the Reader or a white space (that is consumed).
+	 *
+	 * Each group (the Symbols with the same Level) is validated by the RomanAutomaton, with the same rules of Converter.convertRomanToArabic().
+	 * Besides, the Levels must decrease from a group to the next one, and every group but the first must be less than 1000.
+	 * An overlined first group must be at least 4, so each number has a single accepted Roman Number, the one written by encode().
+	 * An invalid Roman Number throws the same Exceptions of Converter.convertRomanToArabic().
+	 *
+	 * @param		pReader			The characters of the Roman Number
+	 *
+	 * @return		BigInteger		The number
+	 *
+	 * @throws		IOException		If the Reader fails
+	 */
+	public static BigInteger decode(Reader pReader) throws IOException {
+		GroupDecoder decoder = new GroupDecoder();
+
+		int symbol = NONE;
+		int level = 0;
+
+		int character = pReader.read();
+		while ( character >= 0 && !CharClasses.isSeparator( (char) character ) ) {
+			if ( character == OVERLINE && symbol != NONE ) {
+				level = level + 1;
+			} else {
+				if ( symbol != NONE ) {
+					decoder.accept(symbol, level);
+				}
+
+				symbol = getSymbol( (char) character );
+				level = 0;
+
+				if ( symbol == NONE ) {
+					// Not a Roman Symbol, or an Overline without a Symbol
+					throw Converter.getException(Converter.ERROR_INVALID_ROMAN, null);
+				}
+			}
+
+			character = pReader.read();
+		}
+
+		if ( symbol != NONE ) {
+			decoder.accept(symbol, level);
+		}
+
+		return decoder.finish();
+	}
+
+	private static void validate(int pSignum, Object pArabic) {
+		if ( pSignum == 0 ) {
+			throw Converter.getException(Converter.ERROR_ZERO_ARABIC, null);
+		}
+
+		if ( pSignum < 0 ) {
+			throw Converter.getException(Converter.ERROR_INVALID_ARABIC, pArabic.toString());
+		}
+	}
+
+	private static int getGroup(String pDigits, int pStart) {
+		return (int) NumericParser.parseInt(pDigits, pStart, pStart + 3);
+	}
+
+	/**
+	 * This method writes a group, with		pLevel		Overlines after each Symbol
+	 */
+	private static void writeGroup(int pGroup, int pLevel, Appendable pWriter) throws IOException {
+		if ( pGroup > 0 ) {
+			String roman = Converter.convertArabicToRoman(pGroup);
+
+			for ( int index = 0; index < roman.length(); index = index + 1 ) {
+				pWriter.append( roman.charAt(index) );
+
+				for ( int line = 0; line < pLevel; line = line + 1 ) {
+					pWriter.append(OVERLINE);
+				}
+			}
+		}
+	}
+
+	/**
+	 * This class sums the Symbols of each group, while the RomanAutomaton validates it
+	 */
+	private static class GroupDecoder {
+
+		private RomanAutomaton	aAutomaton		= new RomanAutomaton();
+		private BigInteger		aTotal			= BigInteger.ZERO;
+
+		private boolean			aHasGroup		= false;
+		private boolean			aIsFirstGroup	= true;
+		private int				aLevel;
+		private int				aSum;
+		private int				aPreviousValue;
+
+		/**
+		 * @param	pSymbol		The next Symbol
+		 * @param	pLevel		Its quantity of Overlines
+		 */
+		private void accept(int pSymbol, int pLevel) {
+			if ( this.aHasGroup && pLevel != this.aLevel ) {
+				if ( pLevel > this.aLevel ) {
+					// The Levels must decrease
+					throw Converter.getException(Converter.ERROR_INVALID_ROMAN, null);
+				}
+				finishGroup();
+			}
+
+			if ( !this.aHasGroup ) {
+				this.aHasGroup		= true;
+				this.aLevel			= pLevel;
+				this.aSum			= 0;
+				this.aPreviousValue	= 0;
+				this.aAutomaton.reset();
+			}
+
+			if ( !this.aAutomaton.accept( getCharacter(pSymbol) ) ) {
+				throw Converter.getException(Converter.ERROR_FOUR_TIMES_REPETITION, null);
+			}
+
+			int actualValue = getValue(pSymbol);
+			this.aSum			= addPreviousValue(this.aSum, this.aPreviousValue, actualValue);
+			this.aPreviousValue	= actualValue;
+		}
+
+		private void finishGroup() {
+			int errorCode = Converter.getErrorCode( this.aAutomaton.getRule() );
+			if ( errorCode < 0 ) {
+				throw Converter.getException(errorCode, null);
+			}
+
+			int group = this.aSum + this.aPreviousValue;
+			if ( !this.aIsFirstGroup && group >= GROUP_SIZE ) {
+				// A lower group of 1000 or more belongs to the group above it
+				throw Converter.getException(Converter.ERROR_INVALID_ROMAN, null);
+			}
+			if ( this.aIsFirstGroup && this.aLevel > 0 && group < MINIMUM_OVERLINED_FIRST_GROUP ) {
+				// An overlined I, II or III belongs to the group below it, as M, MM or MMM
+				throw Converter.getException(Converter.ERROR_INVALID_ROMAN, null);
+			}
+
+			this.aTotal			= this.aTotal.add( BigInteger.valueOf(group).multiply(BIG_GROUP_SIZE.pow(this.aLevel)) );
+			this.aIsFirstGroup	= false;
+			this.aHasGroup		= false;
+		}
+
+		/**
+		 * @return	BigInteger		The number, after the last Symbol
+		 */
+		private BigInteger finish() {
+			if ( this.aIsFirstGroup && !this.aHasGroup ) {
+				throw Converter.getException(Converter.ERROR_EMPTY_ROMAN, null);
+			}
+
+			if ( this.aHasGroup ) {
+				finishGroup();
+			}
+
+			return this.aTotal;
+		}
+
+	}
+
+}
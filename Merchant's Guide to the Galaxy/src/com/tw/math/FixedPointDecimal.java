@@ -0,0 +1,201 @@
+package com.tw.math;
+
+/**
+ * This class calculates and formats the answers of the How Much/Many sentences with long numbers only, instead of BigDecimal.
+ *
+ * The answer is an Arabic number multiplied by the value of a Variable (a double). A double is exactly a Mantissa times a power of 2,
+ * so the product is exactly (Arabic * Mantissa) / 2^k, and it is rounded to 5 decimal places (HALF_EVEN) with a few long operations.
+ * Arabic * Mantissa has up to 32 + 53 bits, so it is kept in two longs (its high and low 64 bits), as its fraction times 10^5.
+ *
+ * The result is exactly the text of Converter.processDecimalValues( new BigDecimal(pArabic).multiply(new BigDecimal(pValue)) ):
+ * 		- an integer, if the exact product has no fraction
+ * 		- otherwise, the product rounded with exactly 5 decimal places
+ *
+ * When the integer part of the product does not fit in a long, nothing is done and false is returned, so the caller must use the BigDecimal path.
+ */
+public class FixedPointDecimal {
+
+	public static final int DECIMAL_PLACES = 5;
+
+	private static final int	MANTISSA_BITS	= 52;
+	private static final long	MANTISSA_MASK	= (1L << MANTISSA_BITS) - 1;
+	private static final int	EXPONENT_MASK	= 0x7FF;
+	private static final int	EXPONENT_BIAS	= 1075;
+
+	/**
+	 * The value of a unit of the last decimal place
+	 */
+	private static final long	SCALE			= 100000;
+
+	/**
+	 * This method appends the product of an Arabic number by a Variable value, with at most 5 decimal places
+	 *
+	 * @param		pResponse		The answer, where the product is appended
+	 * @param		pArabic			An Arabic number
+	 * @param		pValue			The value of a Variable
+	 *
+	 * @return		boolean			Indicates if the product was appended. If false,		pResponse		was not changed.
+	 */
+	public static boolean appendProduct(StringBuffer pResponse, int pArabic, double pValue) {
+		boolean response = false;
+
+		long bits = Double.doubleToRawLongBits(pValue);
+		int biasedExponent = (int) (bits >>> MANTISSA_BITS) & EXPONENT_MASK;
+
+		// NaN and the Infinities are left to BigDecimal, that rejects them
+		if ( biasedExponent != EXPONENT_MASK ) {
+			long mantissa = bits & MANTISSA_MASK;
+			int exponent;
+			if ( biasedExponent == 0 ) {
+				// Subnormal
+				exponent = 1 - EXPONENT_BIAS;
+			} else {
+				mantissa = mantissa | (1L << MANTISSA_BITS);
+				exponent = biasedExponent - EXPONENT_BIAS;
+			}
+
+			boolean isNegative = (bits < 0) != (pArabic < 0);
+			long arabic = Math.abs( (long) pArabic );
+
+			if ( mantissa == 0 || arabic == 0 ) {
+				pResponse.append('0');
+				response = true;
+			} else {
+				// The smaller the Mantissa, the bigger the products that fit
+				int trailingZeros = Long.numberOfTrailingZeros(mantissa);
+				mantissa = mantissa >>> trailingZeros;
+				exponent = exponent + trailingZeros;
+
+				response = appendProduct(pResponse, isNegative, multiplyHigh(arabic, mantissa), arabic * mantissa, exponent);
+			}
+		}
+
+		return response;
+	}
+
+	/**
+	 * This method gives the high 64 bits of a product, as Math.multiplyHigh() of Java 9, for a small non negative factor
+	 *
+	 * @param		pFactor			A non negative factor, of at most 32 bits
+	 * @param		pValue			Any 64 bits, as an unsigned value
+	 *
+	 * @return		long			The high 64 bits of		pFactor * pValue
+	 */
+	private static long multiplyHigh(long pFactor, long pValue) {
+		long highProduct	= pFactor * (pValue >>> 32);
+		long lowProduct		= pFactor * (pValue & 0xFFFFFFFFL);
+
+		return ( highProduct + (lowProduct >>> 32) ) >>> 32;
+	}
+
+	/**
+	 * @param		pResponse		The answer, where the product is appended
+	 * @param		pIsNegative		The sign of the product
+	 * @param		pHigh			The high 64 bits of the absolute product of the Arabic number by the Mantissa
+	 * @param		pLow			The low 64 bits of the absolute product of the Arabic number by the Mantissa
+	 * @param		pExponent		The power of 2 of the product
+	 *
+	 * @return		boolean			Indicates if the product was appended
+	 */
+	private static boolean appendProduct(StringBuffer pResponse, boolean pIsNegative, long pHigh, long pLow, int pExponent) {
+		boolean response = false;
+
+		if ( pExponent >= 0 ) {
+			// An integer, if it fits
+			if ( pHigh == 0 && pExponent < Long.numberOfLeadingZeros(pLow) ) {
+				appendSign(pResponse, pIsNegative);
+				pResponse.append(pLow << pExponent);
+				response = true;
+			}
+		} else {
+			int fractionBits = -pExponent;
+
+			// The integer part must fit in a long, even after the rounding
+			long integerPart = shiftRight(pHigh, pLow, fractionBits);
+			boolean fits = ( fractionBits >= Long.SIZE || (pHigh >>> fractionBits) == 0 ) && integerPart >= 0 && integerPart < Long.MAX_VALUE;
+
+			long fractionHigh	= pHigh & getHighMask(fractionBits);
+			long fractionLow	= pLow & getLowMask(fractionBits);
+
+			if ( fits && (fractionHigh | fractionLow) == 0 ) {
+				appendSign(pResponse, pIsNegative);
+				pResponse.append(integerPart);
+				response = true;
+			} else if ( fits ) {
+				// The fraction has at most 85 bits, so it is multiplied by 10^5 without overflow, and divided by 2^k by a shift
+				long scaledHigh	= fractionHigh * SCALE + multiplyHigh(SCALE, fractionLow);
+				long scaledLow	= fractionLow * SCALE;
+				int decimals = (int) shiftRight(scaledHigh, scaledLow, fractionBits);
+
+				// HALF_EVEN: the remainder is compared with a half of the last decimal place, by its first bit and the ones after it
+				boolean isHalfOrMore = ( shiftRight(scaledHigh, scaledLow, fractionBits - 1) & 1 ) == 1;
+				boolean isMoreThanHalf = isHalfOrMore && ( (scaledHigh & getHighMask(fractionBits - 1)) | (scaledLow & getLowMask(fractionBits - 1)) ) != 0;
+				if ( isMoreThanHalf || ( isHalfOrMore && (decimals & 1) == 1 ) ) {
+					decimals = decimals + 1;
+				}
+
+				if ( decimals == SCALE ) {
+					decimals = 0;
+					integerPart = integerPart + 1;
+				}
+
+				// A product rounded to zero has no sign, as in BigDecimal
+				appendSign(pResponse, pIsNegative && ( integerPart != 0 || decimals != 0 ));
+				pResponse.append(integerPart).append('.');
+				appendDecimals(pResponse, decimals);
+				response = true;
+			}
+		}
+
+		return response;
+	}
+
+	/**
+	 * @return	long	The low 64 bits of the 128 bits number		pHigh		:		pLow		, shifted		pBits		to the right
+	 */
+	private static long shiftRight(long pHigh, long pLow, int pBits) {
+		long response;
+
+		if ( pBits == 0 ) {
+			response = pLow;
+		} else if ( pBits < Long.SIZE ) {
+			response = (pHigh << (Long.SIZE - pBits)) | (pLow >>> pBits);
+		} else if ( pBits < 2 * Long.SIZE ) {
+			response = pHigh >>> (pBits - Long.SIZE);
+		} else {
+			response = 0;
+		}
+
+		return response;
+	}
+
+	/**
+	 * @return	long	The mask of the low 64 bits of a 128 bits number, that keeps its last		pBits
+	 */
+	private static long getLowMask(int pBits) {
+		return pBits >= Long.SIZE ? -1L : (1L << pBits) - 1;
+	}
+
+	/**
+	 * @return	long	The mask of the high 64 bits of a 128 bits number, that keeps its last		pBits
+	 */
+	private static long getHighMask(int pBits) {
+		return pBits <= Long.SIZE ? 0 : getLowMask(pBits - Long.SIZE);
+	}
+
+	private static void appendSign(StringBuffer pResponse, boolean pIsNegative) {
+		if ( pIsNegative ) {
+			pResponse.append('-');
+		}
+	}
+
+	/**
+	 * This method appends the decimal places, with the zeros on the left
+	 */
+	private static void appendDecimals(StringBuffer pResponse, int pDecimals) {
+		for ( int divisor = 10000; divisor > 0; divisor = divisor / 10 ) {
+			pResponse.append( (char) ('0' + (pDecimals / divisor) % 10) );
+		}
+	}
+
+}
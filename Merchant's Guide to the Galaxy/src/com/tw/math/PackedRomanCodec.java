@@ -0,0 +1,67 @@
+package com.tw.math;
+
+/**
+ * This engine packs each Roman Number in a long, by RomanCode, with a single pass over its characters.
+ * Then, the canonical ones are found in the RomanIndex, and the others are validated and summed from the packed Symbols,
+ * without reading the characters again.
+ *
+ * A Roman Number that cannot be packed (more than RomanCode.MAXIMUM_LENGTH Symbols, or a character that is not a Roman Symbol)
+ * is given to the Converter, so the results are always the same of the ReferenceRomanCodec.
+ */
+public class PackedRomanCodec implements RomanCodec {
+
+	public static final String NAME = "packed";
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public int decode(CharSequence pRoman) {
+		int response;
+
+		long romanCode = RomanCode.pack(pRoman);
+		if ( romanCode != RomanCode.INVALID ) {
+			response = RomanCode.decode(romanCode);
+		} else {
+			response = Converter.convertRomanToArabic( pRoman == null ? null : pRoman.toString() );
+		}
+
+		return response;
+	}
+
+	@Override
+	public int tryDecode(CharSequence pRoman) {
+		int response;
+
+		long romanCode = RomanCode.pack(pRoman);
+		if ( romanCode != RomanCode.INVALID ) {
+			response = RomanCode.tryDecode(romanCode);
+		} else {
+			response = Converter.tryConvertRomanToArabic(pRoman);
+		}
+
+		return response;
+	}
+
+	@Override
+	public String encode(int pArabic) {
+		return Converter.convertArabicToRoman(pArabic);
+	}
+
+	@Override
+	public int validate(CharSequence pRoman) {
+		int response;
+
+		long romanCode = RomanCode.pack(pRoman);
+		if ( romanCode != RomanCode.INVALID ) {
+			response = Converter.getErrorCode( RomanCode.validate(romanCode) );
+		} else {
+			response = Converter.getErrorCode( RomanAutomaton.getResultRule(RomanAutomaton.run(pRoman)) );
+		}
+
+		return response;
+	}
+
+}
@@ -0,0 +1,254 @@
+package com.tw.math;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * This class builds conversion tables: a row for each Arabic number of a range, formatted by a RowFormatter, written in order to a channel.
+ *
+ * The range is split in chunks, that are formatted in parallel by a ForkJoinPool. Each chunk is formatted in a ChunkBuffer,
+ * that is taken from a small pool and reused, so there is no garbage per row.
+ * The chunks are written to the channel in the order of the range, as soon as each one is ready, while the next ones are still being formatted.
+ * At most WINDOW_PER_THREAD chunks per thread are in flight, so the memory used does not grow with the size of the range.
+ *
+ * The rows are encoded in UTF-8, each one followed by a new line ('\n').
+ */
+public class RangeConverter {
+
+	public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+	/**
+	 * Chunks in flight per thread of the pool: one being written, while the others are formatted
+	 */
+	private static final int WINDOW_PER_THREAD = 2;
+
+	private final ForkJoinPool	aPool;
+	private final RowFormatter	aFormatter;
+	private final int			aChunkSize;
+
+	/**
+	 * This constructor uses the common ForkJoinPool, and the default chunk size
+	 *
+	 * @param		pFormatter		Formats each row
+	 */
+	public RangeConverter(RowFormatter pFormatter) {
+		this(ForkJoinPool.commonPool(), pFormatter, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * @param		pPool			Formats the chunks
+	 * @param		pFormatter		Formats each row
+	 * @param		pChunkSize		The quantity of rows of each chunk
+	 */
+	public RangeConverter(ForkJoinPool pPool, RowFormatter pFormatter, int pChunkSize) {
+		if ( pChunkSize <= 0 ) {
+			throw new IllegalArgumentException("The chunk size must be positive");
+		}
+
+		this.aPool		= pPool;
+		this.aFormatter	= pFormatter;
+		this.aChunkSize	= pChunkSize;
+	}
+
+	/**
+	 * This method writes a row for each Arabic number from		pFrom		to		pTo		(both included), in order
+	 *
+	 * @param		pFrom			The first Arabic number, greater than 0
+	 * @param		pTo				The last Arabic number
+	 * @param		pChannel		Receives the rows
+	 *
+	 * @return		Report			The quantity of rows and bytes written, and the time spent
+	 *
+	 * @throws		IOException		If the channel fails
+	 */
+	public Report convert(int pFrom, int pTo, WritableByteChannel pChannel) throws IOException {
+		if ( pFrom <= 0 || pTo < pFrom ) {
+			throw new IllegalArgumentException("This range [" + pFrom + ", " + pTo + "] is not valid");
+		}
+
+		long startTime = System.nanoTime();
+		long bytes = 0;
+
+		int window = Math.max(1, this.aPool.getParallelism() * WINDOW_PER_THREAD);
+		Deque<ChunkBuffer>					freeBuffers		= new ArrayDeque<ChunkBuffer>();
+		Deque<ForkJoinTask<ChunkBuffer>>	chunksInFlight	= new ArrayDeque<ForkJoinTask<ChunkBuffer>>();
+
+		try {
+			long chunkStart = pFrom;
+			while ( chunkStart <= pTo || !chunksInFlight.isEmpty() ) {
+				if ( chunkStart <= pTo && chunksInFlight.size() < window ) {
+					ChunkBuffer buffer = freeBuffers.isEmpty() ? new ChunkBuffer() : freeBuffers.poll();
+					int chunkEnd = (int) Math.min( (long) pTo, chunkStart + this.aChunkSize - 1 );
+
+					chunksInFlight.add( this.aPool.submit( new ChunkTask(buffer, (int) chunkStart, chunkEnd) ) );
+					chunkStart = (long) chunkEnd + 1;
+				} else {
+					// The oldest chunk is the next one in the output
+					ChunkBuffer buffer = chunksInFlight.poll().join();
+					bytes = bytes + buffer.writeTo(pChannel);
+					freeBuffers.add(buffer);
+				}
+			}
+		} finally {
+			for ( ForkJoinTask<ChunkBuffer> chunk : chunksInFlight ) {
+				chunk.cancel(false);
+			}
+		}
+
+		return new Report( (long) pTo - pFrom + 1, bytes, System.nanoTime() - startTime );
+	}
+
+	/**
+	 * The task that formats a chunk of rows in its buffer
+	 */
+	private class ChunkTask implements Callable<ChunkBuffer> {
+
+		private final ChunkBuffer	aBuffer;
+		private final int			aFrom;
+		private final int			aTo;
+
+		private ChunkTask(ChunkBuffer pBuffer, int pFrom, int pTo) {
+			this.aBuffer	= pBuffer;
+			this.aFrom		= pFrom;
+			this.aTo		= pTo;
+		}
+
+		@Override
+		public ChunkBuffer call() {
+			this.aBuffer.format(RangeConverter.this.aFormatter, this.aFrom, this.aTo);
+
+			return this.aBuffer;
+		}
+
+	}
+
+	/**
+	 * The reusable buffers of a chunk: the rows as characters, and then as UTF-8 bytes
+	 */
+	private static class ChunkBuffer {
+
+		private final StringBuffer		aRows		= new StringBuffer();
+		private final CharsetEncoder	aEncoder	= StandardCharsets.UTF_8.newEncoder()
+			.onMalformedInput(CodingErrorAction.REPLACE)
+			.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		private char[]					aCharacters	= new char[0];
+		private CharBuffer				aCharBuffer	= CharBuffer.wrap(this.aCharacters);
+		private ByteBuffer				aBytes		= ByteBuffer.allocate(0);
+
+		private void format(RowFormatter pFormatter, int pFrom, int pTo) {
+			this.aRows.setLength(0);
+			for ( long arabic = pFrom; arabic <= pTo; arabic = arabic + 1 ) {
+				pFormatter.appendRow( (int) arabic, this.aRows );
+				this.aRows.append('\n');
+			}
+
+			int length = this.aRows.length();
+			if ( this.aCharacters.length < length ) {
+				this.aCharacters = new char[length];
+				this.aCharBuffer = CharBuffer.wrap(this.aCharacters);
+			}
+			this.aRows.getChars(0, length, this.aCharacters, 0);
+
+			encode(length);
+		}
+
+		private void encode(int pLength) {
+			if ( this.aBytes.capacity() < pLength ) {
+				this.aBytes = ByteBuffer.allocate(pLength);
+			}
+
+			boolean isEncoded = false;
+			while ( !isEncoded ) {
+				this.aCharBuffer.clear().limit(pLength);
+				this.aBytes.clear();
+				this.aEncoder.reset();
+
+				CoderResult result = this.aEncoder.encode(this.aCharBuffer, this.aBytes, true);
+				if ( !result.isOverflow() ) {
+					result = this.aEncoder.flush(this.aBytes);
+				}
+
+				if ( result.isOverflow() ) {
+					// Some characters take more than one byte
+					this.aBytes = ByteBuffer.allocate(this.aBytes.capacity() * 2);
+				} else {
+					isEncoded = true;
+				}
+			}
+
+			this.aBytes.flip();
+		}
+
+		private int writeTo(WritableByteChannel pChannel) throws IOException {
+			int response = this.aBytes.remaining();
+
+			while ( this.aBytes.hasRemaining() ) {
+				pChannel.write(this.aBytes);
+			}
+
+			return response;
+		}
+
+	}
+
+	/**
+	 * The result of a conversion, with its throughput
+	 */
+	public static class Report {
+
+		private final long aRows;
+		private final long aBytes;
+		private final long aNanoseconds;
+
+		public Report(long pRows, long pBytes, long pNanoseconds) {
+			this.aRows			= pRows;
+			this.aBytes			= pBytes;
+			this.aNanoseconds	= pNanoseconds;
+		}
+
+		public long getRows() {
+			return this.aRows;
+		}
+
+		public long getBytes() {
+			return this.aBytes;
+		}
+
+		public long getNanoseconds() {
+			return this.aNanoseconds;
+		}
+
+		/**
+		 * @return	double		The rows written per second
+		 */
+		public double getRowsPerSecond() {
+			return this.aRows * 1e9 / Math.max(1, this.aNanoseconds);
+		}
+
+		/**
+		 * @return	double		The bytes written per second
+		 */
+		public double getBytesPerSecond() {
+			return this.aBytes * 1e9 / Math.max(1, this.aNanoseconds);
+		}
+
+		@Override
+		public String toString() {
+			return this.aRows + " rows, " + this.aBytes + " bytes in " + (this.aNanoseconds / 1000000) + " ms ("
+				+ Math.round(getRowsPerSecond()) + " rows/s, " + Math.round(getBytesPerSecond() / (1024 * 1024)) + " MiB/s)";
+		}
+
+	}
+
+}
@@ -0,0 +1,408 @@
+package com.tw.math;
+
+import static com.tw.utils.Constants.*;
+import static com.tw.utils.Utils.isStringValid;
+
+import com.tw.math.exceptions.EmptyRomanException;
+import com.tw.math.exceptions.FourTimesRepetitionException;
+import com.tw.math.exceptions.InvalidArabicException;
+import com.tw.math.exceptions.InvalidRomanException;
+
+/**
+ * The original engine: the decoding, the validation and the encoding of the first Converter, kept as they were written,
+ * before the RomanAutomaton, the RomanIndex, the RomanSymbols and the RomanCode tables. None of them is used here,
+ * so any other RomanCodec is compared against this one, and a bug in the code that the new engines share cannot be on both sides of the comparison.
+ *
+ * The original validation throws an Exception for each violated rule, so tryDecode() and validate() convert it to its error code (see Converter).
+ * The only addition is the range of encode(): the original gave a wrong Roman Number out of 1 to 3999 (ex: 4000 was M),
+ * so these numbers are rejected first, as the RomanCodec requires.
+ */
+public class ReferenceRomanCodec implements RomanCodec {
+
+	public static final String NAME = "reference";
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public int decode(CharSequence pRoman) {
+		return convertRomanToArabic( pRoman == null ? null : pRoman.toString() );
+	}
+
+	@Override
+	public int tryDecode(CharSequence pRoman) {
+		int response;
+
+		try {
+			response = decode(pRoman);
+		} catch ( RuntimeException re ) {
+			response = getErrorCode(re);
+		}
+
+		return response;
+	}
+
+	/**
+	 * The packed Roman Number is decoded from its characters, so RomanCode.tryDecode() is not used
+	 */
+	@Override
+	public int tryDecode(long pRomanCode) {
+		return tryDecode( RomanCode.unpack(pRomanCode) );
+	}
+
+	@Override
+	public String encode(int pArabic) {
+		if ( pArabic < 0 || pArabic > MAXIMUM_ROMAN_VALUE ) {
+			throw new InvalidArabicException( Integer.toString(pArabic) );
+		}
+
+		return convertArabicToRoman( Integer.toString(pArabic) );
+	}
+
+	@Override
+	public int validate(CharSequence pRoman) {
+		int response = 0;
+
+		try {
+			validateRoman( pRoman == null ? null : pRoman.toString() );
+		} catch ( RuntimeException re ) {
+			response = getErrorCode(re);
+		}
+
+		return response;
+	}
+
+	/**
+	 * @param		pException		An Exception thrown by the original validation
+	 *
+	 * @return		int				The error code of the violated rule
+	 */
+	private static int getErrorCode(RuntimeException pException) {
+		int response;
+
+		if ( pException instanceof EmptyRomanException ) {
+			response = Converter.ERROR_EMPTY_ROMAN;
+		} else if ( pException instanceof FourTimesRepetitionException ) {
+			response = Converter.ERROR_FOUR_TIMES_REPETITION;
+		} else if ( pException instanceof InvalidRomanException ) {
+			response = Converter.ERROR_INVALID_ROMAN;
+		} else {
+			throw pException;
+		}
+
+		return response;
+	}
+
+	/**
+	 * This method is responsible to convert a Roman number (ex: V) to an Arabic number (ex: 5)
+	 */
+	private static int convertRomanToArabic(String pRoman) {
+		validateRoman(pRoman);
+
+		int response = 0;
+
+		for ( int index = 0; index < pRoman.length(); index = index + 1 ) {
+			boolean shouldSubtract = shouldSubtractValue(pRoman, index);
+
+			char actualCharacter = pRoman.charAt(index);
+			int actualValue = getArabicValue(actualCharacter);
+
+			response = sumOrSubtract(response, shouldSubtract, actualValue);
+		}
+
+		return response;
+	}
+
+	/**
+	 * This method will evaluate if the Character at Index Position is Smaller then the next one.
+	 * If this is true, the first should be subtracted from the second.
+	 * Otherwise, they should be summed
+	 */
+	private static boolean shouldSubtractValue(String pRoman, int pIndex) {
+		boolean shouldSubtract = false;
+
+		char actualCharacter = pRoman.charAt(pIndex);
+
+		if ( pIndex + 1 < pRoman.length() ) {
+			char nextCharacter = pRoman.charAt(pIndex + 1);
+
+			if ( convertRomanToArabic(Character.toString(actualCharacter)) < convertRomanToArabic(Character.toString(nextCharacter)) ) {
+				shouldSubtract = true;
+			}
+		}
+		return shouldSubtract;
+	}
+
+	/**
+	 * This method converts a Roman character to an Integer
+	 */
+	private static int getArabicValue(char pActualCharacter) {
+		int resposeValue = 0;
+
+		if (  pActualCharacter == I  ) {
+			resposeValue = 1;
+		} else if (  pActualCharacter == V  ) {
+			resposeValue = 5;
+		} else if (  pActualCharacter == X  ) {
+			resposeValue = 10;
+		} else if (  pActualCharacter == L  ) {
+			resposeValue = 50;
+		} else if (  pActualCharacter == C  ) {
+			resposeValue = 100;
+		} else if (  pActualCharacter == D  ) {
+			resposeValue = 500;
+		} else if (  pActualCharacter == M  ) {
+			resposeValue = 1000;
+		}
+
+		return resposeValue;
+	}
+
+	private static int sumOrSubtract(int pResponseValue, boolean pInShouldSubtract, int pToSumOrSubtractValue) {
+		if ( !pInShouldSubtract ) {
+			pResponseValue = pResponseValue + pToSumOrSubtractValue;
+		} else {
+			pResponseValue = pResponseValue - pToSumOrSubtractValue;
+		}
+		return pResponseValue;
+	}
+
+	/**
+	 * This method is responsible to convert an Arabic number (ex: 5) to a Roman number (ex: V)
+	 */
+	private static String convertArabicToRoman(String pArabic) {
+		StringBuffer stringBuffer = new StringBuffer("");
+
+		validateArabitToRomanConvertion(pArabic);
+
+		// Starting from Right to the Left
+		int multiplier = 1;
+		for ( int index = pArabic.length() -1; index >= 0; index = index - 1 ) {
+			char actualCharacter = pArabic.charAt(index);
+
+			int actualValue = getArabicDigit(actualCharacter);
+
+			stringBuffer = getRomanValue(actualValue, multiplier).append(stringBuffer);
+
+			multiplier = multiplier * 10;
+		}
+
+		String romanResponse = stringBuffer.toString();
+		romanResponse = romanResponse.trim();
+
+		validateRoman(romanResponse);
+
+		return romanResponse;
+	}
+
+	/**
+	 * This method is responsible to do all the necessary validations on the	pArabic		string, to assure that its convertible to a Roman Number
+	 */
+	private static void validateArabitToRomanConvertion(String pArabic) {
+		if ( !isStringValid(pArabic) ) {
+			throw new InvalidArabicException();
+		}
+
+		int arabicValue;
+		try {
+			arabicValue = Integer.parseInt(pArabic);
+		} catch ( NumberFormatException nfe ) {
+			throw new InvalidArabicException(pArabic);
+		}
+
+		if ( arabicValue == 0 ) {
+			throw new InvalidRomanException("The Arabic Zero (0) number cannot be represented in Roman numbers");
+		}
+	}
+
+	/**
+	 * @return		int			The digit of the		pArabic		character, or the Minimum value possible for an Integer (ex: the minus sign)
+	 */
+	private static int getArabicDigit(char pArabic) {
+		int response = Integer.MIN_VALUE;
+
+		try {
+			response = Integer.parseInt(
+				Character.toString(pArabic)
+			);
+		} catch ( NumberFormatException nfe ) {
+			// The pArabic cannot be converted to an Integer
+		}
+
+		return response;
+	}
+
+	/**
+	 * This method is responsible to do all the necessary validations in a Roman Number
+	 */
+	private static void validateRoman(String pRoman) {
+		// This validation should be the first to be invoked, to prevent NullPointerExceptions
+		if ( !isStringValid(pRoman) ) {
+			throw new EmptyRomanException();
+		}
+
+		if ( hasInvalidConsecutiveRepetitions(pRoman) ) {
+			throw new FourTimesRepetitionException();
+		}
+
+		if ( hasInvalidInternalSubtraction(pRoman) ) {
+			throw new InvalidRomanException(pRoman);
+		}
+	}
+
+	/**
+	 * This method implements this rules:
+	 *
+	 * 		- The symbols "I", "X", "C", and "M" can be repeated three times in succession, but no more.
+	 * 		- (They may appear four times if the third and fourth are separated by a smaller value, such as XXXIX.) "D", "L", and "V" can never be repeated.
+	 */
+	private static boolean hasInvalidConsecutiveRepetitions(String pRoman) {
+		boolean response = false;
+
+		if ( isStringValid(pRoman) ) {
+			int repetitions = 1;
+			char lastRomanCharacterAnalised = ' ';
+			for ( int index = 0; index < pRoman.length(); index = index + 1 ) {
+				lastRomanCharacterAnalised = pRoman.charAt(index);
+				if ( index > 0 && pRoman.charAt(index) == pRoman.charAt(index - 1) ) {
+					repetitions = repetitions + 1;
+
+					if (
+							repetitions >= 2	&&
+							(
+								lastRomanCharacterAnalised == V	||
+								lastRomanCharacterAnalised == L	||
+								lastRomanCharacterAnalised == D
+							)
+					) {
+						break;
+					}
+
+					if ( repetitions >= 4 ) {
+						// It should break here, to avoid the case of a IIIV to be considered valid.
+						break;
+					}
+				} else {
+					repetitions = 1;
+				}
+			}
+
+			if (
+					repetitions > 3 ||
+					(
+						repetitions >= 2	&&
+						(
+							lastRomanCharacterAnalised == V	||
+							lastRomanCharacterAnalised == L	||
+							lastRomanCharacterAnalised == D
+						)
+					)
+			) {
+				response = true;
+			}
+		}
+
+		return response;
+	}
+
+	/**
+	 * This method is responsible to validate this following rules
+	 * 		"I" can be subtracted from "V" and "X" only.
+	 * 		"X" can be subtracted from "L" and "C" only.
+	 * 		"C" can be subtracted from "D" and "M" only.
+	 * 		"V", "L", and "D" can never be subtracted.
+	 */
+	private static boolean hasInvalidInternalSubtraction(String pRoman) {
+		boolean response = false;
+
+		/* index < pRoman.length() - 1
+		 * Make this iteration to stop in the Penultimate character
+		 */
+		for ( int index = 0; index < pRoman.length() - 1; index = index + 1 ) {
+			char actualCharacter	= pRoman.charAt(index		);
+			char nextCharacter		= pRoman.charAt(index  + 1	);
+
+			int actualValue			= convertRomanToArabic( Character.toString(actualCharacter) );
+			int nextValue			= convertRomanToArabic( Character.toString(nextCharacter) );
+
+			if (
+					actualValue < nextValue &&
+					(
+						(actualCharacter == I && (nextCharacter != V && nextCharacter != X))	||
+						(actualCharacter == X && (nextCharacter != L && nextCharacter != C))	||
+						(actualCharacter == C && (nextCharacter != D && nextCharacter != M))	||
+						(actualCharacter == V && (nextCharacter != V && nextCharacter != X))
+					)
+			) {
+				response = true;
+			}
+		}
+
+		return response;
+	}
+
+	/**
+	 * This method receives an Arabic digit and its Multiplier (that indicates in which digit its used to be place. Ex: unity, tens, hundreds, thousands, etc)
+	 * and converts it to Roman characters
+	 */
+	private static StringBuffer getRomanValue(int pArabicDigit, int pMultiplier) {
+		char lessSignificant = ' ';
+		char meanSignificant = ' ';
+		char moreSignificant = ' ';
+		if ( pMultiplier == 1 ) {
+			lessSignificant = I;
+			meanSignificant = V;
+			moreSignificant = X;
+		} else {
+			if ( pMultiplier == 10 ) {
+				lessSignificant = X;
+				meanSignificant = L;
+				moreSignificant = C;
+			} else {
+				if ( pMultiplier == 100 ) {
+					lessSignificant = C;
+					meanSignificant = D;
+					moreSignificant = M;
+				} else  if ( pMultiplier == 1000 ) {
+					lessSignificant = M;
+				}
+			}
+		}
+
+		return mapArabitToRoman(pArabicDigit, new StringBuffer(""), lessSignificant, meanSignificant, moreSignificant);
+	}
+
+	/**
+	 * This method converts an Arabic digit to Roman characters, with the Symbols of the place of the digit
+	 */
+	private static StringBuffer mapArabitToRoman(
+		int				pArabicDigit,
+		StringBuffer	pRomanNumberSB,
+		char			pLessSignificant,
+		char			pMeanSignificant,
+		char			pMoreSignificant
+	) {
+		if (  pArabicDigit >= 1 && pArabicDigit < 4 ) {
+			for ( int index = 0; index < pArabicDigit; index = index + 1 ) {
+				pRomanNumberSB = pRomanNumberSB.append( Character.toString(pLessSignificant) );
+			}
+		} else if (  pArabicDigit >= 4 && pArabicDigit < 9  ) {
+			if ( pArabicDigit == 4 ) {
+				pRomanNumberSB = pRomanNumberSB.append( Character.toString(pLessSignificant) );
+			}
+
+			pRomanNumberSB = pRomanNumberSB.append( Character.toString(pMeanSignificant) );
+
+			for ( int index = 6; index <= pArabicDigit; index = index + 1 ) {
+				pRomanNumberSB = pRomanNumberSB.append( Character.toString(pLessSignificant) );
+			}
+		} else if (  pArabicDigit == 9  ) {
+			pRomanNumberSB = pRomanNumberSB.append( Character.toString(pLessSignificant) );
+			pRomanNumberSB = pRomanNumberSB.append( Character.toString(pMoreSignificant) );
+		}
+		return pRomanNumberSB;
+	}
+
+}
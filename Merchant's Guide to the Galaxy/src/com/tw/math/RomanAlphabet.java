@@ -0,0 +1,205 @@
+package com.tw.math;
+
+import static com.tw.math.RomanSymbols.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class is a set of characters that are read as Roman Symbols, so the Roman Numbers of other alphabets (like the lowercase ones,
+ * or the Unicode Roman Numerals, from U+2160 to U+217F) are decoded and validated directly, without being normalized before.
+ *
+ * An alphabet is configured by a Map of each character to the standard Roman Number that it represents. Most characters are a single Symbol,
+ * but some Unicode characters are up to MAXIMUM_EXPANSION Symbols (ex: U+2163, ROMAN NUMERAL FOUR, is IV).
+ * The configuration is compiled, when the alphabet is created, into a table of Entries: a page of 256 characters for each high byte that is used,
+ * so any character is classified with two array accesses. Each Entry keeps:
+ * 		- bits 0 to 2:		the quantity of Symbols (0 if the character is not in the alphabet)
+ * 		- bits 3 to 14:		the Symbol numbers, 3 bits each, from the first one
+ * 		- bits 16 to 31:	the Arabic value of the character
+ *
+ * The decoders (see Converter.tryConvertRomanToArabic(CharSequence, RomanAlphabet)) and the validators (see RomanAutomaton.run(CharSequence, RomanAlphabet))
+ * move the RomanAutomaton with each Symbol, so the Roman rules are the same, whatever the alphabet.
+ * A character that is not in the alphabet is NONE, with value 0, as in the STANDARD alphabet.
+ */
+public class RomanAlphabet {
+
+	/**
+	 * The most Symbols represented by a single character
+	 */
+	public static final int MAXIMUM_EXPANSION = 4;
+
+	private static final int	LENGTH_MASK		= 0x7;
+	private static final int	SYMBOLS_SHIFT	= 3;
+	private static final int	BITS_PER_SYMBOL	= 3;
+	private static final int	SYMBOL_MASK		= 0x7;
+	private static final int	VALUE_SHIFT		= 16;
+
+	private static final int	PAGE_BITS		= 8;
+	private static final int	PAGE_SIZE		= 1 << PAGE_BITS;
+	private static final int	PAGE_MASK		= PAGE_SIZE - 1;
+
+	/**
+	 * The uppercase ASCII Symbols: I, V, X, L, C, D and M
+	 */
+	public static final RomanAlphabet STANDARD	= of( "standard", "IVXLCDM" );
+
+	/**
+	 * The ASCII Symbols, in uppercase and in lowercase
+	 */
+	public static final RomanAlphabet LOWERCASE	= of( "lowercase", "IVXLCDM", "ivxlcdm" );
+
+	/**
+	 * The uppercase ASCII Symbols, and all the Unicode Roman Numerals from U+2160 to U+217F, in uppercase and in lowercase
+	 */
+	public static final RomanAlphabet UNICODE	= new RomanAlphabet( "unicode", getUnicodeCharacters() );
+
+	private final String	aName;
+	private final int[][]	aPages	= new int[PAGE_SIZE][];
+
+	/**
+	 * @param		pName			The name of this alphabet
+	 * @param		pCharacters		The standard Roman Number of each character (ex: 'i' to "I", or U+2163 to "IV")
+	 */
+	public RomanAlphabet(String pName, Map<Character, String> pCharacters) {
+		this.aName = pName;
+
+		for ( Map.Entry<Character, String> character : pCharacters.entrySet() ) {
+			char alphabetCharacter = character.getKey();
+			int page = alphabetCharacter >>> PAGE_BITS;
+
+			if ( this.aPages[page] == null ) {
+				this.aPages[page] = new int[PAGE_SIZE];
+			}
+			this.aPages[page][alphabetCharacter & PAGE_MASK] = compileEntry( character.getValue() );
+		}
+	}
+
+	/**
+	 * This method creates an alphabet where each character is a single Symbol
+	 *
+	 * @param		pName			The name of the alphabet
+	 * @param		pSymbolSets		Each one has the seven characters of I, V, X, L, C, D and M, in this order (ex: "ivxlcdm")
+	 *
+	 * @return		RomanAlphabet	The compiled alphabet
+	 */
+	public static RomanAlphabet of(String pName, String... pSymbolSets) {
+		Map<Character, String> characters = new HashMap<Character, String>();
+
+		for ( String symbolSet : pSymbolSets ) {
+			if ( symbolSet.length() != SYMBOLS_COUNT - 1 ) {
+				throw new IllegalArgumentException("A set of Symbols must have the seven characters of IVXLCDM: " + symbolSet);
+			}
+
+			for ( int symbol = SYMBOL_I; symbol < SYMBOLS_COUNT; symbol = symbol + 1 ) {
+				characters.put( symbolSet.charAt(symbol - 1), String.valueOf(RomanSymbols.getCharacter(symbol)) );
+			}
+		}
+
+		return new RomanAlphabet(pName, characters);
+	}
+
+	public String getName() {
+		return this.aName;
+	}
+
+	/**
+	 * @param		pCharacter		Any character
+	 *
+	 * @return		int				The Entry of the character, or 0 if it is not in this alphabet
+	 */
+	public int getEntry(char pCharacter) {
+		int[] page = this.aPages[pCharacter >>> PAGE_BITS];
+
+		return page == null ? 0 : page[pCharacter & PAGE_MASK];
+	}
+
+	/**
+	 * @param		pEntry		An Entry, from getEntry()
+	 *
+	 * @return		int			The quantity of Symbols, 0 if the character is not in the alphabet
+	 */
+	public static int getLength(int pEntry) {
+		return pEntry & LENGTH_MASK;
+	}
+
+	/**
+	 * @param		pEntry		An Entry, from getEntry()
+	 * @param		pIndex		The index of the Symbol, from 0 to getLength() - 1
+	 *
+	 * @return		int			The Symbol number, from RomanSymbols
+	 */
+	public static int getSymbol(int pEntry, int pIndex) {
+		return (pEntry >>> (SYMBOLS_SHIFT + pIndex * BITS_PER_SYMBOL)) & SYMBOL_MASK;
+	}
+
+	/**
+	 * @param		pCharacter		Any character
+	 *
+	 * @return		int				The Arabic value of the character, or 0 if it is not in this alphabet
+	 */
+	public int getValue(char pCharacter) {
+		return getEntry(pCharacter) >>> VALUE_SHIFT;
+	}
+
+	/**
+	 * @param		pCharacter		Any character
+	 *
+	 * @return		boolean			Indicates if the character is in this alphabet
+	 */
+	public boolean contains(char pCharacter) {
+		return getEntry(pCharacter) != 0;
+	}
+
+	@Override
+	public String toString() {
+		return this.aName;
+	}
+
+	/**
+	 * This method compiles the standard Roman Number of a character in its Entry
+	 */
+	private static int compileEntry(String pRoman) {
+		if ( pRoman == null || pRoman.isEmpty() || pRoman.length() > MAXIMUM_EXPANSION ) {
+			throw new IllegalArgumentException("A character must be from 1 to " + MAXIMUM_EXPANSION + " Roman Symbols: " + pRoman);
+		}
+
+		int arabic = Converter.tryConvertRomanToArabic(pRoman);
+		if ( Converter.isError(arabic) ) {
+			throw new IllegalArgumentException("A character must be a valid Roman Number: " + pRoman);
+		}
+
+		int response = pRoman.length() | (arabic << VALUE_SHIFT);
+		for ( int index = 0; index < pRoman.length(); index = index + 1 ) {
+			int symbol = RomanSymbols.getSymbol( pRoman.charAt(index) );
+
+			if ( symbol == NONE ) {
+				throw new IllegalArgumentException("A character must be made of the Roman Symbols IVXLCDM: " + pRoman);
+			}
+
+			response = response | ( symbol << (SYMBOLS_SHIFT + index * BITS_PER_SYMBOL) );
+		}
+
+		return response;
+	}
+
+	/**
+	 * The Unicode Roman Numerals, from U+2160 to U+216F in uppercase, and from U+2170 to U+217F in lowercase
+	 */
+	private static Map<Character, String> getUnicodeCharacters() {
+		String[] numerals = { "I", "II", "III", "IV", "V", "VI", "VII", "VIII", "IX", "X", "XI", "XII", "L", "C", "D", "M" };
+
+		Map<Character, String> response = new HashMap<Character, String>();
+		for ( int symbol = SYMBOL_I; symbol < SYMBOLS_COUNT; symbol = symbol + 1 ) {
+			char character = RomanSymbols.getCharacter(symbol);
+			response.put( character, String.valueOf(character) );
+		}
+
+		for ( int index = 0; index < numerals.length; index = index + 1 ) {
+			response.put( (char) ('\u2160' + index), numerals[index] );
+			response.put( (char) ('\u2170' + index), numerals[index] );
+		}
+
+		return response;
+	}
+
+}
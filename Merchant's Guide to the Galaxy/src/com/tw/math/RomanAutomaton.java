@@ -0,0 +1,368 @@
+package com.tw.math;
+
+import static com.tw.math.RomanSymbols.*;
+
+/**
+ * This class compiles all the Roman Number rules in one deterministic finite automaton:
+ *
+ * 		- The symbols "I", "X", "C", and "M" can be repeated three times in succession, but no more.
+ * 		- "D", "L", and "V" can never be repeated.
+ * 		- "I" can be subtracted from "V" and "X" only.
+ * 		- "X" can be subtracted from "L" and "C" only.
+ * 		- "C" can be subtracted from "D" and "M" only.
+ * 		- "V" can be subtracted from "X" only.
+ *
+ * A State remembers the previous Symbol, how many times it was repeated in succession, and if an invalid Subtraction was already found.
+ * The Transitions are a table indexed by State and Input, so each character costs a single array access.
+ *
+ * The Inputs are the Symbol numbers of RomanSymbols, plus REPEATED_NONE, for a non Roman character that is equals to the previous one.
+ * This way, the repetitions of non Roman characters are counted exactly as the repetitions of the Roman ones.
+ *
+ * An invalid Repetition always has precedence over an invalid Subtraction, even if the Subtraction comes first.
+ * So, after an invalid Subtraction the automaton keeps going, in a copy of the States that remembers it, until the end or until an invalid Repetition.
+ *
+ * It can be used in two ways:
+ * 		- The static run() method validates a whole CharSequence, without any allocation
+ * 		- An instance validates a Roman Number received character by character (or byte by byte), from a stream
+ */
+public class RomanAutomaton {
+
+	// Rules
+	public static final int VALID		= 0;
+	public static final int EMPTY		= 1;
+	public static final int REPETITION	= 2;
+	public static final int SUBTRACTION	= 3;
+
+	// States
+	public static final int START		= 0;
+	public static final int REJECTED	= 49;
+	private static final int STATES		= 50;
+
+	/**
+	 * First State of the copy that remembers an invalid Subtraction
+	 */
+	private static final int FIRST_SUBTRACTION_FAILED = 25;
+
+	// Inputs
+	public static final int REPEATED_NONE	= SYMBOLS_COUNT;
+	private static final int INPUTS			= SYMBOLS_COUNT + 1;
+
+	/**
+	 * Next State, indexed by State * INPUTS + Input
+	 */
+	private static final byte[] TRANSITIONS = buildTransitions();
+
+	private int		aState;
+	private int		aOffset;
+	private int		aFailingOffset;
+	private char	aPreviousCharacter;
+
+	public RomanAutomaton() {
+		reset();
+	}
+
+	/**
+	 * This method prepares this instance to validate a new Roman Number
+	 */
+	public void reset() {
+		this.aState				= START;
+		this.aOffset			= 0;
+		this.aFailingOffset		= -1;
+		this.aPreviousCharacter	= ' ';
+	}
+
+	/**
+	 * This method moves the automaton with the next character of the Roman Number
+	 *
+	 * @param		pCharacter		The next character
+	 *
+	 * @return		boolean			Indicates if the Roman Number can still be valid. Once it returns false, the next characters are ignored.
+	 */
+	public boolean accept(char pCharacter) {
+		if ( this.aState != REJECTED ) {
+			int input = getInput(pCharacter, this.aPreviousCharacter, this.aOffset);
+			int nextState = next(this.aState, input);
+
+			if (
+					nextState == REJECTED	||
+					( !isSubtractionFailed(this.aState) && isSubtractionFailed(nextState) )
+			) {
+				// The Repetition offset replaces the Subtraction one, once it has precedence
+				this.aFailingOffset = this.aOffset;
+			}
+
+			this.aState				= nextState;
+			this.aPreviousCharacter	= pCharacter;
+			this.aOffset			= this.aOffset + 1;
+		}
+
+		return this.aState != REJECTED;
+	}
+
+	/**
+	 * This method moves the automaton with the next byte of an ASCII (or ISO-8859-1) Roman Number
+	 *
+	 * @param		pByte		The next byte
+	 *
+	 * @return		boolean		Indicates if the Roman Number can still be valid
+	 */
+	public boolean accept(byte pByte) {
+		return accept( (char) (pByte & 0xFF) );
+	}
+
+	/**
+	 * @return	int		The Rule violated by the characters accepted until now, or VALID
+	 */
+	public int getRule() {
+		return getRule(this.aState);
+	}
+
+	/**
+	 * @return	int		The offset of the character where the violated Rule was detected, or -1 if it is VALID or EMPTY
+	 */
+	public int getFailingOffset() {
+		return this.aFailingOffset;
+	}
+
+	/**
+	 * This method validates a whole Roman Number, in a single pass
+	 *
+	 * @param		pRoman		A Roman Number
+	 *
+	 * @return		long		The Rule and the failing offset, packed together. They can be read by getResultRule() and getResultOffset()
+	 */
+	public static long run(CharSequence pRoman) {
+		long response = result(EMPTY, -1);
+
+		if ( pRoman != null && pRoman.length() > 0 ) {
+			int state = START;
+			int failingOffset = -1;
+			char previousCharacter = ' ';
+
+			for ( int index = 0; index < pRoman.length(); index = index + 1 ) {
+				char actualCharacter = pRoman.charAt(index);
+				int nextState = next(state, getInput(actualCharacter, previousCharacter, index));
+
+				if ( nextState == REJECTED ) {
+					failingOffset = index;
+					state = nextState;
+					break;
+				}
+
+				if ( failingOffset < 0 && isSubtractionFailed(nextState) ) {
+					failingOffset = index;
+				}
+
+				state = nextState;
+				previousCharacter = actualCharacter;
+			}
+
+			response = result(getRule(state), failingOffset);
+		}
+
+		return response;
+	}
+
+	/**
+	 * This method validates a whole Roman Number, written in any RomanAlphabet, in a single pass
+	 *
+	 * @param		pRoman		A Roman Number
+	 * @param		pAlphabet	The alphabet of		pRoman
+	 *
+	 * @return		long		The Rule and the offset of the failing character, packed together, as in run(CharSequence)
+	 */
+	public static long run(CharSequence pRoman, RomanAlphabet pAlphabet) {
+		long response = result(EMPTY, -1);
+
+		if ( pAlphabet == RomanAlphabet.STANDARD ) {
+			response = run(pRoman);
+		} else if ( pRoman != null && pRoman.length() > 0 ) {
+			int state = START;
+			int failingOffset = -1;
+			char previousCharacter = ' ';
+
+			for ( int index = 0; index < pRoman.length() && state != REJECTED; index = index + 1 ) {
+				char actualCharacter = pRoman.charAt(index);
+				int entry = pAlphabet.getEntry(actualCharacter);
+
+				int symbols = Math.max( 1, RomanAlphabet.getLength(entry) );
+				for ( int symbolIndex = 0; symbolIndex < symbols && state != REJECTED; symbolIndex = symbolIndex + 1 ) {
+					int nextState = next( state, getInput(entry, symbolIndex, actualCharacter, previousCharacter, index) );
+
+					if ( nextState == REJECTED || (failingOffset < 0 && isSubtractionFailed(nextState)) ) {
+						failingOffset = index;
+					}
+
+					state = nextState;
+				}
+
+				previousCharacter = actualCharacter;
+			}
+
+			response = result(getRule(state), failingOffset);
+		}
+
+		return response;
+	}
+
+	/**
+	 * @param		pResult		A result from run()
+	 *
+	 * @return		int			The violated Rule, or VALID
+	 */
+	public static int getResultRule(long pResult) {
+		return (int) pResult;
+	}
+
+	/**
+	 * @param		pResult		A result from run()
+	 *
+	 * @return		int			The offset of the character where the violated Rule was detected, or -1
+	 */
+	public static int getResultOffset(long pResult) {
+		return (int) (pResult >> 32);
+	}
+
+	/**
+	 * This method classifies a character as an Input of the automaton
+	 *
+	 * @param		pCharacter			The actual character
+	 * @param		pPreviousCharacter	The previous character, ignored if		pOffset		is 0
+	 * @param		pOffset				The offset of the actual character
+	 *
+	 * @return		int					The Input
+	 */
+	public static int getInput(char pCharacter, char pPreviousCharacter, int pOffset) {
+		int response = getSymbol(pCharacter);
+
+		if ( response == NONE && pOffset > 0 && pCharacter == pPreviousCharacter ) {
+			response = REPEATED_NONE;
+		}
+
+		return response;
+	}
+
+	/**
+	 * This method classifies a Symbol of a character of a RomanAlphabet as an Input of the automaton
+	 *
+	 * @param		pEntry				The Entry of the actual character, from RomanAlphabet.getEntry()
+	 * @param		pSymbolIndex		The index of the Symbol in the Entry, 0 if the character is not in the alphabet
+	 * @param		pCharacter			The actual character
+	 * @param		pPreviousCharacter	The previous character, ignored if		pOffset		is 0
+	 * @param		pOffset				The offset of the actual character
+	 *
+	 * @return		int					The Input
+	 */
+	public static int getInput(int pEntry, int pSymbolIndex, char pCharacter, char pPreviousCharacter, int pOffset) {
+		int response = NONE;
+
+		if ( RomanAlphabet.getLength(pEntry) > 0 ) {
+			response = RomanAlphabet.getSymbol(pEntry, pSymbolIndex);
+		} else if ( pOffset > 0 && pCharacter == pPreviousCharacter ) {
+			response = REPEATED_NONE;
+		}
+
+		return response;
+	}
+
+	/**
+	 * @param		pState		The actual State
+	 * @param		pInput		An Input, given by getInput()
+	 *
+	 * @return		int			The next State
+	 */
+	public static int next(int pState, int pInput) {
+		return TRANSITIONS[pState * INPUTS + pInput];
+	}
+
+	/**
+	 * @param		pState		A State, after the last character
+	 *
+	 * @return		int			The Rule violated, or VALID
+	 */
+	public static int getRule(int pState) {
+		int response = VALID;
+
+		if ( pState == START ) {
+			response = EMPTY;
+		} else if ( pState == REJECTED ) {
+			response = REPETITION;
+		} else if ( isSubtractionFailed(pState) ) {
+			response = SUBTRACTION;
+		}
+
+		return response;
+	}
+
+	private static boolean isSubtractionFailed(int pState) {
+		return pState >= FIRST_SUBTRACTION_FAILED && pState < REJECTED;
+	}
+
+	private static long result(int pRule, int pOffset) {
+		return ( (long) pOffset << 32 ) | pRule;
+	}
+
+	/**
+	 * @return	int		The State that remembers the previous Symbol, its repetitions (from 1 to 3), and if an invalid Subtraction was found
+	 */
+	private static int getState(int pPreviousSymbol, int pRepetitions, boolean pIsSubtractionFailed) {
+		int response = 1 + pPreviousSymbol * 3 + ( pRepetitions - 1 );
+
+		if ( pIsSubtractionFailed ) {
+			response = response + FIRST_SUBTRACTION_FAILED - 1;
+		}
+
+		return response;
+	}
+
+	/**
+	 * This method compiles the Rules in the Transitions table
+	 *
+	 * @return	byte[]		The Transitions table
+	 */
+	private static byte[] buildTransitions() {
+		byte[] transitions = new byte[STATES * INPUTS];
+
+		for ( int input = 0; input < INPUTS; input = input + 1 ) {
+			int symbol = input == REPEATED_NONE ? NONE : input;
+
+			transitions[START * INPUTS + input]		= (byte) getState(symbol, 1, false);
+			transitions[REJECTED * INPUTS + input]	= (byte) REJECTED;
+
+			for ( int failed = 0; failed <= 1; failed = failed + 1 ) {
+				for ( int previousSymbol = NONE; previousSymbol < SYMBOLS_COUNT; previousSymbol = previousSymbol + 1 ) {
+					for ( int repetitions = 1; repetitions <= 3; repetitions = repetitions + 1 ) {
+						int state = getState(previousSymbol, repetitions, failed == 1);
+
+						boolean isRepetition =
+							input == REPEATED_NONE ||
+							( symbol != NONE && symbol == previousSymbol );
+
+						int nextState;
+						if ( isRepetition ) {
+							if ( repetitions + 1 >= 4 || isNeverRepeated(symbol) ) {
+								nextState = REJECTED;
+							} else {
+								nextState = getState(symbol, repetitions + 1, failed == 1);
+							}
+						} else {
+							boolean isSubtractionFailed =
+								failed == 1	||
+								(
+									getValue(previousSymbol) < getValue(symbol)	&&
+									isInvalidSubtraction(previousSymbol, symbol)
+								);
+
+							nextState = getState(symbol, 1, isSubtractionFailed);
+						}
+
+						transitions[state * INPUTS + input] = (byte) nextState;
+					}
+				}
+			}
+		}
+
+		return transitions;
+	}
+
+}
@@ -0,0 +1,231 @@
+package com.tw.math;
+
+import static com.tw.math.RomanSymbols.*;
+import static com.tw.utils.Constants.MAXIMUM_ROMAN_VALUE;
+
+/**
+ * This class packs a Roman Number in a single long, so it can be kept, compared and used as a key without any object.
+ *
+ * A canonical Roman Number has at most 15 Symbols, from an alphabet of 7, so each Symbol number (from RomanSymbols) takes 3 bits:
+ *
+ * 		bits 0 to 44		the Symbols, the first one in the lowest bits
+ * 		bits 48 to 51		the quantity of Symbols
+ *
+ * The EMPTY code (0) has no Symbols. The INVALID code (-1) is returned when a Roman Number cannot be packed:
+ * it is too long, or it has a character that is not a Roman symbol.
+ */
+public class RomanCode {
+
+	public static final long EMPTY		= 0L;
+	public static final long INVALID	= -1L;
+
+	public static final int MAXIMUM_LENGTH = 15;
+
+	private static final int	BITS_PER_SYMBOL	= 3;
+	private static final long	SYMBOL_MASK		= 7L;
+	private static final int	LENGTH_SHIFT	= 48;
+
+	/**
+	 * The code of each canonical Roman Number, indexed by its Arabic value (from 1 to 3999)
+	 */
+	private static final long[] CODES = buildCodes();
+
+	/**
+	 * This method packs a Roman Number
+	 *
+	 * @param		pRoman		A Roman Number
+	 *
+	 * @return		long		Its code, or INVALID if it cannot be packed
+	 */
+	public static long pack(CharSequence pRoman) {
+		long response = INVALID;
+
+		if ( pRoman != null ) {
+			response = EMPTY;
+
+			for ( int index = 0; index < pRoman.length() && response != INVALID; index = index + 1 ) {
+				response = append(response, pRoman.charAt(index));
+			}
+		}
+
+		return response;
+	}
+
+	/**
+	 * This method adds a Roman character at the end of a code
+	 *
+	 * @param		pCode			A code
+	 * @param		pCharacter		A Roman character
+	 *
+	 * @return		long			The new code, or INVALID if		pCode		is INVALID or full, or		pCharacter		is not a Roman symbol
+	 */
+	public static long append(long pCode, char pCharacter) {
+		return appendSymbol(pCode, RomanSymbols.getSymbol(pCharacter));
+	}
+
+	/**
+	 * This method adds a Symbol at the end of a code
+	 *
+	 * @param		pCode			A code
+	 * @param		pSymbol			A Symbol number, from RomanSymbols
+	 *
+	 * @return		long			The new code, or INVALID if		pCode		is INVALID or full, or		pSymbol		is NONE
+	 */
+	public static long appendSymbol(long pCode, int pSymbol) {
+		long response = INVALID;
+
+		if ( pCode != INVALID && pSymbol != NONE ) {
+			int length = getLength(pCode);
+
+			if ( length < MAXIMUM_LENGTH ) {
+				long symbols = pCode & ~(0xFL << LENGTH_SHIFT);
+
+				response =
+					symbols											|
+					( (long) pSymbol << (length * BITS_PER_SYMBOL) )	|
+					( (long) (length + 1) << LENGTH_SHIFT );
+			}
+		}
+
+		return response;
+	}
+
+	/**
+	 * @param		pCode		A code, not INVALID
+	 *
+	 * @return		int			The quantity of Symbols
+	 */
+	public static int getLength(long pCode) {
+		return (int) ( (pCode >>> LENGTH_SHIFT) & 0xF );
+	}
+
+	/**
+	 * @param		pCode		A code, not INVALID
+	 * @param		pIndex		The position of the Symbol, from 0 to getLength() - 1
+	 *
+	 * @return		int			The Symbol number
+	 */
+	public static int getSymbol(long pCode, int pIndex) {
+		return (int) ( (pCode >>> (pIndex * BITS_PER_SYMBOL)) & SYMBOL_MASK );
+	}
+
+	/**
+	 * This method unpacks a code back to the Roman characters
+	 *
+	 * @param		pCode		A code, not INVALID
+	 *
+	 * @return		String		The Roman Number
+	 */
+	public static String unpack(long pCode) {
+		int length = getLength(pCode);
+
+		char[] characters = new char[length];
+		for ( int index = 0; index < length; index = index + 1 ) {
+			characters[index] = getCharacter(getSymbol(pCode, index));
+		}
+
+		return new String(characters);
+	}
+
+	/**
+	 * This method converts an Arabic number to the code of its Roman Number
+	 *
+	 * @param		pArabic		An Arabic number, from 1 to 3999
+	 *
+	 * @return		long		The code of the canonical Roman Number
+	 */
+	public static long encode(int pArabic) {
+		if ( pArabic == 0 ) {
+			throw Converter.getException( Converter.ERROR_ZERO_ARABIC, null );
+		}
+
+		if ( pArabic < 0 || pArabic > MAXIMUM_ROMAN_VALUE ) {
+			throw Converter.getException( Converter.ERROR_INVALID_ARABIC, Integer.toString(pArabic) );
+		}
+
+		return CODES[pArabic];
+	}
+
+	/**
+	 * This method validates a code with all the Roman rules, in the RomanAutomaton
+	 *
+	 * @param		pCode		A code
+	 *
+	 * @return		int			The Rule violated, or RomanAutomaton.VALID
+	 */
+	public static int validate(long pCode) {
+		int response = RomanAutomaton.EMPTY;
+
+		if ( pCode != INVALID ) {
+			int state = RomanAutomaton.START;
+
+			int length = getLength(pCode);
+			for ( int index = 0; index < length && state != RomanAutomaton.REJECTED; index = index + 1 ) {
+				state = RomanAutomaton.next(state, getSymbol(pCode, index));
+			}
+
+			response = RomanAutomaton.getRule(state);
+		}
+
+		return response;
+	}
+
+	/**
+	 * This method converts a code to an Arabic number, exactly as Converter.convertRomanToArabic() does with its Roman Number
+	 *
+	 * @param		pCode		A code, not INVALID
+	 *
+	 * @return		int			The Arabic number
+	 */
+	public static int decode(long pCode) {
+		int response = tryDecode(pCode);
+
+		if ( response < 0 ) {
+			throw Converter.getException( response, unpack(pCode) );
+		}
+
+		return response;
+	}
+
+	/**
+	 * This method converts a code to an Arabic number, exactly as Converter.tryConvertRomanToArabic() does with its Roman Number
+	 *
+	 * @param		pCode		A code, not INVALID
+	 *
+	 * @return		int			The Arabic number, or the negative error code of the violated rule (see Converter)
+	 */
+	public static int tryDecode(long pCode) {
+		int response = RomanIndex.getArabicValue(pCode);
+
+		if ( response == RomanIndex.NOT_FOUND ) {
+			response = Converter.getErrorCode( validate(pCode) );
+
+			if ( response == 0 ) {
+				int previousValue = 0;
+
+				int length = getLength(pCode);
+				for ( int index = 0; index < length; index = index + 1 ) {
+					int actualValue = getValue(getSymbol(pCode, index));
+
+					response = addPreviousValue(response, previousValue, actualValue);
+					previousValue = actualValue;
+				}
+
+				response = response + previousValue;
+			}
+		}
+
+		return response;
+	}
+
+	private static long[] buildCodes() {
+		long[] codes = new long[MAXIMUM_ROMAN_VALUE + 1];
+
+		for ( int arabic = 1; arabic <= MAXIMUM_ROMAN_VALUE; arabic = arabic + 1 ) {
+			codes[arabic] = pack(Converter.convertArabicToRoman(arabic));
+		}
+
+		return codes;
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.tw.math;
+
+/**
+ * This interface is a Roman Number engine: it converts Roman Numbers to Arabic numbers, and back, with all the Roman rules.
+ *
+ * The ReferenceRomanCodec is the original engine of the Converter, and any other engine must give exactly its results,
+ * including the error codes and the Exceptions. An engine is chosen at runtime by RomanCodecs.getDefault(),
+ * so a faster one can be tried without changing its callers.
+ *
+ * An implementation must be thread safe, and have a public constructor without parameters, to be found by the ServiceLoader.
+ */
+public interface RomanCodec {
+
+	/**
+	 * @return	String		The name of this engine, used to choose it by the RomanCodecs.CODEC_PROPERTY
+	 */
+	String getName();
+
+	/**
+	 * This method converts a Roman Number to an Arabic number, as Converter.convertRomanToArabic() does
+	 *
+	 * @param		pRoman		A Roman Number
+	 *
+	 * @return		int			The Arabic number
+	 */
+	int decode(CharSequence pRoman);
+
+	/**
+	 * This method converts a Roman Number to an Arabic number, as Converter.tryConvertRomanToArabic() does
+	 *
+	 * @param		pRoman		A Roman Number
+	 *
+	 * @return		int			The Arabic number, or the negative error code of the violated rule (see Converter)
+	 */
+	int tryDecode(CharSequence pRoman);
+
+	/**
+	 * This method converts a Roman Number, packed by RomanCode, to an Arabic number, as Converter.tryConvertRomanToArabic() does
+	 *
+	 * @param		pRomanCode		A Roman Number, packed by RomanCode, not INVALID
+	 *
+	 * @return		int				The Arabic number, or the negative error code of the violated rule (see Converter)
+	 */
+	default int tryDecode(long pRomanCode) {
+		return RomanCode.tryDecode(pRomanCode);
+	}
+
+	/**
+	 * This method converts an Arabic number to a Roman Number, as Converter.convertArabicToRoman(int) does
+	 *
+	 * @param		pArabic		An Arabic number, from 1 to 3999
+	 *
+	 * @return		String		The Roman Number
+	 */
+	String encode(int pArabic);
+
+	/**
+	 * This method validates a Roman Number with all the Roman rules, without converting it
+	 *
+	 * @param		pRoman		A Roman Number
+	 *
+	 * @return		int			0 if it is valid, or the negative error code of the violated rule (see Converter)
+	 */
+	int validate(CharSequence pRoman);
+
+}
@@ -0,0 +1,87 @@
+package com.tw.math;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+/**
+ * This class chooses the RomanCodec used by the application, so different engines can be compared in production.
+ *
+ * The engine is chosen once, when it is first needed:
+ * 		1) By its name, in the system property CODEC_PROPERTY (ex: -Dcom.tw.math.romanCodec=packed)
+ * 		2) Otherwise, the first RomanCodec registered for the ServiceLoader (META-INF/services/com.tw.math.RomanCodec)
+ * 		3) Otherwise, the ConverterRomanCodec
+ */
+public class RomanCodecs {
+
+	public static final String CODEC_PROPERTY = "com.tw.math.romanCodec";
+
+	public static final RomanCodec REFERENCE	= new ReferenceRomanCodec();
+	public static final RomanCodec CONVERTER	= new ConverterRomanCodec();
+	public static final RomanCodec PACKED		= new PackedRomanCodec();
+
+	/**
+	 * The default engine is only chosen when this class is loaded, by the first call to getDefault()
+	 */
+	private static class DefaultHolder {
+		private static final RomanCodec DEFAULT = chooseDefault();
+	}
+
+	/**
+	 * @return	RomanCodec		The engine chosen for this application
+	 */
+	public static RomanCodec getDefault() {
+		return DefaultHolder.DEFAULT;
+	}
+
+	/**
+	 * This method finds an engine by its name, between the built in ones and the ones registered for the ServiceLoader
+	 *
+	 * @param		pName			The name of an engine (see RomanCodec.getName())
+	 *
+	 * @return		RomanCodec		The engine with this name
+	 *
+	 * @throws		IllegalArgumentException		If there is no engine with this name
+	 */
+	public static RomanCodec getCodec(String pName) {
+		RomanCodec response = null;
+
+		if ( REFERENCE.getName().equals(pName) ) {
+			response = REFERENCE;
+		} else if ( CONVERTER.getName().equals(pName) ) {
+			response = CONVERTER;
+		} else if ( PACKED.getName().equals(pName) ) {
+			response = PACKED;
+		} else {
+			Iterator<RomanCodec> codecs = ServiceLoader.load(RomanCodec.class).iterator();
+			while ( response == null && codecs.hasNext() ) {
+				RomanCodec codec = codecs.next();
+				if ( codec.getName().equals(pName) ) {
+					response = codec;
+				}
+			}
+		}
+
+		if ( response == null ) {
+			throw new IllegalArgumentException("There is no RomanCodec named " + pName);
+		}
+
+		return response;
+	}
+
+	private static RomanCodec chooseDefault() {
+		RomanCodec response = CONVERTER;
+
+		String name = System.getProperty(CODEC_PROPERTY);
+		if ( name != null && !name.trim().isEmpty() ) {
+			response = getCodec( name.trim() );
+		} else {
+			Iterator<RomanCodec> codecs = ServiceLoader.load(RomanCodec.class).iterator();
+			if ( codecs.hasNext() ) {
+				response = codecs.next();
+			}
+		}
+
+		return response;
+	}
+
+}
@@ -0,0 +1,194 @@
+package com.tw.math;
+
+import static com.tw.utils.Constants.MAXIMUM_ROMAN_VALUE;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * This class writes Roman Numbers straight into buffers given by the caller, without creating any object.
+ *
+ * All the Roman Numbers, from 1 to 3999, are kept one after the other in a single table of characters (and another of ASCII bytes),
+ * and the OFFSETS table tells where each one starts. So, writing a Roman Number is just a copy of its characters.
+ *
+ * Every method returns the quantity of Symbols written, and throws the same Exceptions of Converter.convertArabicToRoman(int)
+ * when the Arabic number cannot be represented in Roman numbers.
+ */
+public class RomanEncoder {
+
+	/**
+	 * The longest Roman Number, from 1 to 3999 (MMMDCCCLXXXVIII)
+	 */
+	public static final int MAXIMUM_LENGTH = 15;
+
+	/**
+	 * Where the Roman Number of each Arabic number starts in the CHARACTERS table. The Roman Number of 3999 ends at OFFSETS[4000].
+	 */
+	private static final int[]	OFFSETS		= new int[MAXIMUM_ROMAN_VALUE + 2];
+
+	private static final char[]	CHARACTERS	= buildCharacters();
+	private static final byte[]	BYTES		= buildBytes();
+
+	/**
+	 * @param		pArabic		An Arabic number, from 1 to 3999
+	 *
+	 * @return		int			The quantity of Symbols of its Roman Number
+	 */
+	public static int getLength(int pArabic) {
+		validate(pArabic);
+
+		return OFFSETS[pArabic + 1] - OFFSETS[pArabic];
+	}
+
+	/**
+	 * This method writes the Roman Number of		pArabic		in a char array
+	 *
+	 * @param		pArabic		An Arabic number, from 1 to 3999
+	 * @param		pBuffer		The char array, that must have room for getLength(pArabic) characters from		pOffset
+	 * @param		pOffset		The position of the first Symbol in		pBuffer
+	 *
+	 * @return		int			The quantity of Symbols written
+	 */
+	public static int encode(int pArabic, char[] pBuffer, int pOffset) {
+		int length = getLength(pArabic);
+
+		System.arraycopy(CHARACTERS, OFFSETS[pArabic], pBuffer, pOffset, length);
+
+		return length;
+	}
+
+	/**
+	 * This method appends the Roman Number of		pArabic		at the end of a StringBuilder
+	 *
+	 * @param		pArabic		An Arabic number, from 1 to 3999
+	 * @param		pBuilder	The StringBuilder
+	 *
+	 * @return		int			The quantity of Symbols written
+	 */
+	public static int encode(int pArabic, StringBuilder pBuilder) {
+		int length = getLength(pArabic);
+
+		pBuilder.append(CHARACTERS, OFFSETS[pArabic], length);
+
+		return length;
+	}
+
+	/**
+	 * This method appends the Roman Number of		pArabic		at the end of a StringBuffer
+	 *
+	 * @param		pArabic		An Arabic number, from 1 to 3999
+	 * @param		pBuffer		The StringBuffer
+	 *
+	 * @return		int			The quantity of Symbols written
+	 */
+	public static int encode(int pArabic, StringBuffer pBuffer) {
+		int length = getLength(pArabic);
+
+		pBuffer.append(CHARACTERS, OFFSETS[pArabic], length);
+
+		return length;
+	}
+
+	/**
+	 * This method appends the Roman Number of		pArabic		to any Appendable (a Writer, a CharBuffer...), character by character
+	 *
+	 * @param		pArabic			An Arabic number, from 1 to 3999
+	 * @param		pAppendable		The Appendable
+	 *
+	 * @return		int				The quantity of Symbols written
+	 *
+	 * @throws		IOException		If the Appendable fails
+	 */
+	public static int encode(int pArabic, Appendable pAppendable) throws IOException {
+		int length = getLength(pArabic);
+
+		int end = OFFSETS[pArabic] + length;
+		for ( int index = OFFSETS[pArabic]; index < end; index = index + 1 ) {
+			pAppendable.append(CHARACTERS[index]);
+		}
+
+		return length;
+	}
+
+	/**
+	 * This method writes the ASCII bytes of the Roman Number of		pArabic		in a ByteBuffer, at an absolute position.
+	 * The position and the limit of the ByteBuffer are not changed, so it also works with a ByteBuffer shared by many writers.
+	 *
+	 * @param		pArabic		An Arabic number, from 1 to 3999
+	 * @param		pBuffer		The ByteBuffer, heap or direct, that must have room for getLength(pArabic) bytes from		pOffset
+	 * @param		pOffset		The absolute position of the first Symbol in		pBuffer
+	 *
+	 * @return		int			The quantity of Symbols written
+	 */
+	public static int encode(int pArabic, ByteBuffer pBuffer, int pOffset) {
+		int length = getLength(pArabic);
+
+		int start = OFFSETS[pArabic];
+		for ( int index = 0; index < length; index = index + 1 ) {
+			pBuffer.put(pOffset + index, BYTES[start + index]);
+		}
+
+		return length;
+	}
+
+	/**
+	 * This method writes the ASCII bytes of the Roman Number of		pArabic		in a ByteBuffer, at its position, that is moved after them
+	 *
+	 * @param		pArabic		An Arabic number, from 1 to 3999
+	 * @param		pBuffer		The ByteBuffer, heap or direct
+	 *
+	 * @return		int			The quantity of Symbols written
+	 */
+	public static int encode(int pArabic, ByteBuffer pBuffer) {
+		int length = getLength(pArabic);
+
+		if ( pBuffer.hasArray() ) {
+			pBuffer.put(BYTES, OFFSETS[pArabic], length);
+		} else {
+			int position = pBuffer.position();
+			encode(pArabic, pBuffer, position);
+			pBuffer.position(position + length);
+		}
+
+		return length;
+	}
+
+	private static void validate(int pArabic) {
+		int errorCode = Converter.getArabicToRomanErrorCode(pArabic);
+
+		if ( errorCode < 0 ) {
+			throw Converter.getException( errorCode, Integer.toString(pArabic) );
+		}
+	}
+
+	/**
+	 * This method builds the CHARACTERS table, and the OFFSETS of each Roman Number in it
+	 *
+	 * @return	char[]		All the Roman Numbers, from 1 to 3999, one after the other
+	 */
+	private static char[] buildCharacters() {
+		StringBuilder characters = new StringBuilder();
+
+		for ( int arabic = 1; arabic <= MAXIMUM_ROMAN_VALUE; arabic = arabic + 1 ) {
+			OFFSETS[arabic] = characters.length();
+			characters.append( Converter.convertArabicToRoman(arabic) );
+		}
+		OFFSETS[MAXIMUM_ROMAN_VALUE + 1] = characters.length();
+
+		char[] response = new char[characters.length()];
+		characters.getChars(0, response.length, response, 0);
+
+		return response;
+	}
+
+	private static byte[] buildBytes() {
+		byte[] response = new byte[CHARACTERS.length];
+
+		for ( int index = 0; index < response.length; index = index + 1 ) {
+			response[index] = (byte) CHARACTERS[index];
+		}
+
+		return response;
+	}
+
+}
@@ -0,0 +1,188 @@
+package com.tw.math;
+
+import static com.tw.utils.Constants.MAXIMUM_ROMAN_VALUE;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * This class is a static index of all the 3999 canonical Roman Numbers (the ones given by Converter.convertArabicToRoman()),
+ * that maps a Roman Number straight to its Arabic value, with a single probe.
+ *
+ * The Roman Number is packed in a long by RomanCode, and this key goes through a Perfect Hash,
+ * built by the "Hash and Displace" technique:
+ * 		- The keys are distributed in BUCKETS, by the high bits of its hash
+ * 		- Each bucket has a displacement, chosen when the class is loaded, that moves all its keys to free slots
+ * So, two different canonical Roman Numbers never share the same slot, and a lookup is a single comparison of the key in its slot.
+ *
+ * A Roman Number that is not in this index is not necessarily invalid (the rules also accept some non canonical forms, like IIV),
+ * so it should be given to the rule engine of the Converter, that also tells why an invalid one was rejected.
+ */
+public class RomanIndex {
+
+	/**
+	 * Returned when the Roman Number is not a canonical one
+	 */
+	public static final int NOT_FOUND = -1;
+
+	private static final int	SLOT_BITS		= 13;
+	private static final int	SLOTS			= 1 << SLOT_BITS;
+	private static final int	BUCKET_BITS		= 10;
+	private static final int	BUCKETS			= 1 << BUCKET_BITS;
+
+	private static final long[]		KEYS			= new long[SLOTS];
+	private static final short[]	VALUES			= new short[SLOTS];
+	private static final short[]	DISPLACEMENTS	= new short[BUCKETS];
+
+	static {
+		buildIndex();
+	}
+
+	/**
+	 * This method looks the		pRoman		up in the index
+	 *
+	 * @param		pRoman		A Roman Number
+	 *
+	 * @return		int			Its Arabic value, if		pRoman		is a canonical Roman Number, otherwise NOT_FOUND
+	 */
+	public static int getArabicValue(CharSequence pRoman) {
+		return getArabicValue( RomanCode.pack(pRoman) );
+	}
+
+	/**
+	 * This method looks a packed Roman Number up in the index
+	 *
+	 * @param		pRomanCode	A Roman Number, packed by RomanCode
+	 *
+	 * @return		int			Its Arabic value, if		pRomanCode		is a canonical Roman Number, otherwise NOT_FOUND
+	 */
+	public static int getArabicValue(long pRomanCode) {
+		int response = NOT_FOUND;
+
+		if ( pRomanCode != RomanCode.EMPTY && pRomanCode != RomanCode.INVALID ) {
+			int slot = getSlot(pRomanCode);
+
+			if ( KEYS[slot] == pRomanCode ) {
+				response = VALUES[slot];
+			}
+		}
+
+		return response;
+	}
+
+	/**
+	 * This method mixes all the bits of the key (MurmurHash3 finalizer)
+	 */
+	private static long hash(long pKey) {
+		long response = pKey;
+
+		response = response ^ (response >>> 33);
+		response = response * 0xff51afd7ed558ccdL;
+		response = response ^ (response >>> 33);
+		response = response * 0xc4ceb9fe1a85ec53L;
+		response = response ^ (response >>> 33);
+
+		return response;
+	}
+
+	private static int getBucket(long pHash) {
+		return (int) (pHash >>> (64 - BUCKET_BITS));
+	}
+
+	/**
+	 * The slot is the first probe plus the displacement of the bucket times a second (odd) probe step,
+	 * so every displacement, from 0 to SLOTS - 1, gives a different slot
+	 */
+	private static int getSlot(long pHash, int pDisplacement) {
+		int firstProbe	= (int) pHash;
+		int probeStep	= (int) (pHash >>> 32) | 1;
+
+		return ( firstProbe + pDisplacement * probeStep ) & (SLOTS - 1);
+	}
+
+	private static int getSlot(long pKey) {
+		long hash = hash(pKey);
+
+		return getSlot(hash, DISPLACEMENTS[getBucket(hash)]);
+	}
+
+	/**
+	 * This method builds the index, placing the biggest buckets first, while there are more free slots
+	 */
+	private static void buildIndex() {
+		long[] keys = new long[MAXIMUM_ROMAN_VALUE + 1];
+
+		List<List<Integer>> buckets = new ArrayList<List<Integer>>(BUCKETS);
+		for ( int bucket = 0; bucket < BUCKETS; bucket = bucket + 1 ) {
+			buckets.add(new ArrayList<Integer>());
+		}
+
+		for ( int arabic = 1; arabic <= MAXIMUM_ROMAN_VALUE; arabic = arabic + 1 ) {
+			keys[arabic] = RomanCode.encode(arabic);
+			buckets.get(getBucket(hash(keys[arabic]))).add(arabic);
+		}
+
+		List<Integer> bucketsBySize = new ArrayList<Integer>(BUCKETS);
+		for ( int bucket = 0; bucket < BUCKETS; bucket = bucket + 1 ) {
+			bucketsBySize.add(bucket);
+		}
+		Collections.sort(bucketsBySize, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer pFirstBucket, Integer pSecondBucket) {
+				return buckets.get(pSecondBucket).size() - buckets.get(pFirstBucket).size();
+			}
+		});
+
+		for ( int bucket : bucketsBySize ) {
+			List<Integer> arabics = buckets.get(bucket);
+
+			if ( !arabics.isEmpty() ) {
+				int displacement = getFreeDisplacement(keys, arabics);
+
+				DISPLACEMENTS[bucket] = (short) displacement;
+				for ( int arabic : arabics ) {
+					int slot = getSlot(hash(keys[arabic]), displacement);
+					KEYS[slot]		= keys[arabic];
+					VALUES[slot]	= (short) arabic;
+				}
+			}
+		}
+	}
+
+	/**
+	 * @param		pKeys		The key of each Arabic number
+	 * @param		pArabics	The Arabic numbers of a bucket
+	 *
+	 * @return		int			The first displacement that moves all the keys of the bucket to free and different slots
+	 */
+	private static int getFreeDisplacement(long[] pKeys, List<Integer> pArabics) {
+		int response = -1;
+
+		for ( int displacement = 0; displacement < SLOTS && response < 0; displacement = displacement + 1 ) {
+			boolean isFree = true;
+
+			for ( int index = 0; index < pArabics.size() && isFree; index = index + 1 ) {
+				int slot = getSlot(hash(pKeys[pArabics.get(index)]), displacement);
+				isFree = KEYS[slot] == 0;
+
+				// Two keys of the same bucket cannot share the slot either
+				for ( int previous = 0; previous < index && isFree; previous = previous + 1 ) {
+					isFree = slot != getSlot(hash(pKeys[pArabics.get(previous)]), displacement);
+				}
+			}
+
+			if ( isFree ) {
+				response = displacement;
+			}
+		}
+
+		if ( response < 0 ) {
+			throw new IllegalStateException("There is no free displacement for a bucket of the Roman index");
+		}
+
+		return response;
+	}
+
+}
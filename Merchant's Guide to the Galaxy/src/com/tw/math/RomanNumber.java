@@ -0,0 +1,203 @@
+package com.tw.math;
+
+import static com.tw.utils.Constants.MAXIMUM_ROMAN_VALUE;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+
+/**
+ * This class is an immutable Roman Number, with all its forms: the int value, the canonical Roman String, its ASCII bytes and its BigDecimal.
+ *
+ * There is a single instance for each value, from 1 to 3999, built when this class is loaded. The valueOf() methods,
+ * and the factory methods of the Converter, only look the instance up, so getting the same Roman Number again never creates any object.
+ * As there are no two instances with the same value, they can be compared by ==, and work directly as keys of a Map.
+ */
+public final class RomanNumber extends Number implements Comparable<RomanNumber> {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The instance of each value, indexed by the value
+	 */
+	private static final RomanNumber[] INSTANCES = buildInstances();
+
+	private final int			aValue;
+	private final String		aRoman;
+	private final byte[]		aBytes;
+	private final BigDecimal	aDecimal;
+
+	private RomanNumber(int pValue) {
+		this.aValue		= pValue;
+		this.aRoman		= Converter.convertArabicToRoman(pValue);
+		this.aDecimal	= BigDecimal.valueOf(pValue);
+
+		this.aBytes = new byte[this.aRoman.length()];
+		for ( int index = 0; index < this.aBytes.length; index = index + 1 ) {
+			this.aBytes[index] = (byte) this.aRoman.charAt(index);
+		}
+	}
+
+	/**
+	 * @param		pArabic			An Arabic number, from 1 to 3999
+	 *
+	 * @return		RomanNumber		The instance of this value
+	 */
+	public static RomanNumber valueOf(int pArabic) {
+		int errorCode = Converter.getArabicToRomanErrorCode(pArabic);
+
+		if ( errorCode < 0 ) {
+			throw Converter.getException( errorCode, Integer.toString(pArabic) );
+		}
+
+		return INSTANCES[pArabic];
+	}
+
+	/**
+	 * This method decodes a Roman Number, with the rules of Converter.convertRomanToArabic().
+	 * A non canonical Roman Number (ex: IIV) gives the instance of its value (V).
+	 * The characters that are not Roman Symbols (ex: "A", or the lowercase "iv") have no value, so they are an invalid Roman Number.
+	 *
+	 * @param		pRoman			A Roman Number
+	 *
+	 * @return		RomanNumber		The instance of its value
+	 */
+	public static RomanNumber valueOf(CharSequence pRoman) {
+		int arabic = Converter.tryConvertRomanToArabic(pRoman);
+
+		if ( Converter.isError(arabic) ) {
+			throw Converter.getException(arabic, pRoman);
+		} else if ( arabic == 0 ) {
+			// The lax rules of the Converter give 0 to the characters that are not Roman Symbols
+			throw Converter.getException(Converter.ERROR_INVALID_ROMAN, pRoman);
+		} else if ( arabic > MAXIMUM_ROMAN_VALUE ) {
+			throw Converter.getException(Converter.ERROR_INVALID_ARABIC, pRoman);
+		}
+
+		return INSTANCES[arabic];
+	}
+
+	/**
+	 * @param		pArabic			An integer BigDecimal, from 1 to 3999 (with any scale, like 5.00)
+	 *
+	 * @return		RomanNumber		The instance of this value
+	 */
+	public static RomanNumber valueOf(BigDecimal pArabic) {
+		int arabic = Converter.ERROR_INVALID_ARABIC;
+
+		if ( pArabic != null && pArabic.signum() == 0 ) {
+			arabic = Converter.ERROR_ZERO_ARABIC;
+		} else if ( pArabic != null && pArabic.signum() > 0 && pArabic.compareTo(INSTANCES[MAXIMUM_ROMAN_VALUE].aDecimal) <= 0 ) {
+			try {
+				arabic = pArabic.intValueExact();
+			} catch ( ArithmeticException ae ) {
+				// It has a fraction
+			}
+		}
+
+		if ( Converter.isError(arabic) ) {
+			throw Converter.getException( arabic, pArabic == null ? null : pArabic.toPlainString() );
+		}
+
+		return INSTANCES[arabic];
+	}
+
+	@Override
+	public int intValue() {
+		return this.aValue;
+	}
+
+	@Override
+	public long longValue() {
+		return this.aValue;
+	}
+
+	@Override
+	public float floatValue() {
+		return this.aValue;
+	}
+
+	@Override
+	public double doubleValue() {
+		return this.aValue;
+	}
+
+	/**
+	 * @return	BigDecimal		The value, with scale 0
+	 */
+	public BigDecimal toBigDecimal() {
+		return this.aDecimal;
+	}
+
+	/**
+	 * @return	int		The quantity of Symbols of the canonical Roman Number
+	 */
+	public int length() {
+		return this.aBytes.length;
+	}
+
+	/**
+	 * @return	byte[]		A copy of the ASCII bytes of the canonical Roman Number
+	 */
+	public byte[] getBytes() {
+		return this.aBytes.clone();
+	}
+
+	/**
+	 * This method writes the ASCII bytes of the canonical Roman Number, without creating any object
+	 *
+	 * @param		pBuffer		Receives the bytes, at its position
+	 */
+	public void writeTo(ByteBuffer pBuffer) {
+		pBuffer.put(this.aBytes);
+	}
+
+	/**
+	 * This method appends the canonical Roman Number, without creating any object
+	 *
+	 * @param		pBuffer		Receives the Roman Number
+	 */
+	public void appendTo(StringBuffer pBuffer) {
+		pBuffer.append(this.aRoman);
+	}
+
+	@Override
+	public int compareTo(RomanNumber pOther) {
+		return Integer.compare(this.aValue, pOther.aValue);
+	}
+
+	@Override
+	public boolean equals(Object pOther) {
+		return pOther instanceof RomanNumber && ((RomanNumber) pOther).aValue == this.aValue;
+	}
+
+	@Override
+	public int hashCode() {
+		return this.aValue;
+	}
+
+	/**
+	 * @return	String		The canonical Roman Number
+	 */
+	@Override
+	public String toString() {
+		return this.aRoman;
+	}
+
+	/**
+	 * A deserialized Roman Number is replaced by the instance of its value
+	 */
+	private Object readResolve() {
+		return valueOf(this.aValue);
+	}
+
+	private static RomanNumber[] buildInstances() {
+		RomanNumber[] response = new RomanNumber[MAXIMUM_ROMAN_VALUE + 1];
+
+		for ( int value = 1; value <= MAXIMUM_ROMAN_VALUE; value = value + 1 ) {
+			response[value] = new RomanNumber(value);
+		}
+
+		return response;
+	}
+
+}
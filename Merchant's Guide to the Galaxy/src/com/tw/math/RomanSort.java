@@ -0,0 +1,181 @@
+package com.tw.math;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+
+/**
+ * This class sorts Roman Numbers by their Arabic values, decoding each one only once.
+ *
+ * The comparator() keeps the value of each Roman Number that it has already decoded, so a sort does not validate the same one again at every comparison.
+ * The sort() methods decode all the Roman Numbers first, in a table of keys, and then sort the keys by an LSD Radix Sort,
+ * carrying the original Roman Numbers along. Each pass sorts RADIX_BITS of the keys, so all the canonical Roman Numbers (up to 3999) are sorted in a single pass,
+ * that only reads and writes the tables.
+ *
+ * The sort is stable: Roman Numbers with the same value (ex: V and IIV) keep their original order.
+ * An invalid Roman Number throws the same Exceptions of Converter.convertRomanToArabic(), and then nothing is moved.
+ */
+public class RomanSort {
+
+	/**
+	 * The bits of the keys sorted by each pass: 12 bits cover every Roman Number from 1 to 3999
+	 */
+	public static final int	RADIX_BITS	= 12;
+	private static final int	RADIX		= 1 << RADIX_BITS;
+	private static final int	RADIX_MASK	= RADIX - 1;
+
+	/**
+	 * This method creates a Comparator that decodes each Roman Number once, and keeps its value for the next comparisons.
+	 * As it keeps the values, it should be used by a single thread, and by a single sort.
+	 *
+	 * @return		Comparator		Compares the Arabic values of two Roman Numbers
+	 */
+	public static Comparator<String> comparator() {
+		return new RomanComparator();
+	}
+
+	/**
+	 * This method sorts the Roman Numbers by their Arabic values
+	 *
+	 * @param		pRomans		The Roman Numbers to be sorted
+	 */
+	public static void sort(String[] pRomans) {
+		int[] keys = decodeAll(pRomans);
+
+		radixSort(keys, pRomans);
+	}
+
+	/**
+	 * This method sorts the Roman Numbers by their Arabic values
+	 *
+	 * @param		pRomans		The Roman Numbers to be sorted
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends CharSequence> void sort(List<T> pRomans) {
+		Object[] romans = pRomans.toArray();
+		int[] keys = decodeAll(romans);
+
+		radixSort(keys, romans);
+
+		ListIterator<T> iterator = pRomans.listIterator();
+		for ( int index = 0; index < romans.length; index = index + 1 ) {
+			iterator.next();
+			iterator.set( (T) romans[index] );
+		}
+	}
+
+	/**
+	 * This method decodes each Roman Number once
+	 *
+	 * @param		pRomans		The Roman Numbers, as CharSequences
+	 *
+	 * @return		int[]		The Arabic value of each one
+	 */
+	private static int[] decodeAll(Object[] pRomans) {
+		int[] response = new int[pRomans.length];
+
+		for ( int index = 0; index < pRomans.length; index = index + 1 ) {
+			response[index] = decode( (CharSequence) pRomans[index] );
+		}
+
+		return response;
+	}
+
+	private static int decode(CharSequence pRoman) {
+		int response = Converter.tryConvertRomanToArabic(pRoman);
+
+		if ( Converter.isError(response) ) {
+			throw Converter.getException(response, pRoman);
+		}
+
+		return response;
+	}
+
+	/**
+	 * This method sorts the		pKeys		, and moves each one of the		pTokens		with its key.
+	 * Each pass is a Counting Sort of RADIX_BITS of the keys, from the lowest to the highest, so the order of the previous passes is kept.
+	 *
+	 * @param		pKeys		The not negative keys
+	 * @param		pTokens		The tokens of the keys, at the same indexes
+	 */
+	private static void radixSort(int[] pKeys, Object[] pTokens) {
+		int maximumKey = 0;
+		for ( int index = 0; index < pKeys.length; index = index + 1 ) {
+			maximumKey = Math.max(maximumKey, pKeys[index]);
+		}
+
+		int[]		keys			= pKeys;
+		Object[]	tokens			= pTokens;
+		int[]		sortedKeys		= new int[pKeys.length];
+		Object[]	sortedTokens	= new Object[pTokens.length];
+		int[]		starts			= new int[RADIX];
+
+		for ( int shift = 0; shift < Integer.SIZE && (maximumKey >>> shift) != 0; shift = shift + RADIX_BITS ) {
+			Arrays.fill(starts, 0);
+			for ( int index = 0; index < keys.length; index = index + 1 ) {
+				int digit = (keys[index] >>> shift) & RADIX_MASK;
+				starts[digit] = starts[digit] + 1;
+			}
+
+			// Each count becomes the first index of its digit
+			int start = 0;
+			for ( int digit = 0; digit < RADIX; digit = digit + 1 ) {
+				int count = starts[digit];
+				starts[digit] = start;
+				start = start + count;
+			}
+
+			for ( int index = 0; index < keys.length; index = index + 1 ) {
+				int digit = (keys[index] >>> shift) & RADIX_MASK;
+				int sortedIndex = starts[digit];
+
+				sortedKeys[sortedIndex]		= keys[index];
+				sortedTokens[sortedIndex]	= tokens[index];
+				starts[digit] = sortedIndex + 1;
+			}
+
+			int[] swapKeys = keys;
+			keys = sortedKeys;
+			sortedKeys = swapKeys;
+
+			Object[] swapTokens = tokens;
+			tokens = sortedTokens;
+			sortedTokens = swapTokens;
+		}
+
+		// After an odd number of passes, the sorted tokens are in the buffer
+		if ( tokens != pTokens ) {
+			System.arraycopy(tokens, 0, pTokens, 0, tokens.length);
+			System.arraycopy(keys, 0, pKeys, 0, keys.length);
+		}
+	}
+
+	/**
+	 * Compares the Arabic values of the Roman Numbers, decoding each one only once
+	 */
+	private static class RomanComparator implements Comparator<String> {
+
+		private final Map<String, Integer> aValues = new HashMap<String, Integer>();
+
+		@Override
+		public int compare(String pRoman1, String pRoman2) {
+			return Integer.compare( getValue(pRoman1), getValue(pRoman2) );
+		}
+
+		private int getValue(String pRoman) {
+			Integer response = this.aValues.get(pRoman);
+
+			if ( response == null ) {
+				response = decode(pRoman);
+				this.aValues.put(pRoman, response);
+			}
+
+			return response;
+		}
+
+	}
+
+}
@@ -0,0 +1,227 @@
+package com.tw.math;
+
+import static com.tw.math.RomanSymbols.*;
+import static com.tw.utils.Constants.MAXIMUM_ROMAN_VALUE;
+
+import java.math.BigInteger;
+import java.util.stream.Collector;
+
+/**
+ * This class sums many Roman Numbers, without converting each one to an Arabic number.
+ *
+ * Each Roman Number is validated once, by the RomanAutomaton, with the same rules of Converter.convertRomanToArabic(),
+ * and only its Symbols are counted:
+ * 		- how many times each Symbol was found
+ * 		- how many times each Symbol was followed by a greater one (a subtractive pair, like the I of IV), so it is subtracted instead of summed
+ * The sum is calculated only once, at the end, from these counters: each Symbol value times its count, minus twice the subtracted ones.
+ *
+ * An invalid Roman Number is not summed. It is only counted, and its error code (see Converter) is returned by add().
+ *
+ * An instance is not thread safe, but many instances can sum parts of a column in parallel, and then be merged (see collector()).
+ */
+public class RomanSumAggregator {
+
+	private final long[]	aSymbolCounts		= new long[SYMBOLS_COUNT];
+	private final long[]	aSubtractionCounts	= new long[SYMBOLS_COUNT * SYMBOLS_COUNT];
+
+	private long			aValidCount;
+	private long			aInvalidCount;
+
+	/**
+	 * This method adds a Roman Number to the sum
+	 *
+	 * @param		pRoman		A Roman Number
+	 *
+	 * @return		int			0 if it was summed, or the negative error code of the violated rule, if it is invalid
+	 */
+	public int add(CharSequence pRoman) {
+		int response = Converter.getErrorCode( RomanAutomaton.getResultRule(RomanAutomaton.run(pRoman)) );
+
+		if ( response < 0 ) {
+			this.aInvalidCount = this.aInvalidCount + 1;
+		} else {
+			int previousSymbol = getSymbol( pRoman.charAt(0) );
+
+			for ( int index = 1; index < pRoman.length(); index = index + 1 ) {
+				int actualSymbol = getSymbol( pRoman.charAt(index) );
+				count(previousSymbol, actualSymbol);
+				previousSymbol = actualSymbol;
+			}
+
+			// The last Symbol is always summed
+			this.aSymbolCounts[previousSymbol] = this.aSymbolCounts[previousSymbol] + 1;
+			this.aValidCount = this.aValidCount + 1;
+		}
+
+		return response;
+	}
+
+	/**
+	 * This method adds a Roman Number, packed by RomanCode, to the sum
+	 *
+	 * @param		pRomanCode		A Roman Number, packed by RomanCode
+	 *
+	 * @return		int				0 if it was summed, or the negative error code of the violated rule, if it is invalid
+	 */
+	public int add(long pRomanCode) {
+		int response = Converter.getErrorCode( RomanCode.validate(pRomanCode) );
+
+		if ( response < 0 ) {
+			this.aInvalidCount = this.aInvalidCount + 1;
+		} else {
+			int length = RomanCode.getLength(pRomanCode);
+			int previousSymbol = RomanCode.getSymbol(pRomanCode, 0);
+
+			for ( int index = 1; index < length; index = index + 1 ) {
+				int actualSymbol = RomanCode.getSymbol(pRomanCode, index);
+				count(previousSymbol, actualSymbol);
+				previousSymbol = actualSymbol;
+			}
+
+			this.aSymbolCounts[previousSymbol] = this.aSymbolCounts[previousSymbol] + 1;
+			this.aValidCount = this.aValidCount + 1;
+		}
+
+		return response;
+	}
+
+	/**
+	 * This method counts a Symbol, now that the next one is known
+	 */
+	private void count(int pSymbol, int pNextSymbol) {
+		this.aSymbolCounts[pSymbol] = this.aSymbolCounts[pSymbol] + 1;
+
+		if ( getValue(pSymbol) < getValue(pNextSymbol) ) {
+			int pair = pSymbol * SYMBOLS_COUNT + pNextSymbol;
+			this.aSubtractionCounts[pair] = this.aSubtractionCounts[pair] + 1;
+		}
+	}
+
+	/**
+	 * This method adds all the counters of another aggregator to this one
+	 *
+	 * @param		pOther		An aggregator of another part of the column
+	 *
+	 * @return		RomanSumAggregator		This aggregator
+	 */
+	public RomanSumAggregator merge(RomanSumAggregator pOther) {
+		for ( int index = 0; index < this.aSymbolCounts.length; index = index + 1 ) {
+			this.aSymbolCounts[index] = this.aSymbolCounts[index] + pOther.aSymbolCounts[index];
+		}
+
+		for ( int index = 0; index < this.aSubtractionCounts.length; index = index + 1 ) {
+			this.aSubtractionCounts[index] = this.aSubtractionCounts[index] + pOther.aSubtractionCounts[index];
+		}
+
+		this.aValidCount	= this.aValidCount + pOther.aValidCount;
+		this.aInvalidCount	= this.aInvalidCount + pOther.aInvalidCount;
+
+		return this;
+	}
+
+	/**
+	 * @return	long	The sum of all the valid Roman Numbers
+	 *
+	 * @throws	ArithmeticException		If the sum does not fit in a long
+	 */
+	public long getSum() {
+		long response = 0;
+
+		for ( int symbol = 0; symbol < SYMBOLS_COUNT; symbol = symbol + 1 ) {
+			response = Math.addExact( response, Math.multiplyExact(this.aSymbolCounts[symbol], (long) getValue(symbol)) );
+
+			// A subtracted Symbol was counted as summed, so it is taken twice
+			long subtractions = 0;
+			for ( int nextSymbol = 0; nextSymbol < SYMBOLS_COUNT; nextSymbol = nextSymbol + 1 ) {
+				subtractions = subtractions + this.aSubtractionCounts[symbol * SYMBOLS_COUNT + nextSymbol];
+			}
+			response = Math.subtractExact( response, Math.multiplyExact(subtractions, 2L * getValue(symbol)) );
+		}
+
+		return response;
+	}
+
+	/**
+	 * @return	BigInteger		The sum of all the valid Roman Numbers, of any size
+	 */
+	public BigInteger getBigSum() {
+		BigInteger response = BigInteger.ZERO;
+
+		for ( int symbol = 0; symbol < SYMBOLS_COUNT; symbol = symbol + 1 ) {
+			long subtractions = 0;
+			for ( int nextSymbol = 0; nextSymbol < SYMBOLS_COUNT; nextSymbol = nextSymbol + 1 ) {
+				subtractions = subtractions + this.aSubtractionCounts[symbol * SYMBOLS_COUNT + nextSymbol];
+			}
+
+			BigInteger summed = BigInteger.valueOf(this.aSymbolCounts[symbol]).subtract( BigInteger.valueOf(subtractions).shiftLeft(1) );
+			response = response.add( summed.multiply(BigInteger.valueOf(getValue(symbol))) );
+		}
+
+		return response;
+	}
+
+	/**
+	 * @return	String		The sum as a canonical Roman Number, with the Vinculum notation if it is greater than 3999
+	 */
+	public String toRoman() {
+		long sum = getSum();
+
+		String response;
+		if ( sum >= 0 && sum <= MAXIMUM_ROMAN_VALUE ) {
+			response = Converter.convertArabicToRoman( (int) sum );
+		} else {
+			response = ExtendedRomanCodec.encode(sum);
+		}
+
+		return response;
+	}
+
+	/**
+	 * @param		pSymbol		A Symbol number, from RomanSymbols
+	 *
+	 * @return		long		How many times the Symbol was found, in the valid Roman Numbers
+	 */
+	public long getSymbolCount(int pSymbol) {
+		return this.aSymbolCounts[pSymbol];
+	}
+
+	/**
+	 * @param		pSymbol			A Symbol number, from RomanSymbols
+	 * @param		pNextSymbol		A greater Symbol number
+	 *
+	 * @return		long			How many times		pSymbol		was subtracted from		pNextSymbol
+	 */
+	public long getSubtractionCount(int pSymbol, int pNextSymbol) {
+		return this.aSubtractionCounts[pSymbol * SYMBOLS_COUNT + pNextSymbol];
+	}
+
+	/**
+	 * @return	long	The quantity of Roman Numbers summed
+	 */
+	public long getValidCount() {
+		return this.aValidCount;
+	}
+
+	/**
+	 * @return	long	The quantity of invalid Roman Numbers, that were not summed
+	 */
+	public long getInvalidCount() {
+		return this.aInvalidCount;
+	}
+
+	/**
+	 * This method creates a Collector, that sums a Stream of Roman Numbers, even a parallel one
+	 *
+	 * @return		Collector		Sums the Roman Numbers in a RomanSumAggregator
+	 */
+	public static Collector<CharSequence, RomanSumAggregator, RomanSumAggregator> collector() {
+		return Collector.of(
+			RomanSumAggregator::new,
+			RomanSumAggregator::add,
+			RomanSumAggregator::merge,
+			Collector.Characteristics.UNORDERED,
+			Collector.Characteristics.IDENTITY_FINISH
+		);
+	}
+
+}
@@ -0,0 +1,145 @@
+package com.tw.math;
+
+import static com.tw.utils.Constants.*;
+
+/**
+ * This class keeps the seven Roman symbols in static tables, indexed by a small Symbol number,
+ * so the conversion engines can classify and evaluate a character with a single array access,
+ * instead of comparing it with each one of the Roman constants.
+ *
+ * Symbol number	Character	Value
+ * 0				(none)		0
+ * 1				I			1
+ * 2				V			5
+ * 3				X			10
+ * 4				L			50
+ * 5				C			100
+ * 6				D			500
+ * 7				M			1,000
+ *
+ * Any character that is not a Roman symbol is classified as NONE, with value 0, exactly as the Converter always did.
+ */
+public class RomanSymbols {
+
+	public static final int NONE		= 0;
+	public static final int SYMBOL_I	= 1;
+	public static final int SYMBOL_V	= 2;
+	public static final int SYMBOL_X	= 3;
+	public static final int SYMBOL_L	= 4;
+	public static final int SYMBOL_C	= 5;
+	public static final int SYMBOL_D	= 6;
+	public static final int SYMBOL_M	= 7;
+
+	/**
+	 * Quantity of Symbol numbers, including NONE
+	 */
+	public static final int SYMBOLS_COUNT = 8;
+
+	private static final char[]	CHARACTERS	= { ' ', I, V, X, L, C, D, M };
+	private static final int[]	VALUES		= { 0, 1, 5, 10, 50, 100, 500, 1000 };
+
+	/**
+	 * Symbol number of each ASCII character
+	 */
+	private static final byte[] ASCII_SYMBOLS = new byte[128];
+
+	/**
+	 * Indicates, for each pair of Symbols (index = actual * SYMBOLS_COUNT + next),
+	 * if the actual Symbol is not allowed to be subtracted from the next one
+	 */
+	private static final boolean[] INVALID_SUBTRACTIONS = new boolean[SYMBOLS_COUNT * SYMBOLS_COUNT];
+
+	static {
+		for ( int symbol = SYMBOL_I; symbol < SYMBOLS_COUNT; symbol = symbol + 1 ) {
+			ASCII_SYMBOLS[CHARACTERS[symbol]] = (byte) symbol;
+		}
+
+		for ( int actual = NONE; actual < SYMBOLS_COUNT; actual = actual + 1 ) {
+			for ( int next = NONE; next < SYMBOLS_COUNT; next = next + 1 ) {
+				INVALID_SUBTRACTIONS[actual * SYMBOLS_COUNT + next] =
+					(actual == SYMBOL_I && (next != SYMBOL_V && next != SYMBOL_X))	||
+					(actual == SYMBOL_X && (next != SYMBOL_L && next != SYMBOL_C))	||
+					(actual == SYMBOL_C && (next != SYMBOL_D && next != SYMBOL_M))	||
+					(actual == SYMBOL_V && (next != SYMBOL_V && next != SYMBOL_X));
+			}
+		}
+	}
+
+	/**
+	 * This method classifies a character as one of the Symbol numbers
+	 *
+	 * @param		pCharacter		Any character
+	 *
+	 * @return		int				The Symbol number, or NONE if the character is not a Roman symbol
+	 */
+	public static int getSymbol(char pCharacter) {
+		int response = NONE;
+
+		if ( pCharacter < ASCII_SYMBOLS.length ) {
+			response = ASCII_SYMBOLS[pCharacter];
+		}
+
+		return response;
+	}
+
+	/**
+	 * @param		pSymbol		A Symbol number
+	 *
+	 * @return		int			The Arabic value of the Symbol, or 0 for NONE
+	 */
+	public static int getValue(int pSymbol) {
+		return VALUES[pSymbol];
+	}
+
+	/**
+	 * This method resolves the value of a Symbol, now that the value of the next one is known:
+	 * if it is smaller then the next one, it is subtracted, otherwise it is summed.
+	 * Every rules engine sums its Symbols with this method, and the last value is always summed.
+	 *
+	 * @param		pSum			The sum of the Symbols before the previous one
+	 * @param		pPreviousValue	The value of the previous Symbol, 0 if there is none
+	 * @param		pActualValue	The value of the actual Symbol
+	 *
+	 * @return		int				The sum, with the previous Symbol
+	 */
+	public static int addPreviousValue(int pSum, int pPreviousValue, int pActualValue) {
+		return pPreviousValue < pActualValue ? pSum - pPreviousValue : pSum + pPreviousValue;
+	}
+
+	/**
+	 * @param		pSymbol		A Symbol number, different of NONE
+	 *
+	 * @return		char		The Roman character of the Symbol
+	 */
+	public static char getCharacter(int pSymbol) {
+		return CHARACTERS[pSymbol];
+	}
+
+	/**
+	 * "D", "L", and "V" can never be repeated.
+	 *
+	 * @param		pSymbol		A Symbol number
+	 *
+	 * @return		boolean		Indicates if the Symbol can never be repeated
+	 */
+	public static boolean isNeverRepeated(int pSymbol) {
+		return pSymbol == SYMBOL_V || pSymbol == SYMBOL_L || pSymbol == SYMBOL_D;
+	}
+
+	/**
+	 * This method implements this rules, for a Symbol that is smaller then the next one:
+	 * 		"I" can be subtracted from "V" and "X" only.
+	 * 		"X" can be subtracted from "L" and "C" only.
+	 * 		"C" can be subtracted from "D" and "M" only.
+	 * 		"V", "L", and "D" can never be subtracted.
+	 *
+	 * @param		pActualSymbol	The Symbol that would be subtracted
+	 * @param		pNextSymbol		The Symbol that follows it
+	 *
+	 * @return		boolean			Indicates if this subtraction is not allowed
+	 */
+	public static boolean isInvalidSubtraction(int pActualSymbol, int pNextSymbol) {
+		return INVALID_SUBTRACTIONS[pActualSymbol * SYMBOLS_COUNT + pNextSymbol];
+	}
+
+}
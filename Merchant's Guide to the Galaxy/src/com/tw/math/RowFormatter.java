@@ -0,0 +1,53 @@
+package com.tw.math;
+
+import static com.tw.utils.Constants.MAXIMUM_ROMAN_VALUE;
+
+import java.io.IOException;
+
+/**
+ * This interface formats the row of an Arabic number, in a conversion table built by the RangeConverter.
+ *
+ * The rows are formatted by many threads at the same time, so an implementation must be thread safe
+ * (usually, it does not change any state after it is created).
+ */
+public interface RowFormatter {
+
+	/**
+	 * The Arabic number and its Roman Number, separated by a tab. The numbers greater than 3999 are written with the Vinculum notation.
+	 */
+	RowFormatter ROMAN = new RowFormatter() {
+		@Override
+		public void appendRow(int pArabic, StringBuffer pRow) {
+			pRow.append(pArabic).append('\t');
+			appendRoman(pArabic, pRow);
+		}
+	};
+
+	/**
+	 * This method appends the row of		pArabic		, without the line separator
+	 *
+	 * @param		pArabic		A positive Arabic number
+	 * @param		pRow		Receives the row
+	 */
+	void appendRow(int pArabic, StringBuffer pRow);
+
+	/**
+	 * This method appends the Roman Number of any positive int, without creating any String
+	 *
+	 * @param		pArabic		A positive Arabic number
+	 * @param		pRow		Receives the Roman Number
+	 */
+	static void appendRoman(int pArabic, StringBuffer pRow) {
+		if ( pArabic <= MAXIMUM_ROMAN_VALUE ) {
+			RomanEncoder.encode(pArabic, pRow);
+		} else {
+			try {
+				ExtendedRomanCodec.encode(pArabic, pRow);
+			} catch ( IOException ioe ) {
+				// A StringBuffer does not throw IOException
+				throw new IllegalStateException(ioe);
+			}
+		}
+	}
+
+}
@@ -7,8 +7,27 @@ public class EmptyRomanException extends RuntimeException {
 	 */
 	private static final long serialVersionUID = 2701455229194246848L;
 	
+	/**
+	 * Shared instance, without stack trace, for the callers that use the stackless mode
+	 */
+	private static final EmptyRomanException STACKLESS = new EmptyRomanException(false);
+	
 	public EmptyRomanException() {
 		super("This is not a Roman character. Its empty");
 	}
 	
+	/**
+	 * @param	pWritableStackTrace		If false, the stack trace is neither filled nor kept, and no suppressed exception is added
+	 */
+	protected EmptyRomanException(boolean pWritableStackTrace) {
+		super("This is not a Roman character. Its empty", null, false, pWritableStackTrace);
+	}
+	
+	/**
+	 * @return	EmptyRomanException		A preallocated instance, without stack trace, that is cheap to throw
+	 */
+	public static EmptyRomanException getStackless() {
+		return STACKLESS;
+	}
+	
 }
\ No newline at end of file
@@ -7,6 +7,11 @@ public class FourTimesRepetitionException extends RuntimeException {
 	 */
 	private static final long serialVersionUID = -5911578377487833261L;
 
+	/**
+	 * Shared instance, without stack trace, for the callers that use the stackless mode
+	 */
+	private static final FourTimesRepetitionException STACKLESS = new FourTimesRepetitionException(false);
+	
 	public FourTimesRepetitionException() {
 		super("A Roman character was repeated more than 3 times consecutively");
 	}
@@ -15,4 +20,18 @@ public class FourTimesRepetitionException extends RuntimeException {
 		super("The character "+ pCharacter + " was repeated more than 3 times consecutively");
 	}
 	
+	/**
+	 * @param	pWritableStackTrace		If false, the stack trace is neither filled nor kept, and no suppressed exception is added
+	 */
+	protected FourTimesRepetitionException(boolean pWritableStackTrace) {
+		super("A Roman character was repeated more than 3 times consecutively", null, false, pWritableStackTrace);
+	}
+	
+	/**
+	 * @return	FourTimesRepetitionException		A preallocated instance, without stack trace, that is cheap to throw
+	 */
+	public static FourTimesRepetitionException getStackless() {
+		return STACKLESS;
+	}
+	
 }
\ No newline at end of file
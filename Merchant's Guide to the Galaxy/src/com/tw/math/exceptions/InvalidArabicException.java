@@ -7,6 +7,11 @@ public class InvalidArabicException extends RuntimeException {
 	 */
 	private static final long serialVersionUID = -6978883603925142731L;
 	
+	/**
+	 * Shared instance, without stack trace, for the callers that use the stackless mode
+	 */
+	private static final InvalidArabicException STACKLESS = new InvalidArabicException(false);
+	
 	public InvalidArabicException() {
 		super("This is not a valid Arabic number.");
 	}
@@ -16,4 +21,18 @@ public class InvalidArabicException extends RuntimeException {
 		super("This (" + pArabic + ") is not a valid Arabic number.");
 	}
 	
+	/**
+	 * @param	pWritableStackTrace		If false, the stack trace is neither filled nor kept, and no suppressed exception is added
+	 */
+	protected InvalidArabicException(boolean pWritableStackTrace) {
+		super("This is not a valid Arabic number.", null, false, pWritableStackTrace);
+	}
+	
+	/**
+	 * @return	InvalidArabicException		A preallocated instance, without stack trace, that is cheap to throw
+	 */
+	public static InvalidArabicException getStackless() {
+		return STACKLESS;
+	}
+	
 }
\ No newline at end of file
@@ -7,6 +7,11 @@ public class InvalidRomanException extends RuntimeException {
 	 */
 	private static final long serialVersionUID = 2239025558190842260L;
 	
+	/**
+	 * Shared instance, without stack trace, for the callers that use the stackless mode
+	 */
+	private static final InvalidRomanException STACKLESS = new InvalidRomanException(false);
+	
 	public InvalidRomanException() {
 		super("This is not a valid Roman number.");
 	}
@@ -16,4 +21,18 @@ public class InvalidRomanException extends RuntimeException {
 		super("This (" + pRoman + ") is not a valid Roman number.");
 	}
 	
+	/**
+	 * @param	pWritableStackTrace		If false, the stack trace is neither filled nor kept, and no suppressed exception is added
+	 */
+	protected InvalidRomanException(boolean pWritableStackTrace) {
+		super("This is not a valid Roman number.", null, false, pWritableStackTrace);
+	}
+	
+	/**
+	 * @return	InvalidRomanException		A preallocated instance, without stack trace, that is cheap to throw
+	 */
+	public static InvalidRomanException getStackless() {
+		return STACKLESS;
+	}
+	
 }
\ No newline at end of file
@@ -0,0 +1,336 @@
+package com.tw.sentences;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import com.tw.utils.CharClasses;
+import com.tw.utils.Keywords;
+import com.tw.utils.NumericParser;
+
+/**
+ * This class is the grammar of the Sentences. Each form of Sentence (Mapping, Valuation, How Much and How Many) is a row of a table, with the
+ * kinds of term accepted at each position, and the matcher reads each term of a SentenceTokens against a row only once.
+ *
+ * The forms of the table:
+ * 		MAPPING			Noun is Roman								glob is I
+ * 		VALUATION		Multiplier+ Variable is Number Credits		glob glob Silver is 34 Credits
+ * 		HOW_MUCH		how much is Multiplier* ?					how much is pish tegj glob glob ?
+ * 		HOW_MANY		how many Unit is Multiplier* Variable ?		how many Credits is glob prok Silver ?
+ *
+ * At most one element of a form is repeated (the Multipliers), so the terms before it are matched from the first term, the terms after it are matched
+ * from the last term, and only then the repeated element takes all the terms between them.
+ * Then no index of a term is written by hand, and a new form of Sentence is only a new row of the table.
+ *
+ * A matched Sentence gives the span of each role (getStart() and getEnd()): the Noun, the Multipliers, the Variable, the Unit and the Value.
+ * The Multipliers are known Nouns and the Variable of a question is a known Variable, as they are in the Maps given to the constructor.
+ *
+ * As it keeps the spans of the last match, a SentenceGrammar must be used by a single thread.
+ */
+public class SentenceGrammar {
+
+	public static final int NONE			= -1;
+	public static final int MAPPING			= 0;
+	public static final int VALUATION		= 1;
+	public static final int HOW_MUCH		= 2;
+	public static final int HOW_MANY		= 3;
+	public static final int FORMS_COUNT		= 4;
+
+	/**
+	 * The roles of the terms of a matched Sentence
+	 */
+	public static final int NOUN			= 0;
+	public static final int MULTIPLIERS		= 1;
+	public static final int VARIABLE		= 2;
+	public static final int UNIT			= 3;
+	public static final int VALUE			= 4;
+	public static final int ROLES_COUNT		= 5;
+
+	/*
+	 * The kinds of term accepted by an element: a keyword ignoring the case (1 << id), a keyword with exactly its case (1 << (EXACT_SHIFT + id)),
+	 * or one of the kinds below
+	 */
+	private static final int EXACT_SHIFT		= Keywords.KEYWORDS_COUNT;
+	private static final int ROMAN				= 1 << 16;
+	private static final int NUMBER				= 1 << 17;
+	private static final int KNOWN_NOUN			= 1 << 18;
+	private static final int KNOWN_VARIABLE		= 1 << 19;
+	private static final int ANY				= 1 << 20;
+	private static final int KINDS_MASK			= (1 << 21) - 1;
+
+	/*
+	 * The role of an element is kept in the bits above the kinds, and its repetition in the highest bits
+	 */
+	private static final int ROLE_SHIFT			= 21;
+	private static final int ROLE_MASK			= 7;
+	private static final int ZERO_OR_MORE		= 1 << 29;
+	private static final int ONE_OR_MORE		= 1 << 30;
+
+	private static final int[][]	FORMS			= new int[FORMS_COUNT][];
+
+	/**
+	 * The index of the repeated element of each form, or NONE
+	 */
+	private static final int[]		REPEATED_INDEX	= new int[FORMS_COUNT];
+
+	/**
+	 * The least quantity of terms of each form
+	 */
+	private static final int[]		MINIMUM_SIZE	= new int[FORMS_COUNT];
+
+	static {
+		FORMS[MAPPING] = new int[] {
+			element(ANY, NOUN),
+			exact(Keywords.IS),
+			element(ROMAN, VALUE)
+		};
+		FORMS[VALUATION] = new int[] {
+			element(KNOWN_NOUN, MULTIPLIERS) | ONE_OR_MORE,
+			element(ANY, VARIABLE),
+			exact(Keywords.IS),
+			element(NUMBER, VALUE),
+			element(exact(Keywords.CREDITS) | exact(Keywords.CREDIT), UNIT)
+		};
+		FORMS[HOW_MUCH] = new int[] {
+			keyword(Keywords.HOW),
+			keyword(Keywords.MUCH),
+			keyword(Keywords.IS),
+			element(KNOWN_NOUN, MULTIPLIERS) | ZERO_OR_MORE,
+			keyword(Keywords.QUESTION_MARK)
+		};
+		FORMS[HOW_MANY] = new int[] {
+			keyword(Keywords.HOW),
+			keyword(Keywords.MANY),
+			element(keyword(Keywords.CREDITS) | KNOWN_VARIABLE, UNIT),
+			keyword(Keywords.IS),
+			element(KNOWN_NOUN, MULTIPLIERS) | ZERO_OR_MORE,
+			element(KNOWN_VARIABLE, VARIABLE),
+			keyword(Keywords.QUESTION_MARK)
+		};
+
+		for ( int form = 0; form < FORMS_COUNT; form = form + 1 ) {
+			compile(form);
+		}
+	}
+
+	private final Map<String, ?>	aNouns;
+	private final Map<String, ?>	aVariables;
+
+	private int						aForm		= NONE;
+	private final int[]				aStarts		= new int[ROLES_COUNT];
+	private final int[]				aEnds		= new int[ROLES_COUNT];
+
+	/**
+	 * Creates a grammar without Nouns and Variables, that only matches the forms that have none of them (MAPPING)
+	 */
+	public SentenceGrammar() {
+		this(null, null);
+	}
+
+	/**
+	 * @param		pNouns			The known Nouns/Multipliers, as keys (the Map is read at each match, so it can grow)
+	 * @param		pVariables		The known Variables, as keys (the Map is read at each match, so it can grow)
+	 */
+	public SentenceGrammar(Map<String, ?> pNouns, Map<String, ?> pVariables) {
+		this.aNouns		= pNouns;
+		this.aVariables	= pVariables;
+	}
+
+	/**
+	 * This method matches the Sentence against each form of the table, in order, and keeps the spans of the first one that matches
+	 *
+	 * @param		pTokens		A Read Line Sentence, and its terms
+	 *
+	 * @return		int			The form of the Sentence (ex: MAPPING), or NONE
+	 */
+	public int classify(SentenceTokens pTokens) {
+		int response = NONE;
+
+		for ( int form = 0; response == NONE && form < FORMS_COUNT; form = form + 1 ) {
+			if ( matches(pTokens, form) ) {
+				response = form;
+			}
+		}
+
+		return response;
+	}
+
+	/**
+	 * @param		pTokens		A Read Line Sentence, and its terms
+	 * @param		pForm		A form of Sentence (ex: HOW_MUCH)
+	 *
+	 * @return		boolean		Indicates if the Sentence has this form. If it has, its spans are kept until the next match
+	 */
+	public boolean matches(SentenceTokens pTokens, int pForm) {
+		int[] elements	= FORMS[pForm];
+		int repeated	= REPEATED_INDEX[pForm];
+		int size		= pTokens.size();
+
+		Arrays.fill(this.aStarts, NONE);
+		Arrays.fill(this.aEnds, NONE);
+		this.aForm = NONE;
+
+		boolean response = repeated == NONE ? size == elements.length : size >= MINIMUM_SIZE[pForm];
+
+		/*
+		 * The terms before the repeated element, and the terms after it, that are matched from the last term, are the keywords that reject
+		 * most of the Sentences without creating any String. So they are matched before the repeated terms, between them
+		 */
+		int prefixEnd	= repeated == NONE ? elements.length : repeated;
+		int suffixStart	= repeated == NONE ? size : size - (elements.length - repeated - 1);
+		response =
+			response																	&&
+			matchesTerms(pTokens, 0, prefixEnd, elements, 0, 1)						&&
+			matchesTerms(pTokens, suffixStart, size, elements, repeated + 1, 1)		&&
+			matchesTerms(pTokens, prefixEnd, suffixStart, elements, repeated, 0);
+
+		if ( response ) {
+			this.aForm = pForm;
+
+			// An empty repetition still has its span, at its position
+			if ( repeated != NONE && suffixStart == prefixEnd ) {
+				int role = getRole(elements[repeated]);
+				this.aStarts[role]	= prefixEnd;
+				this.aEnds[role]	= prefixEnd;
+			}
+		}
+
+		return response;
+	}
+
+	/**
+	 * @return	int		The form of the last matched Sentence, or NONE if the last match failed
+	 */
+	public int getForm() {
+		return this.aForm;
+	}
+
+	/**
+	 * @param		pRole		A role of the terms (ex: MULTIPLIERS)
+	 *
+	 * @return		int			The index of the first term with this role in the last matched Sentence, or NONE
+	 */
+	public int getStart(int pRole) {
+		return this.aStarts[pRole];
+	}
+
+	/**
+	 * @param		pRole		A role of the terms (ex: MULTIPLIERS)
+	 *
+	 * @return		int			The index after the last term with this role in the last matched Sentence, or NONE
+	 */
+	public int getEnd(int pRole) {
+		return this.aEnds[pRole];
+	}
+
+	/**
+	 * @param		pRole		A role of a single term (ex: VARIABLE)
+	 *
+	 * @return		int			The index of the term with this role in the last matched Sentence, or NONE
+	 */
+	public int getIndex(int pRole) {
+		return getStart(pRole);
+	}
+
+	/**
+	 * This method tests the terms from		pFirstIndex		and before		pEndIndex		, against the elements from		pFirstElement		,
+	 * moving		pElementStep		elements at each term (0 for the repeated element)
+	 */
+	private boolean matchesTerms(SentenceTokens pTokens, int pFirstIndex, int pEndIndex, int[] pElements, int pFirstElement, int pElementStep) {
+		boolean response = true;
+
+		int element = pFirstElement;
+		for ( int index = pFirstIndex; response && index < pEndIndex; index = index + 1 ) {
+			response = isAccepted(pTokens, index, pElements[element]);
+			if ( response ) {
+				setSpan(pElements[element], index);
+			}
+
+			element = element + pElementStep;
+		}
+
+		return response;
+	}
+
+	/**
+	 * This method tests a term against the kinds accepted by an element, from the cheapest test to the ones that need the term as a String
+	 */
+	private boolean isAccepted(SentenceTokens pTokens, int pIndex, int pElement) {
+		int kinds		= pElement & KINDS_MASK;
+		int keyword		= pTokens.getKeyword(pIndex);
+		boolean response = ( kinds & ANY ) != 0;
+
+		if ( !response && keyword != Keywords.NONE ) {
+			response =
+				( kinds & keyword(keyword) ) != 0		||
+				( ( kinds & exact(keyword) ) != 0 && pTokens.isExactKeyword(pIndex, keyword) );
+		}
+
+		if ( !response && ( kinds & ROMAN ) != 0 ) {
+			response = pTokens.getLength(pIndex) == 1 && CharClasses.isRoman( pTokens.charAt(pIndex, 0) );
+		}
+
+		if ( !response && ( kinds & NUMBER ) != 0 ) {
+			response = NumericParser.isValid( pTokens.parseInt(pIndex) );
+		}
+
+		if ( !response && ( kinds & KNOWN_NOUN ) != 0 ) {
+			response = this.aNouns != null && this.aNouns.containsKey( pTokens.get(pIndex) );
+		}
+
+		if ( !response && ( kinds & KNOWN_VARIABLE ) != 0 ) {
+			response = this.aVariables != null && this.aVariables.containsKey( pTokens.get(pIndex) );
+		}
+
+		return response;
+	}
+
+	private void setSpan(int pElement, int pIndex) {
+		int role = getRole(pElement);
+
+		if ( role != NONE ) {
+			if ( this.aStarts[role] == NONE ) {
+				this.aStarts[role] = pIndex;
+			}
+			this.aEnds[role] = pIndex + 1;
+		}
+	}
+
+	/**
+	 * This method finds the repeated element of a form, and the least quantity of terms that it needs
+	 */
+	private static void compile(int pForm) {
+		int[] elements = FORMS[pForm];
+
+		REPEATED_INDEX[pForm]	= NONE;
+		MINIMUM_SIZE[pForm]		= elements.length;
+		for ( int index = 0; index < elements.length; index = index + 1 ) {
+			if ( ( elements[index] & (ZERO_OR_MORE | ONE_OR_MORE) ) != 0 ) {
+				if ( REPEATED_INDEX[pForm] != NONE ) {
+					throw new IllegalStateException("The form " + pForm + " has more than one repeated element");
+				}
+
+				REPEATED_INDEX[pForm] = index;
+				if ( ( elements[index] & ZERO_OR_MORE ) != 0 ) {
+					MINIMUM_SIZE[pForm] = elements.length - 1;
+				}
+			}
+		}
+	}
+
+	private static int element(int pKinds, int pRole) {
+		return pKinds | ( (pRole + 1) << ROLE_SHIFT );
+	}
+
+	private static int getRole(int pElement) {
+		return ( (pElement >> ROLE_SHIFT) & ROLE_MASK ) - 1;
+	}
+
+	private static int keyword(int pKeyword) {
+		return 1 << pKeyword;
+	}
+
+	private static int exact(int pKeyword) {
+		return 1 << (EXACT_SHIFT + pKeyword);
+	}
+
+}
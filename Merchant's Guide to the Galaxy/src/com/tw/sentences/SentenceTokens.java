@@ -0,0 +1,209 @@
+package com.tw.sentences;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.tw.utils.Keywords;
+import com.tw.utils.NumericParser;
+import com.tw.utils.Tokenizer;
+import com.tw.utils.Utils;
+
+/**
+ * This class is a Read Line Sentence split in its terms only once, so the classification, the validation and the evaluation of the Sentence
+ * (see SentenceProcessor.processInputLineRead()) share the same terms, instead of splitting the line again at each step.
+ *
+ * The terms are the tokens of a Tokenizer: the line split by white spaces, without empty terms. Each term is recognized once, when the line is split,
+ * as a keyword id of Keywords (isKeyword() and isExactKeyword()), so the classifiers compare ints, and the numbers are parsed in place (parseInt()),
+ * without creating any String.
+ * A term becomes a String only when it is asked by get(), as a key of the Nouns and Variables Maps, and then it is kept for the next calls.
+ *
+ * A SentenceTokens can be reused by tokenize(), for the next line, by a single thread.
+ *
+ * Example:
+ * 		how many Credits is glob prok Silver ?		gives		[how, many, Credits, is, glob, prok, Silver, ?]
+ */
+public class SentenceTokens {
+
+	private String				aLine;
+	private final Tokenizer		aTokenizer	= new Tokenizer();
+	private String[]			aStrings	= new String[0];
+	private int[]				aKeywords	= new int[0];
+
+	/**
+	 * Creates the tokens of no line, to be reused by tokenize()
+	 */
+	public SentenceTokens() {
+		this(null);
+	}
+
+	/**
+	 * @param		pLine		A Read Line Sentence
+	 */
+	public SentenceTokens(String pLine) {
+		tokenize(pLine);
+	}
+
+	/**
+	 * This method splits a new line, replacing the terms of the previous one
+	 *
+	 * @param		pLine				A Read Line Sentence
+	 *
+	 * @return		SentenceTokens		This same instance
+	 */
+	public SentenceTokens tokenize(String pLine) {
+		this.aLine = pLine;
+
+		int count = this.aTokenizer.tokenize(pLine);
+		if ( this.aStrings.length < count ) {
+			this.aStrings	= new String[count];
+			this.aKeywords	= new int[count];
+		} else {
+			Arrays.fill(this.aStrings, 0, count, null);
+		}
+
+		for ( int index = 0; index < count; index = index + 1 ) {
+			this.aKeywords[index] = Keywords.recognize( pLine, this.aTokenizer.getStart(index), this.aTokenizer.getEnd(index) );
+		}
+
+		return this;
+	}
+
+	/**
+	 * @return	String		The original Read Line Sentence
+	 */
+	public String getLine() {
+		return this.aLine;
+	}
+
+	/**
+	 * @return	int		The quantity of terms, 0 if the line is null or empty
+	 */
+	public int size() {
+		return this.aTokenizer.getCount();
+	}
+
+	/**
+	 * @param		pIndex		The index of the term, from the first one
+	 *
+	 * @return		String		The term
+	 */
+	public String get(int pIndex) {
+		String response = this.aTokenizer.getCount() > pIndex && pIndex >= 0 ? this.aStrings[pIndex] : null;
+
+		if ( response == null ) {
+			response = this.aTokenizer.getString(pIndex);
+			this.aStrings[pIndex] = response;
+		}
+
+		return response;
+	}
+
+	/**
+	 * @param		pPosition		The position of the term, from the last one (0 is the last one)
+	 *
+	 * @return		String			The term
+	 */
+	public String getFromEnd(int pPosition) {
+		return get( getIndexFromEnd(pPosition) );
+	}
+
+	/**
+	 * @param		pPosition		The position of the term, from the last one (0 is the last one)
+	 *
+	 * @return		int				The index of the term, from the first one
+	 */
+	public int getIndexFromEnd(int pPosition) {
+		return size() - 1 - pPosition;
+	}
+
+	/**
+	 * @param		pIndex		The index of the term
+	 *
+	 * @return		int			The quantity of characters of the term
+	 */
+	public int getLength(int pIndex) {
+		return this.aTokenizer.getLength(pIndex);
+	}
+
+	/**
+	 * @param		pIndex			The index of the term
+	 * @param		pPosition		The position of the character in the term
+	 *
+	 * @return		char			The character
+	 */
+	public char charAt(int pIndex, int pPosition) {
+		return this.aTokenizer.charAt(pIndex, pPosition);
+	}
+
+	/**
+	 * @param		pIndex		The index of the term
+	 *
+	 * @return		int			The id of the keyword of the term, ignoring the case, or Keywords.NONE
+	 */
+	public int getKeyword(int pIndex) {
+		checkIndex(pIndex);
+
+		return Keywords.getId( this.aKeywords[pIndex] );
+	}
+
+	/**
+	 * @param		pIndex			The index of the term
+	 * @param		pKeyword		The id of a keyword (ex: Keywords.HOW)
+	 *
+	 * @return		boolean			Indicates if the term is the keyword, ignoring the case (ex: "how", "How" or "HOW")
+	 */
+	public boolean isKeyword(int pIndex, int pKeyword) {
+		return getKeyword(pIndex) == pKeyword;
+	}
+
+	/**
+	 * @param		pIndex			The index of the term
+	 * @param		pKeyword		The id of a keyword (ex: Keywords.IS)
+	 *
+	 * @return		boolean			Indicates if the term is the keyword, with exactly its case (ex: "is", but not "Is")
+	 */
+	public boolean isExactKeyword(int pIndex, int pKeyword) {
+		checkIndex(pIndex);
+
+		return this.aKeywords[pIndex] == ( pKeyword | Keywords.EXACT_CASE );
+	}
+
+	/**
+	 * @param		pIndex		The index of the term
+	 *
+	 * @return		long		The Integer value of the term, or NumericParser.INVALID
+	 */
+	public long parseInt(int pIndex) {
+		return NumericParser.parseInt( this.aTokenizer.getCharacters(), this.aTokenizer.getStart(pIndex), this.aTokenizer.getEnd(pIndex) );
+	}
+
+	/**
+	 * @return	List		The terms of the Sentence, as Utils.split() gives them: null if the line is null or empty
+	 */
+	public List<String> getTerms() {
+		List<String> response = null;
+
+		if ( Utils.isStringValid(this.aLine) ) {
+			String[] terms = new String[size()];
+			for ( int index = 0; index < terms.length; index = index + 1 ) {
+				terms[index] = get(index);
+			}
+
+			response = Arrays.asList(terms);
+		}
+
+		return response;
+	}
+
+	private void checkIndex(int pIndex) {
+		if ( pIndex < 0 || pIndex >= size() ) {
+			throw new IndexOutOfBoundsException("Term " + pIndex + " of " + size());
+		}
+	}
+
+	@Override
+	public String toString() {
+		return String.valueOf( getTerms() );
+	}
+
+}
@@ -0,0 +1,188 @@
+package com.tw.utils;
+
+import static com.tw.utils.Constants.*;
+
+import java.util.Arrays;
+
+/**
+ * This class classifies characters by static tables, so each check is a single array access, instead of a chain of comparisons.
+ *
+ * Each character has a bitmask of the classes that it belongs to:
+ * 		ROMAN			One of the seven Roman Symbols: I, V, X, L, C, D and M
+ * 		DIGIT			A decimal digit, in any script, as Character.isDigit()
+ * 		SEPARATOR		A white space, as Character.isWhitespace() (space, tab, new line, etc)
+ * 		PUNCTUATION		A punctuation mark, as the punctuation categories of Character.getType() (like '?')
+ * 		SIGN			The signs of a number: '+' and '-'
+ *
+ * The ASCII characters are in a table indexed by the character itself. All the others are in a compact table of ranges,
+ * built in a single pass when this class is loaded, where the consecutive characters with the same classes are kept together, and found by a binary search.
+ */
+public class CharClasses {
+
+	public static final int ROMAN		= 1;
+	public static final int DIGIT		= 1 << 1;
+	public static final int SEPARATOR	= 1 << 2;
+	public static final int PUNCTUATION	= 1 << 3;
+	public static final int SIGN		= 1 << 4;
+
+	private static final int ASCII_SIZE = 128;
+
+	/**
+	 * The classes of each ASCII character
+	 */
+	private static final byte[] ASCII_CLASSES = new byte[ASCII_SIZE];
+
+	/**
+	 * The ranges of non ASCII characters: the first character of each range, and its classes. A range ends where the next one starts.
+	 */
+	private static final char[]	RANGE_STARTS;
+	private static final byte[]	RANGE_CLASSES;
+
+	static {
+		for ( char character = 0; character < ASCII_SIZE; character = (char) (character + 1) ) {
+			ASCII_CLASSES[character] = (byte) computeClasses(character);
+		}
+
+		char[] romans = { I, V, X, L, C, D, M };
+		for ( char roman : romans ) {
+			ASCII_CLASSES[roman] = (byte) (ASCII_CLASSES[roman] | ROMAN);
+		}
+
+		// The ranges are kept as they are found, in arrays that grow when they are full
+		int ranges = 0;
+		char[] rangeStarts = new char[16];
+		byte[] rangeClasses = new byte[16];
+		int previousClasses = -1;
+		for ( int character = ASCII_SIZE; character <= Character.MAX_VALUE; character = character + 1 ) {
+			int classes = computeClasses( (char) character );
+			if ( classes != previousClasses ) {
+				if ( ranges == rangeStarts.length ) {
+					rangeStarts		= Arrays.copyOf(rangeStarts, ranges * 2);
+					rangeClasses	= Arrays.copyOf(rangeClasses, ranges * 2);
+				}
+				rangeStarts[ranges]		= (char) character;
+				rangeClasses[ranges]	= (byte) classes;
+				ranges = ranges + 1;
+				previousClasses = classes;
+			}
+		}
+
+		RANGE_STARTS	= Arrays.copyOf(rangeStarts, ranges);
+		RANGE_CLASSES	= Arrays.copyOf(rangeClasses, ranges);
+	}
+
+	/**
+	 * @param		pCharacter		Any character
+	 *
+	 * @return		int				The bitmask of the classes of the character
+	 */
+	public static int getClasses(char pCharacter) {
+		int response;
+
+		if ( pCharacter < ASCII_SIZE ) {
+			response = ASCII_CLASSES[pCharacter];
+		} else {
+			response = RANGE_CLASSES[ findRange(pCharacter) ];
+		}
+
+		return response;
+	}
+
+	/**
+	 * @param		pCharacter		Any character
+	 * @param		pClasses		A bitmask of classes (ex: DIGIT | SIGN)
+	 *
+	 * @return		boolean			Indicates if the character belongs to at least one of the classes
+	 */
+	public static boolean is(char pCharacter, int pClasses) {
+		return ( getClasses(pCharacter) & pClasses ) != 0;
+	}
+
+	public static boolean isRoman(char pCharacter) {
+		return is(pCharacter, ROMAN);
+	}
+
+	public static boolean isDigit(char pCharacter) {
+		return is(pCharacter, DIGIT);
+	}
+
+	public static boolean isSeparator(char pCharacter) {
+		return is(pCharacter, SEPARATOR);
+	}
+
+	public static boolean isPunctuation(char pCharacter) {
+		return is(pCharacter, PUNCTUATION);
+	}
+
+	/**
+	 * This method checks if all the characters of		pCharacters		belong to the classes
+	 *
+	 * @param		pCharacters		Any characters
+	 * @param		pClasses		A bitmask of classes
+	 *
+	 * @return		boolean			Indicates if		pCharacters		is not empty, and each character belongs to at least one of the classes
+	 */
+	public static boolean isAll(CharSequence pCharacters, int pClasses) {
+		boolean response = pCharacters != null && pCharacters.length() > 0;
+
+		for ( int index = 0; response && index < pCharacters.length(); index = index + 1 ) {
+			response = is(pCharacters.charAt(index), pClasses);
+		}
+
+		return response;
+	}
+
+	/**
+	 * @return	int		The index of the last range that starts at, or before,		pCharacter
+	 */
+	private static int findRange(char pCharacter) {
+		int low = 0;
+		int high = RANGE_STARTS.length - 1;
+
+		while ( low < high ) {
+			int middle = (low + high + 1) >>> 1;
+
+			if ( RANGE_STARTS[middle] <= pCharacter ) {
+				low = middle;
+			} else {
+				high = middle - 1;
+			}
+		}
+
+		return low;
+	}
+
+	/**
+	 * This method computes the classes given by the Character methods, that are the same for every script
+	 */
+	private static int computeClasses(char pCharacter) {
+		int response = 0;
+
+		if ( Character.isDigit(pCharacter) ) {
+			response = response | DIGIT;
+		}
+		if ( Character.isWhitespace(pCharacter) ) {
+			response = response | SEPARATOR;
+		}
+		if ( isPunctuationType( Character.getType(pCharacter) ) ) {
+			response = response | PUNCTUATION;
+		}
+		if ( pCharacter == '+' || pCharacter == '-' ) {
+			response = response | SIGN;
+		}
+
+		return response;
+	}
+
+	private static boolean isPunctuationType(int pType) {
+		return
+			pType == Character.CONNECTOR_PUNCTUATION	||
+			pType == Character.DASH_PUNCTUATION			||
+			pType == Character.START_PUNCTUATION		||
+			pType == Character.END_PUNCTUATION			||
+			pType == Character.INITIAL_QUOTE_PUNCTUATION	||
+			pType == Character.FINAL_QUOTE_PUNCTUATION	||
+			pType == Character.OTHER_PUNCTUATION;
+	}
+
+}
@@ -27,4 +27,5 @@ public class Constants {
 	
 	// Numbers
 	public static final BigDecimal ONE_BIG_DECIMAL = new BigDecimal(1);
+	public static final int MAXIMUM_ROMAN_VALUE = 3999;
 }
\ No newline at end of file
@@ -0,0 +1,241 @@
+package com.tw.utils;
+
+/**
+ * This class recognizes the keywords of the Sentences (how, much, many, is, Credits, Credit and ?) in a token, giving a small int id instead of a String,
+ * so the grammar of the Sentences compares ints, instead of comparing each token with each keyword.
+ *
+ * The recognition is a perfect hash: the length, the first and the last characters of the token, folded to lowercase, give a single slot of a table,
+ * where at most one keyword can be. So a token that is not a keyword is rejected by its length, or by an empty slot, and only the keyword of its slot
+ * is compared with it, character by character.
+ *
+ * The result of recognize() has the id of the keyword, ignoring the case as String.equalsIgnoreCase() does, and the EXACT_CASE flag when the token has
+ * exactly the case of the keyword (ex: "is" is IS | EXACT_CASE, "Is" is only IS), so each rule of the grammar can keep its own case rule.
+ * The ASCII tokens, that are the common case, are folded by a table. A token with any non ASCII character (ex: U+0130, the dotted I, that is "i" ignoring the case)
+ * is compared by String.regionMatches(), with the same results.
+ *
+ * The question mark is the only keyword that is not made of letters: a token of a single punctuation character (CharClasses.PUNCTUATION) is compared
+ * with it directly, without the hash.
+ */
+public class Keywords {
+
+	public static final int NONE			= 0;
+	public static final int HOW				= 1;
+	public static final int MUCH			= 2;
+	public static final int MANY			= 3;
+	public static final int IS				= 4;
+	public static final int CREDITS			= 5;
+	public static final int CREDIT			= 6;
+	public static final int QUESTION_MARK	= 7;
+	public static final int KEYWORDS_COUNT	= 8;
+
+	/**
+	 * Added to the id of the keyword, when the token has exactly its case
+	 */
+	public static final int EXACT_CASE		= 1 << 3;
+	private static final int ID_MASK		= EXACT_CASE - 1;
+
+	private static final String[] KEYWORDS = {
+		null, Constants.HOW, Constants.MUCH, Constants.MANY, Constants.IS, Constants.CREDITS, Constants.CREDIT, Constants.QUESTION_MARK
+	};
+
+	private static final char QUESTION_MARK_CHARACTER = Constants.QUESTION_MARK.charAt(0);
+
+	private static final int ASCII_SIZE		= 128;
+	private static final int TABLE_BITS		= 4;
+	private static final int TABLE_SIZE		= 1 << TABLE_BITS;
+	private static final int TABLE_MASK		= TABLE_SIZE - 1;
+
+	/**
+	 * The lowercase of each ASCII character
+	 */
+	private static final char[]		FOLDED			= new char[ASCII_SIZE];
+
+	/**
+	 * The keyword of each slot of the perfect hash, or NONE
+	 */
+	private static final byte[]		TABLE			= new byte[TABLE_SIZE];
+
+	private static final char[][]	FOLDED_KEYWORDS	= new char[KEYWORDS_COUNT][];
+	private static final int		MAXIMUM_LENGTH;
+	private static final int		MULTIPLIER;
+
+	static {
+		for ( char character = 0; character < ASCII_SIZE; character = (char) (character + 1) ) {
+			FOLDED[character] = Character.toLowerCase(character);
+		}
+
+		int maximumLength = 0;
+		for ( int keyword = HOW; keyword < KEYWORDS_COUNT; keyword = keyword + 1 ) {
+			FOLDED_KEYWORDS[keyword] = KEYWORDS[keyword].toCharArray();
+			for ( int index = 0; index < FOLDED_KEYWORDS[keyword].length; index = index + 1 ) {
+				FOLDED_KEYWORDS[keyword][index] = FOLDED[ FOLDED_KEYWORDS[keyword][index] ];
+			}
+			maximumLength = Math.max( maximumLength, KEYWORDS[keyword].length() );
+		}
+		MAXIMUM_LENGTH = maximumLength;
+
+		MULTIPLIER = findMultiplier();
+		for ( int keyword = HOW; keyword < KEYWORDS_COUNT; keyword = keyword + 1 ) {
+			TABLE[ hash(FOLDED_KEYWORDS[keyword]) ] = (byte) keyword;
+		}
+	}
+
+	/**
+	 * @param		pCharacters		The characters of a token
+	 *
+	 * @return		int				The id of the keyword, with EXACT_CASE if it has exactly its case, or NONE
+	 */
+	public static int recognize(CharSequence pCharacters) {
+		return pCharacters == null ? NONE : recognize( pCharacters, 0, pCharacters.length() );
+	}
+
+	/**
+	 * @param		pCharacters		Any characters
+	 * @param		pStart			The index of the first character of the token
+	 * @param		pEnd			The index after the last character of the token
+	 *
+	 * @return		int				The id of the keyword, with EXACT_CASE if it has exactly its case, or NONE
+	 */
+	public static int recognize(CharSequence pCharacters, int pStart, int pEnd) {
+		int response = NONE;
+
+		int length = pEnd - pStart;
+		if ( length > 0 && length <= MAXIMUM_LENGTH ) {
+			char first	= pCharacters.charAt(pStart);
+			char last	= pCharacters.charAt(pEnd - 1);
+
+			if ( length == 1 && CharClasses.isPunctuation(first) ) {
+				response = first == QUESTION_MARK_CHARACTER ? QUESTION_MARK | EXACT_CASE : NONE;
+			} else if ( first < ASCII_SIZE && last < ASCII_SIZE ) {
+				int keyword = TABLE[ hash(FOLDED[first], FOLDED[last], length) ];
+
+				if ( keyword != NONE ) {
+					response = compare(keyword, pCharacters, pStart, length);
+				}
+			} else {
+				response = recognizeByRegionMatches(pCharacters, pStart, pEnd);
+			}
+		}
+
+		return response;
+	}
+
+	/**
+	 * @param		pRecognized		A result of recognize()
+	 *
+	 * @return		int				The id of the keyword, ignoring the case, or NONE
+	 */
+	public static int getId(int pRecognized) {
+		return pRecognized & ID_MASK;
+	}
+
+	/**
+	 * @param		pRecognized		A result of recognize()
+	 *
+	 * @return		boolean			Indicates if the token is a keyword, with exactly its case
+	 */
+	public static boolean isExactCase(int pRecognized) {
+		return ( pRecognized & EXACT_CASE ) != 0;
+	}
+
+	/**
+	 * @param		pKeyword		The id of a keyword
+	 *
+	 * @return		String			The keyword, as it is in the Constants (ex: "Credits")
+	 */
+	public static String getKeyword(int pKeyword) {
+		return KEYWORDS[pKeyword];
+	}
+
+	/**
+	 * This method compares the token with the only keyword that it can be
+	 */
+	private static int compare(int pKeyword, CharSequence pCharacters, int pStart, int pLength) {
+		int response = NONE;
+
+		char[] foldedKeyword	= FOLDED_KEYWORDS[pKeyword];
+		String keyword			= KEYWORDS[pKeyword];
+		if ( foldedKeyword.length == pLength ) {
+			boolean isFolded	= true;
+			boolean isExact		= true;
+			boolean isAscii		= true;
+
+			for ( int index = 0; isFolded && isAscii && index < pLength; index = index + 1 ) {
+				char character = pCharacters.charAt(pStart + index);
+
+				isAscii		= character < ASCII_SIZE;
+				isFolded	= isAscii && FOLDED[character] == foldedKeyword[index];
+				isExact		= isExact && character == keyword.charAt(index);
+			}
+
+			if ( !isAscii ) {
+				response = recognizeByRegionMatches(pCharacters, pStart, pStart + pLength);
+			} else if ( isFolded ) {
+				response = isExact ? pKeyword | EXACT_CASE : pKeyword;
+			}
+		}
+
+		return response;
+	}
+
+	/**
+	 * This method compares a token that has non ASCII characters with each keyword, as String.equalsIgnoreCase() does
+	 */
+	private static int recognizeByRegionMatches(CharSequence pCharacters, int pStart, int pEnd) {
+		int response = NONE;
+
+		String token = pCharacters.subSequence(pStart, pEnd).toString();
+		for ( int keyword = HOW; response == NONE && keyword < KEYWORDS_COUNT; keyword = keyword + 1 ) {
+			String keywordString = KEYWORDS[keyword];
+
+			if ( keywordString.length() == token.length() && token.regionMatches(true, 0, keywordString, 0, token.length()) ) {
+				response = token.equals(keywordString) ? keyword | EXACT_CASE : keyword;
+			}
+		}
+
+		return response;
+	}
+
+	private static int hash(char[] pFoldedKeyword) {
+		return hash( pFoldedKeyword[0], pFoldedKeyword[pFoldedKeyword.length - 1], pFoldedKeyword.length );
+	}
+
+	private static int hash(char pFirst, char pLast, int pLength) {
+		return hash(pFirst, pLast, pLength, MULTIPLIER);
+	}
+
+	private static int hash(char pFirst, char pLast, int pLength, int pMultiplier) {
+		return ( pFirst + pLast * pMultiplier + pLength ) & TABLE_MASK;
+	}
+
+	/**
+	 * This method finds the first multiplier that gives a different slot to each keyword, what makes the hash perfect
+	 */
+	private static int findMultiplier() {
+		int response = 0;
+
+		for ( int multiplier = 1; response == 0 && multiplier < TABLE_SIZE * TABLE_SIZE; multiplier = multiplier + 1 ) {
+			boolean[] used = new boolean[TABLE_SIZE];
+			boolean isPerfect = true;
+
+			for ( int keyword = HOW; isPerfect && keyword < KEYWORDS_COUNT; keyword = keyword + 1 ) {
+				char[] folded = FOLDED_KEYWORDS[keyword];
+				int slot = hash( folded[0], folded[folded.length - 1], folded.length, multiplier );
+
+				isPerfect = !used[slot];
+				used[slot] = true;
+			}
+
+			if ( isPerfect ) {
+				response = multiplier;
+			}
+		}
+
+		if ( response == 0 ) {
+			throw new IllegalStateException("There is no perfect hash for the keywords in " + TABLE_SIZE + " slots");
+		}
+
+		return response;
+	}
+
+}
@@ -0,0 +1,109 @@
+package com.tw.utils;
+
+/**
+ * This class parses Integers by scanning its characters, without throwing any Exception.
+ *
+ * It accepts exactly what Integer.parseInt() accepts: an optional sign (+ or -) followed by at least one decimal digit
+ * (any Unicode decimal digit, as Character.digit() does), with a value inside the Integer range.
+ *
+ * The value and the validity are given together, in a single long:
+ * 		- a valid Integer is returned as it is, once any int fits in a long
+ * 		- anything else is returned as INVALID, that is out of the Integer range
+ */
+public class NumericParser {
+
+	/**
+	 * Returned when the characters are not a valid Integer
+	 */
+	public static final long INVALID = Long.MIN_VALUE;
+
+	private static final int RADIX = 10;
+
+	/**
+	 * This method parses an Integer
+	 *
+	 * @param		pCharacters		The characters to be parsed
+	 *
+	 * @return		long			The Integer value, or INVALID
+	 */
+	public static long parseInt(CharSequence pCharacters) {
+		long response = INVALID;
+
+		if ( pCharacters != null ) {
+			response = parseInt(pCharacters, 0, pCharacters.length());
+		}
+
+		return response;
+	}
+
+	/**
+	 * This method parses an Integer from a part of the characters, so a token can be parsed without extracting it
+	 *
+	 * @param		pCharacters		The characters to be parsed
+	 * @param		pStart			The index of the first character
+	 * @param		pEnd			The index after the last character
+	 *
+	 * @return		long			The Integer value, or INVALID
+	 */
+	public static long parseInt(CharSequence pCharacters, int pStart, int pEnd) {
+		long response = INVALID;
+
+		int index = pStart;
+		boolean isNegative = false;
+		if ( index < pEnd ) {
+			char firstCharacter = pCharacters.charAt(index);
+			if ( CharClasses.is(firstCharacter, CharClasses.SIGN) ) {
+				isNegative = firstCharacter == '-';
+				index = index + 1;
+			}
+		}
+
+		if ( index < pEnd ) {
+			// The value is accumulated as a positive long, that cannot overflow before it leaves the Integer range
+			long value = 0;
+			long limit = isNegative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+
+			for ( ; index < pEnd && value <= limit; index = index + 1 ) {
+				int digit = getDigit( pCharacters.charAt(index) );
+
+				if ( digit < 0 ) {
+					value = limit + 1;
+				} else {
+					value = value * RADIX + digit;
+				}
+			}
+
+			if ( value <= limit ) {
+				response = isNegative ? -value : value;
+			}
+		}
+
+		return response;
+	}
+
+	/**
+	 * @param		pResult		A result of parseInt()
+	 *
+	 * @return		boolean		Indicates if		pResult		is an Integer value
+	 */
+	public static boolean isValid(long pResult) {
+		return pResult != INVALID;
+	}
+
+	/**
+	 * @param		pCharacter		A character
+	 *
+	 * @return		int				The value of the decimal digit, or -1 if		pCharacter		is not a decimal digit
+	 */
+	public static int getDigit(char pCharacter) {
+		int response = -1;
+
+		if ( CharClasses.isDigit(pCharacter) ) {
+			// The ASCII digits, that are the common case, are the only ones up to '9'
+			response = pCharacter <= '9' ? pCharacter - '0' : Character.digit(pCharacter, RADIX);
+		}
+
+		return response;
+	}
+
+}
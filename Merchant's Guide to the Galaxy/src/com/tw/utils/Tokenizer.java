@@ -0,0 +1,198 @@
+package com.tw.utils;
+
+import java.nio.CharBuffer;
+
+/**
+ * This class splits characters in tokens, separated by white spaces (CharClasses.SEPARATOR: spaces, tabs, etc), scanning them only once.
+ * A run of separators is a single separation, so there are never empty tokens, even with separators at the start or at the end.
+ *
+ * The start and the end of each token are kept in an int array, that is reused by the next tokenize(), so a Tokenizer allocates nothing
+ * once its array has grown to the line with most tokens. The tokens are read by their indexes:
+ * 		- as offsets in the characters (getStart() and getEnd()), to be parsed in place (ex: NumericParser.parseInt(CharSequence, int, int))
+ * 		- compared with a String, character by character (equals() and equalsIgnoreCase())
+ * 		- as a CharSequence view of the characters (getToken()), or as a new String (getString()), only when it is needed
+ *
+ * Example:
+ * 		"how  much\tis glob ?"		gives		[how, much, is, glob, ?]
+ *
+ * As it is reused, a Tokenizer must be used by a single thread.
+ */
+public class Tokenizer {
+
+	private static final int INITIAL_TOKENS = 16;
+
+	private CharSequence	aCharacters	= "";
+	private int[]			aOffsets	= new int[INITIAL_TOKENS * 2];
+	private int				aCount;
+
+	/**
+	 * This method splits the characters in tokens, replacing the tokens of the previous characters
+	 *
+	 * @param		pCharacters		The characters to be split (null is the same of no characters)
+	 *
+	 * @return		int				The quantity of tokens
+	 */
+	public int tokenize(CharSequence pCharacters) {
+		this.aCharacters	= pCharacters == null ? "" : pCharacters;
+		this.aCount			= 0;
+
+		int length = this.aCharacters.length();
+		int index = 0;
+		while ( index < length ) {
+			while ( index < length && CharClasses.isSeparator(this.aCharacters.charAt(index)) ) {
+				index = index + 1;
+			}
+
+			if ( index < length ) {
+				int start = index;
+				while ( index < length && !CharClasses.isSeparator(this.aCharacters.charAt(index)) ) {
+					index = index + 1;
+				}
+
+				addToken(start, index);
+			}
+		}
+
+		return this.aCount;
+	}
+
+	/**
+	 * @return	CharSequence	The characters of the last tokenize()
+	 */
+	public CharSequence getCharacters() {
+		return this.aCharacters;
+	}
+
+	/**
+	 * @return	int		The quantity of tokens
+	 */
+	public int getCount() {
+		return this.aCount;
+	}
+
+	/**
+	 * @param		pIndex		The index of the token
+	 *
+	 * @return		int			The index of the first character of the token
+	 */
+	public int getStart(int pIndex) {
+		checkIndex(pIndex);
+
+		return this.aOffsets[pIndex * 2];
+	}
+
+	/**
+	 * @param		pIndex		The index of the token
+	 *
+	 * @return		int			The index after the last character of the token
+	 */
+	public int getEnd(int pIndex) {
+		checkIndex(pIndex);
+
+		return this.aOffsets[pIndex * 2 + 1];
+	}
+
+	/**
+	 * @param		pIndex		The index of the token
+	 *
+	 * @return		int			The quantity of characters of the token
+	 */
+	public int getLength(int pIndex) {
+		return getEnd(pIndex) - getStart(pIndex);
+	}
+
+	/**
+	 * @param		pIndex			The index of the token
+	 * @param		pPosition		The position of the character in the token
+	 *
+	 * @return		char			The character
+	 */
+	public char charAt(int pIndex, int pPosition) {
+		if ( pPosition < 0 || pPosition >= getLength(pIndex) ) {
+			throw new IndexOutOfBoundsException("Position " + pPosition + " of the token " + pIndex);
+		}
+
+		return this.aCharacters.charAt( getStart(pIndex) + pPosition );
+	}
+
+	/**
+	 * @param		pIndex		The index of the token
+	 * @param		pString		The String to be compared
+	 *
+	 * @return		boolean		Indicates if the token has the same characters of		pString
+	 */
+	public boolean equals(int pIndex, String pString) {
+		return regionMatches(pIndex, pString, false);
+	}
+
+	/**
+	 * @param		pIndex		The index of the token
+	 * @param		pString		The String to be compared
+	 *
+	 * @return		boolean		Indicates if the token has the same characters of		pString		, ignoring the case, as String.equalsIgnoreCase() does
+	 */
+	public boolean equalsIgnoreCase(int pIndex, String pString) {
+		return regionMatches(pIndex, pString, true);
+	}
+
+	/**
+	 * @param		pIndex			The index of the token
+	 *
+	 * @return		CharSequence	A view of the characters of the token, without copying them
+	 */
+	public CharSequence getToken(int pIndex) {
+		return CharBuffer.wrap( this.aCharacters, getStart(pIndex), getEnd(pIndex) );
+	}
+
+	/**
+	 * @param		pIndex		The index of the token
+	 *
+	 * @return		String		A new String with the characters of the token
+	 */
+	public String getString(int pIndex) {
+		return this.aCharacters.subSequence( getStart(pIndex), getEnd(pIndex) ).toString();
+	}
+
+	private boolean regionMatches(int pIndex, String pString, boolean pIgnoreCase) {
+		int start = getStart(pIndex);
+		boolean response = pString != null && pString.length() == getEnd(pIndex) - start;
+
+		for ( int index = 0; response && index < pString.length(); index = index + 1 ) {
+			char tokenCharacter		= this.aCharacters.charAt(start + index);
+			char stringCharacter	= pString.charAt(index);
+
+			response = tokenCharacter == stringCharacter || ( pIgnoreCase && equalsIgnoreCase(tokenCharacter, stringCharacter) );
+		}
+
+		return response;
+	}
+
+	/**
+	 * The same comparison of String.equalsIgnoreCase(), for a single character
+	 */
+	private static boolean equalsIgnoreCase(char pCharacter1, char pCharacter2) {
+		char upperCase1 = Character.toUpperCase(pCharacter1);
+		char upperCase2 = Character.toUpperCase(pCharacter2);
+
+		return upperCase1 == upperCase2 || Character.toLowerCase(upperCase1) == Character.toLowerCase(upperCase2);
+	}
+
+	private void addToken(int pStart, int pEnd) {
+		if ( this.aCount * 2 == this.aOffsets.length ) {
+			int[] offsets = new int[this.aOffsets.length * 2];
+			System.arraycopy(this.aOffsets, 0, offsets, 0, this.aOffsets.length);
+			this.aOffsets = offsets;
+		}
+
+		this.aOffsets[this.aCount * 2]		= pStart;
+		this.aOffsets[this.aCount * 2 + 1]	= pEnd;
+		this.aCount = this.aCount + 1;
+	}
+
+	private void checkIndex(int pIndex) {
+		if ( pIndex < 0 || pIndex >= this.aCount ) {
+			throw new IndexOutOfBoundsException("Token " + pIndex + " of " + this.aCount);
+		}
+	}
+
+}
@@ -2,6 +2,7 @@ package com.tw.utils;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -34,17 +35,7 @@ public class Utils {
 	 * @return	boolean		The answer if the	pNumericString	can successfully be converted to an Integer
 	 */
 	public static boolean isNumeric(String pNumericString) {
-		boolean isNumeric = false;
-		try {
-			if ( isStringValid(pNumericString) ) {
-				Integer.parseInt(pNumericString);
-				isNumeric = true;
-			}
-		} catch ( NumberFormatException nfe ) {
-			// The	pNumericString is not a Valid Integer
-		}
-		
-		return isNumeric;
+		return NumericParser.isValid( NumericParser.parseInt(pNumericString) );
 	}
 	
 	/**
@@ -60,9 +51,10 @@ public class Utils {
 	}
 	
 	/**
-	 * This method receives a String, and split it by Space (" "), giving back a List with the resulting Strings
+	 * This method receives a String, and split it by white spaces (spaces, tabs, etc), giving back a List with the resulting Strings.
+	 * A run of white spaces is a single separation, so there are no empty Strings (see Tokenizer).
 	 * 
-	 * @param		pReadLine		String to be spliced by Space (" ")
+	 * @param		pReadLine		String to be spliced by white spaces
 	 * 
 	 * @return		List with the resulting Strings
 	 */
@@ -70,27 +62,31 @@ public class Utils {
 		List<String> result = null;
 		
 		if ( isStringValid(pReadLine) ) {
-			result = split(pReadLine, " ");
+			Tokenizer tokenizer = new Tokenizer();
+			String[] terms = new String[ tokenizer.tokenize(pReadLine) ];
+			for ( int index = 0; index < terms.length; index = index + 1 ) {
+				terms[index] = tokenizer.getString(index);
+			}
+			
+			result = Arrays.asList(terms);
 		}
 		
 		return result;
 	}
 	
 	/**
-	 * This method will generate and return a Set collection, containing all the 7 Roman Numbers
+	 * The 7 Roman Numbers, built only once, as this Set cannot be changed
+	 */
+	private static final Set<Character> ROMAN_NUMERALS = Collections.unmodifiableSet( new HashSet<Character>( Arrays.asList(I, V, X, L, C, D, M) ) );
+	
+	/**
+	 * This method returns a Set collection, containing all the 7 Roman Numbers.
+	 * To check a single character, CharClasses.isRoman() does not need any Set.
 	 * 
-	 * @return	Set collection, containing all the 7 Roman Numbers
+	 * @return	Set collection, that cannot be changed, containing all the 7 Roman Numbers
 	 */
 	public static Set<Character> getRomanNumerals() {
-		Set<Character> romanValues = new HashSet<Character>();
-		romanValues.add(I);
-		romanValues.add(V);
-		romanValues.add(X);
-		romanValues.add(L);
-		romanValues.add(C);
-		romanValues.add(D);
-		romanValues.add(M);
-		return romanValues;
+		return ROMAN_NUMERALS;
 	}
 	
 	/**
@@ -120,8 +116,7 @@ public class Utils {
 		boolean response = false;
 		
 		if ( isStringValid(pString) ) {
-			response = 
-				pString.equalsIgnoreCase(QUESTION_MARK);
+			response = Keywords.getId( Keywords.recognize(pString) ) == Keywords.QUESTION_MARK;
 		}
 		
 		return response;
@@ -137,7 +132,7 @@ public class Utils {
 		boolean response = false;
 		
 		if ( isStringValid(pString) ) {
-			response = pString.equalsIgnoreCase(IS);
+			response = Keywords.getId( Keywords.recognize(pString) ) == Keywords.IS;
 		}
 		
 		return response;
@@ -153,7 +148,7 @@ public class Utils {
 		boolean response = false;
 		
 		if ( isStringValid(pString) ) {
-			response = pString.equalsIgnoreCase(MUCH);
+			response = Keywords.getId( Keywords.recognize(pString) ) == Keywords.MUCH;
 		}
 		
 		return response;
@@ -169,7 +164,7 @@ public class Utils {
 		boolean response = false;
 		
 		if ( isStringValid(pString) ) {
-			response = pString.equalsIgnoreCase(HOW);
+			response = Keywords.getId( Keywords.recognize(pString) ) == Keywords.HOW;
 		}
 		
 		return response;
@@ -0,0 +1,147 @@
+package com.tw.main;
+
+import static com.tw.main.SentenceHandlers.*;
+import static com.tw.utils.Constants.I_HAVE_NO_IDEA_WHAT_YOU_ARE_TALKING_ABOUT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.tw.math.RomanCodecs;
+import com.tw.sentences.SentenceTokens;
+import com.tw.utils.Keywords;
+
+/**
+ * The SentenceDispatcher must give each Sentence only to the handlers that declare its shape, in their order
+ */
+@FixMethodOrder(MethodSorters.JVM)
+public class SentenceDispatcherTests {
+
+	@Test
+	public void testBuiltInHandlersOfEachShape() {
+		SentenceDispatcher dispatcher = new SentenceDispatcher( SentenceHandlers.getBuiltInHandlers() );
+
+		assertEquals( Arrays.asList(MAPPING),				getHandlers(dispatcher, "glob is I") );
+		assertEquals( Arrays.asList(VALUATION),				getHandlers(dispatcher, "glob glob Silver is 34 Credits") );
+		assertEquals( Arrays.asList(HOW),					getHandlers(dispatcher, "how much is ?") );
+		assertEquals( Arrays.asList(VALUATION, HOW),		getHandlers(dispatcher, "HOW much is glob ?") );
+		assertEquals( Arrays.asList(VALUATION, HOW),		getHandlers(dispatcher, "how much is a b c d e f g h i j k l m n o p q ?") );
+		assertEquals( Arrays.asList(MAPPING),				getHandlers(dispatcher, "how much ?") );
+		assertEquals( Collections.emptyList(),				getHandlers(dispatcher, "how ?") );
+		assertEquals( Collections.emptyList(),				getHandlers(dispatcher, "") );
+	}
+
+	@Test
+	public void testRegisteredHandlersAfterTheBuiltInOnes() {
+		List<SentenceHandler> handlers = SentenceHandlers.getHandlers();
+
+		assertEquals( SentenceHandlers.getBuiltInHandlers(), handlers.subList(0, 3) );
+	}
+
+	@Test
+	public void testAddedHandler() {
+		CountingHandler howOld = new CountingHandler(Keywords.HOW, 5, 5);
+		SentenceProcessor processor = getProcessor(MAPPING, VALUATION, HOW, howOld);
+
+		processor.processInputLineRead("glob is I");
+		processor.processInputLineRead("prok is V");
+		assertEquals( 0, howOld.aCalls );
+
+		assertEquals( "glob prok is 4", processor.processInputLineRead("how much is glob prok ?") );
+		assertEquals( 0, howOld.aCalls );
+
+		assertEquals( "how old is glob ?", processor.processInputLineRead("how old is glob ?") );
+		assertEquals( 1, howOld.aCalls );
+
+		assertEquals( I_HAVE_NO_IDEA_WHAT_YOU_ARE_TALKING_ABOUT, processor.processInputLineRead("how old is glob prok ?") );
+		assertEquals( 1, howOld.aCalls );
+	}
+
+	@Test
+	public void testHandlerForAnyFirstTermAndLongSentences() {
+		CountingHandler anything = new CountingHandler(SentenceHandler.ANY_FIRST_TERM, 17, Integer.MAX_VALUE);
+		SentenceProcessor processor = getProcessor(anything);
+
+		String longSentence = "a b c d e f g h i j k l m n o p q";
+		assertEquals( longSentence, processor.processInputLineRead(longSentence) );
+		assertEquals( I_HAVE_NO_IDEA_WHAT_YOU_ARE_TALKING_ABOUT, processor.processInputLineRead("a b c d e f g h i j k l m n o p") );
+		assertEquals( 1, anything.aCalls );
+	}
+
+	@Test
+	public void testNoHandler() {
+		SentenceDispatcher dispatcher = new SentenceDispatcher( Collections.<SentenceHandler>emptyList() );
+
+		assertNull( dispatcher.dispatch(new SentenceProcessor(), new SentenceTokens("glob is I")) );
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testInvalidLeadingKeyword() {
+		new SentenceDispatcher( Arrays.<SentenceHandler>asList(new CountingHandler(Keywords.KEYWORDS_COUNT, 1, 1)) );
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testInvalidSizes() {
+		new SentenceDispatcher( Arrays.<SentenceHandler>asList(new CountingHandler(Keywords.HOW, 5, 4)) );
+	}
+
+	private static List<SentenceHandler> getHandlers(SentenceDispatcher pDispatcher, String pLine) {
+		return pDispatcher.getHandlers( new SentenceTokens(pLine) );
+	}
+
+	private static SentenceProcessor getProcessor(SentenceHandler... pHandlers) {
+		return new SentenceProcessor( RomanCodecs.getDefault(), Arrays.asList(pHandlers) );
+	}
+
+	/**
+	 * This handler answers the Sentence itself (only "how old ..." ones, if it leads by "how"), and counts its calls
+	 */
+	private static class CountingHandler implements SentenceHandler {
+
+		private final int	aLeadingKeyword;
+		private final int	aMinimumSize;
+		private final int	aMaximumSize;
+		private int			aCalls;
+
+		private CountingHandler(int pLeadingKeyword, int pMinimumSize, int pMaximumSize) {
+			this.aLeadingKeyword	= pLeadingKeyword;
+			this.aMinimumSize		= pMinimumSize;
+			this.aMaximumSize		= pMaximumSize;
+		}
+
+		@Override
+		public int getLeadingKeyword() {
+			return this.aLeadingKeyword;
+		}
+
+		@Override
+		public int getMinimumSize() {
+			return this.aMinimumSize;
+		}
+
+		@Override
+		public int getMaximumSize() {
+			return this.aMaximumSize;
+		}
+
+		@Override
+		public String handle(SentenceProcessor pProcessor, SentenceTokens pTokens) {
+			this.aCalls = this.aCalls + 1;
+
+			String response = null;
+			if ( this.aLeadingKeyword != Keywords.HOW || "old".equals(pTokens.get(1)) ) {
+				response = pTokens.getLine();
+			}
+
+			return response;
+		}
+
+	}
+
+}
@@ -828,4 +828,72 @@ public class SentenceProcessorTest {
 		assertEquals(I_HAVE_NO_IDEA_WHAT_YOU_ARE_TALKING_ABOUT, response);
 	}
 	
+	@Test
+	public void testProcessInputLineRead_TabsAndRunsOfSpaces_Valid() {
+		String response = this.aSentenceProcessor.processInputLineRead("glob\tis I");
+		assertEquals("", response);
+		
+		response = this.aSentenceProcessor.processInputLineRead("  prok  is  V ");
+		assertEquals("", response);
+		
+		response = this.aSentenceProcessor.processInputLineRead("glob\tprok  Gold is 57800\tCredits");
+		assertEquals("", response);
+		
+		response = this.aSentenceProcessor.processInputLineRead("how  many Credits\tis glob prok Gold ?");
+		assertEquals("glob prok Gold is 57800 Credits", response);
+		
+		response = this.aSentenceProcessor.processInputLineRead(" how much is glob  prok ?\t");
+		assertEquals("glob prok is 4", response);
+	}
+	
+	/**
+	 * Unknown Multipliers at any position, and Sentences shorter than their forms, have no answer, instead of an Exception
+	 */
+	@Test
+	public void testProcessInputLineRead_UnknownMultipliersAndShortSentences_NoIdea() {
+		this.aSentenceProcessor.processInputLineRead("glob is I");
+		this.aSentenceProcessor.processInputLineRead("prok is V");
+		this.aSentenceProcessor.processInputLineRead("glob prok Gold is 57800 Credits");
+		
+		String[] sentences = {
+			"how much is zorg glob ?",							"how much is glob zorg ?",
+			"how many Credits is glob zorg Gold ?",				"how many Credits is zorg Gold ?",
+			"how much ?",										"how many Credits ?",
+			"how",												""
+		};
+		
+		for ( String sentence : sentences ) {
+			assertEquals( sentence, I_HAVE_NO_IDEA_WHAT_YOU_ARE_TALKING_ABOUT, this.aSentenceProcessor.processInputLineRead(sentence) );
+		}
+		
+		String response = this.aSentenceProcessor.processInputLineRead("how many credits is glob prok Gold ?");
+		assertEquals("glob prok Gold is 57800 Credits", response);
+	}
+	
+	/**
+	 * A line with "Credits" anywhere is answered in Credits, even when its Unit is a Variable
+	 */
+	@Test
+	public void testProcessInputLineRead_VariableNamedCredits() {
+		this.aSentenceProcessor.processInputLineRead("zorg is I");
+		this.aSentenceProcessor.processInputLineRead("zorg zorg Silver is 7 Credits");
+		this.aSentenceProcessor.processInputLineRead("zorg Credits is 3 Credits");
+		
+		String response = this.aSentenceProcessor.processInputLineRead("how many Silver is zorg Credits ?");
+		assertEquals("zorg Credits is 3 Credits", response);
+	}
+	
+	/**
+	 * A Variable divided by another one, without an exact decimal quotient (17 / 3), is rounded instead of throwing an ArithmeticException
+	 */
+	@Test
+	public void testProcessInputLineRead_NonTerminatingDivisionByVariable() {
+		this.aSentenceProcessor.processInputLineRead("zorg is I");
+		this.aSentenceProcessor.processInputLineRead("zorg zorg Silver is 34 Credits");
+		this.aSentenceProcessor.processInputLineRead("zorg Iron is 3 Credits");
+		
+		String response = this.aSentenceProcessor.processInputLineRead("how many Iron is zorg Silver ?");
+		assertEquals("zorg Silver is 5.66667 Iron", response);
+	}
+	
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.tw.math;
+
+import static com.tw.math.Converter.*;
+import static com.tw.utils.Constants.MAXIMUM_ROMAN_VALUE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.tw.math.exceptions.InvalidArabicException;
+import com.tw.math.exceptions.InvalidRomanException;
+
+/**
+ * Tests of the int overload of convertArabicToRoman, that looks the Roman Number up in a precomputed table
+ */
+@FixMethodOrder(MethodSorters.JVM)
+public class ConverterArabicToRomanTableTests {
+
+	/**
+	 * Every Roman Number in the table should be converted back to its own Arabic number
+	 */
+	@Test
+	public void testAllRomanNumbersConvertBack() {
+		for ( int arabic = 1; arabic <= MAXIMUM_ROMAN_VALUE; arabic = arabic + 1 ) {
+			assertEquals(arabic, convertRomanToArabic(convertArabicToRoman(arabic)));
+		}
+	}
+
+	@Test
+	public void testStringOverloadReturnsTheSameInstance() {
+		assertSame(convertArabicToRoman(1944), convertArabicToRoman("1944"));
+	}
+
+	@Test
+	public void testLeadingZeros_007() {
+		assertEquals("VII", convertArabicToRoman("007"));
+	}
+
+	@Test(expected=InvalidRomanException.class)
+	public void testInvalidRoman_0() {
+		convertArabicToRoman(0);
+	}
+
+	@Test(expected=InvalidArabicException.class)
+	public void testInvalidArabic_4000() {
+		convertArabicToRoman(4000);
+	}
+
+	@Test(expected=InvalidArabicException.class)
+	public void testInvalidArabic_Negative() {
+		convertArabicToRoman("-1");
+	}
+
+	@Test(expected=InvalidArabicException.class)
+	public void testInvalidArabic_NotNumeric() {
+		convertArabicToRoman("X");
+	}
+
+}
@@ -0,0 +1,155 @@
+package com.tw.math;
+
+import static com.tw.math.Converter.*;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests of the batch decoding, that must give exactly the results of tryConvertRomanToArabic() for each line
+ */
+@FixMethodOrder(MethodSorters.JVM)
+public class ConverterDecodeAllTests {
+
+	private static final String ALPHABET = "IVXLCDMA";
+
+	@Test
+	public void testSomeLines() {
+		int[] results = new int[5];
+
+		int count = decodeAll(toBuffer("MCMXLIV\nIIII\n\nIM\nXXXIX\n"), results);
+
+		assertEquals(5, count);
+		assertArrayEquals(new int[] {1944, ERROR_FOUR_TIMES_REPETITION, ERROR_EMPTY_ROMAN, ERROR_INVALID_ROMAN, 39}, results);
+	}
+
+	@Test
+	public void testLastLineWithoutNewLine() {
+		int[] results = new int[2];
+
+		assertEquals(2, decodeAll(toBuffer("IV\nMMMCMXCIX"), results));
+		assertEquals(3999, results[1]);
+	}
+
+	@Test
+	public void testOutputFullThenResume() {
+		ByteBuffer buffer = toBuffer("I\nII\nIII\n");
+		int[] results = new int[2];
+
+		assertEquals(2, decodeAll(buffer, results));
+		assertEquals(5, buffer.position());
+
+		assertEquals(1, decodeAll(buffer, results));
+		assertEquals(3, results[0]);
+		assertEquals(0, decodeAll(buffer, results));
+	}
+
+	@Test
+	public void testRomanSplitBetweenTwoReads() {
+		ByteBuffer buffer = ByteBuffer.allocate(16);
+		int[] results = new int[4];
+
+		buffer.put( "IV\nMC".getBytes(StandardCharsets.ISO_8859_1) );
+		buffer.flip();
+		assertEquals(1, decodeAll(buffer, results, false));
+		assertEquals(4, results[0]);
+		assertEquals(3, buffer.position());
+
+		buffer.compact();
+		buffer.put( "MXLIV\nX".getBytes(StandardCharsets.ISO_8859_1) );
+		buffer.flip();
+		assertEquals(1, decodeAll(buffer, results, false));
+		assertEquals(1944, results[0]);
+
+		buffer.compact();
+		buffer.flip();
+		assertEquals(1, decodeAll(buffer, results, true));
+		assertEquals(10, results[0]);
+		assertEquals(buffer.limit(), buffer.position());
+	}
+
+	@Test
+	public void testUnterminatedLineIsNotConsumed() {
+		ByteBuffer buffer = toBuffer("MC");
+		int[] results = new int[1];
+
+		assertEquals(0, decodeAll(buffer, results, false));
+		assertEquals(0, buffer.position());
+	}
+
+	@Test
+	public void testRandomLinesInHeapAndDirectBuffers() {
+		List<String> lines = generateLines(new Random(8), 5000);
+		int[] expected = new int[lines.size()];
+		for ( int index = 0; index < lines.size(); index = index + 1 ) {
+			expected[index] = tryConvertRomanToArabic(lines.get(index));
+		}
+
+		ByteBuffer heapBuffer = toBuffer(String.join("\n", lines));
+		ByteBuffer directBuffer = ByteBuffer.allocateDirect(heapBuffer.remaining());
+		directBuffer.put(heapBuffer.duplicate());
+		directBuffer.flip();
+
+		int[] results = new int[lines.size()];
+		assertEquals(lines.size(), decodeAll(heapBuffer, results));
+		assertArrayEquals(expected, results);
+
+		results = new int[lines.size()];
+		assertEquals(lines.size(), decodeAll(directBuffer, results));
+		assertArrayEquals(expected, results);
+	}
+
+	@Test
+	public void testMappedBuffer() throws IOException {
+		File file = File.createTempFile("romans", ".txt");
+		file.deleteOnExit();
+
+		int[] results = new int[3];
+		try ( RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw") ) {
+			randomAccessFile.write("MMXVI\nVV\nCDXLIV\n".getBytes(StandardCharsets.US_ASCII));
+
+			MappedByteBuffer mappedBuffer = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, randomAccessFile.length());
+			assertEquals(3, decodeAll(mappedBuffer, results));
+		}
+
+		assertArrayEquals(new int[] {2016, ERROR_FOUR_TIMES_REPETITION, 444}, results);
+	}
+
+	private static ByteBuffer toBuffer(String pLines) {
+		return ByteBuffer.wrap(pLines.getBytes(StandardCharsets.ISO_8859_1));
+	}
+
+	private static List<String> generateLines(Random pRandom, int pQuantity) {
+		List<String> response = new ArrayList<String>();
+
+		for ( int index = 0; index < pQuantity; index = index + 1 ) {
+			if ( pRandom.nextBoolean() ) {
+				response.add( convertArabicToRoman(1 + pRandom.nextInt(3999)) );
+			} else {
+				StringBuilder line = new StringBuilder();
+				int length = pRandom.nextInt(9);
+				for ( int position = 0; position < length; position = position + 1 ) {
+					line.append( ALPHABET.charAt(pRandom.nextInt(ALPHABET.length())) );
+				}
+				response.add( line.toString() );
+			}
+		}
+
+		return response;
+	}
+
+}
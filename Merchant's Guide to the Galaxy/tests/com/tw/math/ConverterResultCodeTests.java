@@ -0,0 +1,98 @@
+package com.tw.math;
+
+import static com.tw.math.Converter.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.tw.math.exceptions.EmptyRomanException;
+import com.tw.math.exceptions.FourTimesRepetitionException;
+import com.tw.math.exceptions.InvalidArabicException;
+import com.tw.math.exceptions.InvalidRomanException;
+
+/**
+ * Tests of the Exception free API, that returns the value or a negative error code, and of the stackless Exceptions
+ */
+@FixMethodOrder(MethodSorters.JVM)
+public class ConverterResultCodeTests {
+
+	@Test
+	public void testValidRoman_MCMXLIV() {
+		assertEquals(1944, tryConvertRomanToArabic("MCMXLIV"));
+	}
+
+	@Test
+	public void testNonCanonicalRoman_IIV() {
+		assertEquals(convertRomanToArabic("IIV"), tryConvertRomanToArabic("IIV"));
+	}
+
+	@Test
+	public void testEmptyRoman() {
+		assertEquals(ERROR_EMPTY_ROMAN, tryConvertRomanToArabic(""));
+		assertEquals(ERROR_EMPTY_ROMAN, tryConvertRomanToArabic(null));
+	}
+
+	@Test
+	public void testFourTimesRepetition_IMIIII() {
+		assertEquals(ERROR_FOUR_TIMES_REPETITION, tryConvertRomanToArabic("IMIIII"));
+	}
+
+	@Test
+	public void testInvalidSubtraction_MCMXCIC() {
+		assertEquals(ERROR_INVALID_ROMAN, tryConvertRomanToArabic("MCMXCIC"));
+	}
+
+	@Test
+	public void testRomanCode() {
+		assertEquals(39,							RomanCode.tryDecode(RomanCode.pack("XXXIX")));
+		assertEquals(ERROR_FOUR_TIMES_REPETITION,	RomanCode.tryDecode(RomanCode.pack("MDD")));
+		assertEquals(ERROR_INVALID_ROMAN,			RomanCode.tryDecode(RomanCode.pack("IM")));
+	}
+
+	@Test
+	public void testErrorCodesAreErrors() {
+		assertTrue(isError(ERROR_EMPTY_ROMAN));
+		assertTrue(isError(ERROR_ZERO_ARABIC));
+		assertFalse(isError(0));
+	}
+
+	@Test
+	public void testValidateArabic() {
+		assertEquals(3999,					tryValidateArabicToRoman("3999"));
+		assertEquals(ERROR_EMPTY_ARABIC,	tryValidateArabicToRoman(""));
+		assertEquals(ERROR_INVALID_ARABIC,	tryValidateArabicToRoman("12a"));
+		assertEquals(ERROR_INVALID_ARABIC,	tryValidateArabicToRoman("4000"));
+		assertEquals(ERROR_ZERO_ARABIC,		tryValidateArabicToRoman("0"));
+	}
+
+	@Test
+	public void testExceptionOfEachErrorCode() {
+		assertTrue(getException(ERROR_EMPTY_ROMAN, "", false)					instanceof EmptyRomanException);
+		assertTrue(getException(ERROR_FOUR_TIMES_REPETITION, "IIII", false)		instanceof FourTimesRepetitionException);
+		assertTrue(getException(ERROR_INVALID_ROMAN, "IM", false)				instanceof InvalidRomanException);
+		assertTrue(getException(ERROR_ZERO_ARABIC, "0", false)					instanceof InvalidRomanException);
+		assertTrue(getException(ERROR_INVALID_ARABIC, "-1", false)				instanceof InvalidArabicException);
+	}
+
+	@Test
+	public void testStacklessExceptionsArePreallocated() {
+		assertSame(EmptyRomanException.getStackless(),				getException(ERROR_EMPTY_ROMAN, "", true));
+		assertSame(FourTimesRepetitionException.getStackless(),		getException(ERROR_FOUR_TIMES_REPETITION, "IIII", true));
+		assertSame(InvalidRomanException.getStackless(),			getException(ERROR_INVALID_ROMAN, "IM", true));
+		assertSame(InvalidArabicException.getStackless(),			getException(ERROR_INVALID_ARABIC, "-1", true));
+	}
+
+	@Test
+	public void testStacklessExceptionHasNoStackTrace() {
+		RuntimeException exception = getException(ERROR_INVALID_ROMAN, "IM", true);
+
+		exception.fillInStackTrace();
+		assertEquals(0, exception.getStackTrace().length);
+	}
+
+}
@@ -0,0 +1,53 @@
+package com.tw.math;
+
+import static com.tw.math.Converter.*;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.tw.math.exceptions.FourTimesRepetitionException;
+import com.tw.math.exceptions.InvalidRomanException;
+
+/**
+ * The Roman to Arabic conversion validates and sums in a single pass.
+ * These Tests assure that the rules keep the same precedence and results of the separated validations.
+ */
+@FixMethodOrder(MethodSorters.JVM)
+public class ConverterSinglePassTests {
+
+	/**
+	 * The invalid Subtraction (IM) comes first, but the invalid Repetition (IIII) has precedence
+	 */
+	@Test(expected=FourTimesRepetitionException.class)
+	public void testRepetitionHasPrecedenceOverSubtraction_IMIIII() {
+		convertRomanToArabic("IMIIII");
+	}
+
+	@Test(expected=FourTimesRepetitionException.class)
+	public void testNeverRepeated_MDD() {
+		convertRomanToArabic("MDD");
+	}
+
+	@Test(expected=InvalidRomanException.class)
+	public void testInvalidSubtractionAtTheEnd_MCMXCIC() {
+		convertRomanToArabic("MCMXCIC");
+	}
+
+	@Test
+	public void testRepetitionSeparatedBySmallerValue_XXXIX() {
+		assertEquals(39, convertRomanToArabic("XXXIX"));
+	}
+
+	@Test
+	public void testLongestNumber_MMMDCCCLXXXVIII() {
+		assertEquals(3888, convertRomanToArabic("MMMDCCCLXXXVIII"));
+	}
+
+	@Test
+	public void testGreatestNumber_MMMCMXCIX() {
+		assertEquals(3999, convertRomanToArabic("MMMCMXCIX"));
+	}
+
+}
@@ -0,0 +1,145 @@
+package com.tw.math;
+
+import static com.tw.math.ExtendedRomanCodec.*;
+import static com.tw.utils.Constants.MAXIMUM_ROMAN_VALUE;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.tw.math.exceptions.EmptyRomanException;
+import com.tw.math.exceptions.FourTimesRepetitionException;
+import com.tw.math.exceptions.InvalidArabicException;
+import com.tw.math.exceptions.InvalidRomanException;
+
+/**
+ * Tests of the Vinculum notation, where each Overline multiplies a Symbol by 1000
+ */
+@FixMethodOrder(MethodSorters.JVM)
+public class ExtendedRomanCodecTests {
+
+	@Test
+	public void testCanonicalRange() {
+		for ( int arabic = 1; arabic <= MAXIMUM_ROMAN_VALUE; arabic = arabic + 1 ) {
+			assertEquals(Converter.convertArabicToRoman(arabic), encode(arabic));
+		}
+	}
+
+	@Test
+	public void testOverlines() {
+		assertEquals("I" + OVERLINE + "V" + OVERLINE,								encode(4000));
+		assertEquals("V" + OVERLINE + "I",											encode(5001));
+		assertEquals("M" + OVERLINE + "CCXXXIV".replaceAll("(.)", "$1" + OVERLINE) + "DLXVII",	encode(1234567));
+		assertEquals("MMMCMXCIX".replaceAll("(.)", "$1" + OVERLINE) + "CMXCIX",		encode(3999999));
+		assertEquals("I" + OVERLINE + OVERLINE + "V" + OVERLINE + OVERLINE,		encode(4000000));
+	}
+
+	@Test
+	public void testRoundTripOfLongs() throws IOException {
+		Random random = new Random(11);
+
+		for ( int index = 0; index < 20000; index = index + 1 ) {
+			long arabic = 1 + (random.nextLong() & Long.MAX_VALUE) % (1L << random.nextInt(63));
+
+			assertEquals(arabic, decodeLong( new StringReader(encode(arabic)) ));
+		}
+		assertEquals(Long.MAX_VALUE, decodeLong( new StringReader(encode(Long.MAX_VALUE)) ));
+	}
+
+	@Test
+	public void testBigIntegerAsLong() throws IOException {
+		for ( long arabic : new long[] {1, 999, 1000, 3999, 4000, 999999, 3999999, 4000000, 1000000000, Long.MAX_VALUE} ) {
+			StringWriter writer = new StringWriter();
+			ExtendedRomanCodec.encode(BigInteger.valueOf(arabic), writer);
+
+			assertEquals(encode(arabic), writer.toString());
+		}
+	}
+
+	@Test
+	public void testHugeBigInteger() throws IOException {
+		BigInteger arabic = BigInteger.TEN.pow(40).add(BigInteger.valueOf(1944));
+
+		StringWriter writer = new StringWriter();
+		ExtendedRomanCodec.encode(arabic, writer);
+
+		assertEquals(arabic, decode(writer.toString()));
+	}
+
+	@Test
+	public void testStreamOfNumbers() throws IOException {
+		StringReader reader = new StringReader(encode(4000) + " XIV " + encode(2016000));
+
+		assertEquals(4000,		decodeLong(reader));
+		assertEquals(14,		decodeLong(reader));
+		assertEquals(2016000,	decodeLong(reader));
+	}
+
+	@Test(expected=InvalidRomanException.class)
+	public void testIncreasingLevels() {
+		decode("I" + "V" + OVERLINE);
+	}
+
+	@Test(expected=InvalidRomanException.class)
+	public void testLowerGroupOfThousand() {
+		decode("V" + OVERLINE + "M");
+	}
+
+	@Test(expected=InvalidRomanException.class)
+	public void testOverlinedThousand() {
+		// 1000 is M
+		decode("I" + OVERLINE);
+	}
+
+	@Test(expected=InvalidRomanException.class)
+	public void testOverlinedThousandAndLowerGroup() {
+		// 1005 is MV
+		decode("I" + OVERLINE + "V");
+	}
+
+	@Test(expected=InvalidRomanException.class)
+	public void testOverlinedThreeThousand() {
+		// 3000000 is MMM with an Overline
+		decode("I" + OVERLINE + OVERLINE + "I" + OVERLINE + OVERLINE + "I" + OVERLINE + OVERLINE);
+	}
+
+	@Test
+	public void testOverlinedFirstGroupOfFour() {
+		assertEquals(BigInteger.valueOf(4000),		decode("I" + OVERLINE + "V" + OVERLINE));
+		assertEquals(BigInteger.valueOf(1000000),	decode("M" + OVERLINE));
+		assertEquals(BigInteger.valueOf(5001000),	decode("V" + OVERLINE + OVERLINE + "I" + OVERLINE));
+	}
+
+	@Test(expected=InvalidRomanException.class)
+	public void testOverlineWithoutSymbol() {
+		decode(OVERLINE + "V");
+	}
+
+	@Test(expected=FourTimesRepetitionException.class)
+	public void testRepetitionInGroup() {
+		decode("X" + OVERLINE + "X" + OVERLINE + "X" + OVERLINE + "X" + OVERLINE);
+	}
+
+	@Test(expected=EmptyRomanException.class)
+	public void testEmpty() {
+		decode("");
+	}
+
+	@Test(expected=InvalidArabicException.class)
+	public void testNegative() {
+		encode(-4000);
+	}
+
+	@Test(expected=InvalidRomanException.class)
+	public void testZero() {
+		encode(0);
+	}
+
+}
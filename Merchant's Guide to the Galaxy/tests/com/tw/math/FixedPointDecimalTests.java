@@ -0,0 +1,136 @@
+package com.tw.math;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * The fixed point answers must be exactly the text of the BigDecimal ones
+ */
+@FixMethodOrder(MethodSorters.JVM)
+public class FixedPointDecimalTests {
+
+	@Test
+	public void testInteger() {
+		assertProductAsBigDecimal(2, 17.0);
+		assertProductAsBigDecimal(4, 14450.0);
+		assertProductAsBigDecimal(42, 1);
+	}
+
+	@Test
+	public void testDecimals() {
+		assertProductAsBigDecimal(20, 195.5);
+		assertProductAsBigDecimal(3, 0.1);
+		assertProductAsBigDecimal(1, 0.000001);
+		assertProductAsBigDecimal(3999, 0.9999999999);
+	}
+
+	@Test
+	public void testZeroAndNegative() {
+		assertProductAsBigDecimal(0, 17.5);
+		assertProductAsBigDecimal(5, -0.0);
+		assertProductAsBigDecimal(3, -0.1);
+		assertProductAsBigDecimal(-7, 2.25);
+		assertProductAsBigDecimal(1, -0.000001);
+	}
+
+	/**
+	 * The values are calculated as SentenceProcessor.addValuation() does, plus some random doubles of any magnitude
+	 */
+	@Test
+	public void testRandomProducts() {
+		Random random = new Random(9);
+
+		for ( int index = 0; index < 200000; index = index + 1 ) {
+			int arabic = 1 + random.nextInt(3999);
+
+			double value;
+			if ( random.nextBoolean() ) {
+				BigDecimal credits = new BigDecimal( random.nextInt(1000000) );
+				value = credits.divide(new BigDecimal(1 + random.nextInt(3999)), 10, RoundingMode.HALF_EVEN).doubleValue();
+			} else {
+				value = random.nextDouble() * Math.pow(10, random.nextInt(40) - 20);
+			}
+
+			assertProductAsBigDecimal(arabic, value);
+		}
+	}
+
+	/**
+	 * The product of a big Arabic number by a full Mantissa has more than 63 bits, but its integer part fits in a long
+	 */
+	@Test
+	public void testProductsOfMoreThan63Bits() {
+		double value = new BigDecimal(14450).divide(new BigDecimal(3), 10, RoundingMode.HALF_EVEN).doubleValue();
+
+		assertProductAppended(3999, value);
+		assertProductAppended(2048, 0.1);
+		assertProductAppended(Integer.MAX_VALUE, 1.0 / 3);
+		assertProductAppended(Integer.MIN_VALUE, 4816.6666666667);
+	}
+
+	/**
+	 * The fraction of a small value has more bits than a long
+	 */
+	@Test
+	public void testSmallValues() {
+		assertProductAppended(2715, 0.0063351283);
+		assertProductAppended(3, 1e-30);
+		assertProductAppended(1, Double.MIN_VALUE);
+		assertProductAppended(Integer.MAX_VALUE, 0.000004656612873077392578125);
+		assertProductAppended(3, -0.0000016666666666);
+	}
+
+	/**
+	 * As SentenceProcessor.addValuation() does, the values are quotients rounded to 10 decimal places
+	 */
+	@Test
+	public void testValuationProductsAreNeverLeftToBigDecimal() {
+		Random random = new Random(10);
+
+		for ( int index = 0; index < 100000; index = index + 1 ) {
+			BigDecimal credits = new BigDecimal( random.nextInt(1000000) );
+			double value = credits.divide(new BigDecimal(1 + random.nextInt(3999)), 10, RoundingMode.HALF_EVEN).doubleValue();
+
+			assertProductAppended(1 + random.nextInt(3999), value);
+		}
+	}
+
+	@Test
+	public void testOverflowIsLeftToBigDecimal() {
+		StringBuffer response = new StringBuffer("is ");
+
+		assertFalse(FixedPointDecimal.appendProduct(response, 3999, 1e300));
+		assertFalse(FixedPointDecimal.appendProduct(response, 1, Double.NaN));
+		assertFalse(FixedPointDecimal.appendProduct(response, Integer.MAX_VALUE, 1e10));
+		assertEquals("is ", response.toString());
+	}
+
+	private static void assertProductAppended(int pArabic, double pValue) {
+		String expected = Converter.processDecimalValues( new BigDecimal(pArabic).multiply(new BigDecimal(pValue)) ).toString();
+
+		StringBuffer response = new StringBuffer();
+		assertTrue(pArabic + " * " + pValue, FixedPointDecimal.appendProduct(response, pArabic, pValue));
+		assertEquals(pArabic + " * " + pValue, expected, response.toString());
+	}
+
+	private static void assertProductAsBigDecimal(int pArabic, double pValue) {
+		String expected = Converter.processDecimalValues( new BigDecimal(pArabic).multiply(new BigDecimal(pValue)) ).toString();
+
+		StringBuffer response = new StringBuffer();
+		if ( FixedPointDecimal.appendProduct(response, pArabic, pValue) ) {
+			assertEquals(pArabic + " * " + pValue, expected, response.toString());
+		} else {
+			assertTrue(response.length() == 0);
+		}
+	}
+
+}
@@ -0,0 +1,77 @@
+package com.tw.math;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.tw.main.SentenceProcessor;
+
+/**
+ * The rows formatted in parallel must be written exactly in the order of the range
+ */
+@FixMethodOrder(MethodSorters.JVM)
+public class RangeConverterTests {
+
+	@Test
+	public void testRowsInOrder() throws IOException {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			assertRangeAsSequential( new RangeConverter(pool, RowFormatter.ROMAN, 7), 1, 3999 );
+			assertRangeAsSequential( new RangeConverter(pool, RowFormatter.ROMAN, 1000), 3990, 12345 );
+			assertRangeAsSequential( new RangeConverter(pool, RowFormatter.ROMAN, 1), 42, 42 );
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testReport() throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		RangeConverter.Report report = new RangeConverter(RowFormatter.ROMAN).convert( 1, 10, Channels.newChannel(output) );
+
+		assertEquals(10, report.getRows());
+		assertEquals(output.size(), report.getBytes());
+		assertEquals("1\tI\n2\tII\n3\tIII\n", new String(output.toByteArray(), 0, 15, StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testGalacticRows() throws IOException {
+		SentenceProcessor sentenceProcessor = new SentenceProcessor();
+		sentenceProcessor.processInputLineRead("glob is I");
+		sentenceProcessor.processInputLineRead("prok is V");
+		sentenceProcessor.processInputLineRead("glob glob Silver is 34 Credits");
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		new RangeConverter( sentenceProcessor.getRowFormatter("Silver") ).convert( 3, 4, Channels.newChannel(output) );
+
+		assertEquals("3\tIII\tglob glob glob\t51\n4\tIV\tglob prok\t68\n", new String(output.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testInvalidRange() throws IOException {
+		new RangeConverter(RowFormatter.ROMAN).convert( 0, 10, Channels.newChannel(new ByteArrayOutputStream()) );
+	}
+
+	private static void assertRangeAsSequential(RangeConverter pConverter, int pFrom, int pTo) throws IOException {
+		StringBuffer expected = new StringBuffer();
+		for ( int arabic = pFrom; arabic <= pTo; arabic = arabic + 1 ) {
+			RowFormatter.ROMAN.appendRow(arabic, expected);
+			expected.append('\n');
+		}
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		pConverter.convert( pFrom, pTo, Channels.newChannel(output) );
+
+		assertEquals(expected.toString(), new String(output.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+}
@@ -0,0 +1,95 @@
+package com.tw.math;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.tw.math.exceptions.FourTimesRepetitionException;
+
+/**
+ * Any alphabet must be decoded, and validated, with exactly the rules of the standard Symbols
+ */
+@FixMethodOrder(MethodSorters.JVM)
+public class RomanAlphabetTests {
+
+	/**
+	 * The standard Symbols, a character that is not a Symbol, and a space
+	 */
+	private static final String CHARACTERS = "IVXLCDMA ";
+
+	@Test
+	public void testSameRulesAsStandard() {
+		// The same characters of the STANDARD alphabet, but a different instance, so the rules engine of the alphabets is used
+		RomanAlphabet copy = RomanAlphabet.of("copy", "IVXLCDM");
+
+		int strings = 1;
+		for ( int length = 1; length <= 5; length = length + 1 ) {
+			strings = strings * CHARACTERS.length();
+
+			for ( int index = 0; index < strings; index = index + 1 ) {
+				String roman = getString(index, length);
+
+				assertEquals( roman, Converter.tryConvertRomanToArabic(roman),	Converter.tryConvertRomanToArabic(roman, copy) );
+				assertEquals( roman, RomanAutomaton.run(roman),					RomanAutomaton.run(roman, copy) );
+				assertEquals( roman, Converter.tryConvertRomanToArabic(roman),	Converter.tryConvertRomanToArabic(roman.toLowerCase(), RomanAlphabet.LOWERCASE) );
+			}
+		}
+	}
+
+	@Test
+	public void testUnicodeNumerals() {
+		// M C M X L IV
+		assertEquals( 1944,	Converter.convertRomanToArabic("\u216F\u216D\u216F\u2169\u216C\u2163", RomanAlphabet.UNICODE) );
+		assertEquals( 1944,	Converter.convertRomanToArabic("\u217F\u217D\u217F\u2179\u217C\u2173", RomanAlphabet.UNICODE) );
+		assertEquals( 1944,	Converter.convertRomanToArabic("MCM\u2169L\u2163", RomanAlphabet.UNICODE) );
+		assertEquals( 8,	Converter.convertRomanToArabic("\u2167", RomanAlphabet.UNICODE) );
+		assertEquals( 12,	RomanAlphabet.UNICODE.getValue('\u216B') );
+		assertEquals( 0,	RomanAlphabet.UNICODE.getValue('i') );
+	}
+
+	@Test(expected=FourTimesRepetitionException.class)
+	public void testRepetitionAcrossUnicodeCharacters() {
+		// III and I
+		Converter.convertRomanToArabic("\u2162\u2160", RomanAlphabet.UNICODE);
+	}
+
+	@Test
+	public void testValidation() {
+		assertEquals( RomanAutomaton.VALID,			RomanAutomaton.getResultRule(RomanAutomaton.run("mmxiv", RomanAlphabet.LOWERCASE)) );
+		assertEquals( RomanAutomaton.REPETITION,	RomanAutomaton.getResultRule(RomanAutomaton.run("xxxx", RomanAlphabet.LOWERCASE)) );
+		assertEquals( RomanAutomaton.SUBTRACTION,	RomanAutomaton.getResultRule(RomanAutomaton.run("\u2160\u216C", RomanAlphabet.UNICODE)) );
+		assertEquals( 1,							RomanAutomaton.getResultOffset(RomanAutomaton.run("\u2160\u216C", RomanAlphabet.UNICODE)) );
+		assertEquals( RomanAutomaton.EMPTY,			RomanAutomaton.getResultRule(RomanAutomaton.run("", RomanAlphabet.UNICODE)) );
+	}
+
+	@Test
+	public void testContains() {
+		assertTrue( RomanAlphabet.LOWERCASE.contains('m') );
+		assertFalse( RomanAlphabet.STANDARD.contains('m') );
+		assertFalse( RomanAlphabet.UNICODE.contains('\u2180') );
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testInvalidConfiguration() {
+		new RomanAlphabet( "invalid", Collections.singletonMap('q', "IIII") );
+	}
+
+	private static String getString(int pIndex, int pLength) {
+		char[] response = new char[pLength];
+
+		int digits = pIndex;
+		for ( int position = pLength - 1; position >= 0; position = position - 1 ) {
+			response[position] = CHARACTERS.charAt(digits % CHARACTERS.length());
+			digits = digits / CHARACTERS.length();
+		}
+
+		return new String(response);
+	}
+
+}
@@ -0,0 +1,87 @@
+package com.tw.math;
+
+import static com.tw.math.RomanAutomaton.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.MethodSorters;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Tests of the Rules, and the failing offsets, reported by the RomanAutomaton
+ */
+@FixMethodOrder(MethodSorters.JVM)
+@RunWith(Parameterized.class)
+public class RomanAutomatonTests {
+
+	private String	aRoman;
+	private int		aRule;
+	private int		aFailingOffset;
+
+	public RomanAutomatonTests(String pRoman, int pRule, int pFailingOffset) {
+		this.aRoman			= pRoman;
+		this.aRule			= pRule;
+		this.aFailingOffset	= pFailingOffset;
+	}
+
+	@Parameters
+	public static Collection<Object[]> generateData() {
+		return Arrays.asList(new Object[][] {
+			{"",			EMPTY,			-1},
+			{"I",			VALID,			-1},
+			{"MCMXLIV",		VALID,			-1},
+			{"XXXIX",		VALID,			-1},
+			{"IIII",		REPETITION,		3},
+			{"MMVV",		REPETITION,		3},
+			{"IIIIV",		REPETITION,		3},
+			{"IM",			SUBTRACTION,	1},
+			{"MIM",			SUBTRACTION,	2},
+			{"VL",			SUBTRACTION,	1},
+			{"IMXXXX",		REPETITION,		5},		// The Repetition has precedence over the previous Subtraction
+			{"AAAA",		REPETITION,		3}		// Non Roman characters are repeated as the Roman ones
+		});
+	}
+
+	@Test
+	public void testRun() {
+		long result = run(this.aRoman);
+
+		assertEquals(this.aRule,			getResultRule(result));
+		assertEquals(this.aFailingOffset,	getResultOffset(result));
+	}
+
+	@Test
+	public void testStreamedBytes() {
+		RomanAutomaton automaton = new RomanAutomaton();
+
+		boolean canBeValid = true;
+		for ( byte actualByte : this.aRoman.getBytes(StandardCharsets.US_ASCII) ) {
+			canBeValid = automaton.accept(actualByte);
+		}
+
+		assertEquals(this.aRule,			automaton.getRule());
+		assertEquals(this.aFailingOffset,	automaton.getFailingOffset());
+		assertEquals(this.aRule != REPETITION, canBeValid);
+	}
+
+	@Test
+	public void testReset() {
+		RomanAutomaton automaton = new RomanAutomaton();
+		automaton.accept('V');
+		assertFalse(automaton.accept('V'));
+
+		automaton.reset();
+		assertTrue(automaton.accept('V'));
+		assertEquals(VALID, automaton.getRule());
+	}
+
+}
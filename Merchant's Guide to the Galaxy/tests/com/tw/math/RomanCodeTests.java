@@ -0,0 +1,78 @@
+package com.tw.math;
+
+import static com.tw.math.RomanCode.*;
+import static com.tw.utils.Constants.MAXIMUM_ROMAN_VALUE;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.tw.math.exceptions.EmptyRomanException;
+import com.tw.math.exceptions.FourTimesRepetitionException;
+import com.tw.math.exceptions.InvalidRomanException;
+
+/**
+ * Tests of the Roman Numbers packed in a long
+ */
+@FixMethodOrder(MethodSorters.JVM)
+public class RomanCodeTests {
+
+	@Test
+	public void testPackAndUnpack() {
+		for ( int arabic = 1; arabic <= MAXIMUM_ROMAN_VALUE; arabic = arabic + 1 ) {
+			String roman = Converter.convertArabicToRoman(arabic);
+
+			assertEquals(roman, unpack(pack(roman)));
+			assertEquals(pack(roman), encode(arabic));
+			assertEquals(arabic, decode(encode(arabic)));
+		}
+	}
+
+	@Test
+	public void testLength() {
+		assertEquals(0,		getLength(EMPTY));
+		assertEquals(7,		getLength(pack("MCMXLIV")));
+		assertEquals(15,	getLength(pack("MMMDCCCLXXXVIII")));
+	}
+
+	@Test
+	public void testCannotBePacked() {
+		assertEquals(INVALID, pack(null));
+		assertEquals(INVALID, pack("XIA"));
+		assertEquals(INVALID, pack("MMMDCCCLXXXVIIII"));
+		assertEquals(INVALID, append(INVALID, 'I'));
+	}
+
+	/**
+	 * IIV is accepted by the rules, even not being canonical
+	 */
+	@Test
+	public void testDecodeNonCanonical_IIV() {
+		assertEquals(5, decode(pack("IIV")));
+	}
+
+	@Test
+	public void testValidate() {
+		assertEquals(RomanAutomaton.VALID,			validate(pack("XXXIX")));
+		assertEquals(RomanAutomaton.EMPTY,			validate(EMPTY));
+		assertEquals(RomanAutomaton.REPETITION,		validate(pack("IIII")));
+		assertEquals(RomanAutomaton.SUBTRACTION,	validate(pack("IM")));
+	}
+
+	@Test(expected=EmptyRomanException.class)
+	public void testDecodeEmpty() {
+		decode(EMPTY);
+	}
+
+	@Test(expected=FourTimesRepetitionException.class)
+	public void testDecode_VV() {
+		decode(pack("VV"));
+	}
+
+	@Test(expected=InvalidRomanException.class)
+	public void testDecode_MIM() {
+		decode(pack("MIM"));
+	}
+
+}
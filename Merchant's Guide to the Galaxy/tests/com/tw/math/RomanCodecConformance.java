@@ -0,0 +1,384 @@
+package com.tw.math;
+
+import static com.tw.utils.Constants.MAXIMUM_ROMAN_VALUE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * This harness compares a candidate RomanCodec with the reference one, on every input that matters:
+ * 		- The 3999 canonical Roman Numbers, encoded and decoded
+ * 		- The Arabic numbers out of the Roman range, that encode() must reject
+ * 		- Every string of the seven Symbols, from 1 to		pMaximumLength		characters (about 6.7 million strings up to 8 characters)
+ *
+ * The reference is the ReferenceRomanCodec, the original algorithm, that shares no code with the other engines.
+ * For each input, both engines must give the same value, or the same error code, validate() must give the same result,
+ * and decode() and encode() must give the same value, or throw the same Exception, with the same message.
+ * The inputs are split in chunks, that are compared in parallel by a ForkJoinPool. In each chunk, the engines run one after the other,
+ * over the same inputs, so the time of each one can be measured apart.
+ *
+ * It can be run from the command line, with the name of the candidate engine (see RomanCodecs) and, optionally, the maximum length:
+ * 		java com.tw.math.RomanCodecConformance packed 8
+ */
+public class RomanCodecConformance {
+
+	public static final int DEFAULT_MAXIMUM_LENGTH = 8;
+
+	/**
+	 * Only the first divergences are kept in the Report
+	 */
+	public static final int MAXIMUM_REPORTED_DIVERGENCES = 20;
+
+	private static final String	SYMBOLS		= "IVXLCDM";
+	private static final int	CHUNK_SIZE	= 4096;
+
+	/**
+	 * The Arabic numbers that cannot be encoded: zero, the negative ones, and the ones above the Roman range
+	 */
+	private static final int[]	OUT_OF_RANGE_ARABICS	= { 0, -1, MAXIMUM_ROMAN_VALUE + 1, Integer.MIN_VALUE, Integer.MAX_VALUE };
+
+	public static void main(String[] args) throws Exception {
+		RomanCodec candidate = RomanCodecs.getCodec( args.length > 0 ? args[0] : PackedRomanCodec.NAME );
+		int maximumLength = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MAXIMUM_LENGTH;
+
+		Report report = run( RomanCodecs.REFERENCE, candidate, maximumLength, ForkJoinPool.commonPool() );
+		System.out.println(report);
+
+		if ( report.getDivergenceCount() > 0 ) {
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * This method compares the		pCandidate		with the		pReference		on all the canonical Roman Numbers,
+	 * and on every string of Symbols up to		pMaximumLength		characters
+	 *
+	 * @param		pReference			The engine that gives the expected results
+	 * @param		pCandidate			The engine under test
+	 * @param		pMaximumLength		The length of the longest string of Symbols
+	 * @param		pPool				Compares the chunks in parallel
+	 *
+	 * @return		Report				The divergences, and the throughput of each engine
+	 */
+	public static Report run(RomanCodec pReference, RomanCodec pCandidate, int pMaximumLength, ForkJoinPool pPool) throws Exception {
+		List<Callable<Report>> chunks = new ArrayList<Callable<Report>>();
+
+		for ( int from = 1; from <= MAXIMUM_ROMAN_VALUE; from = from + CHUNK_SIZE ) {
+			chunks.add( new CanonicalChunk(pReference, pCandidate, from, Math.min(MAXIMUM_ROMAN_VALUE, from + CHUNK_SIZE - 1)) );
+		}
+
+		chunks.add( new OutOfRangeChunk(pReference, pCandidate) );
+
+		for ( int length = 1; length <= pMaximumLength; length = length + 1 ) {
+			long strings = pow(SYMBOLS.length(), length);
+
+			for ( long from = 0; from < strings; from = from + CHUNK_SIZE ) {
+				chunks.add( new SymbolsChunk(pReference, pCandidate, length, from, Math.min(strings, from + CHUNK_SIZE)) );
+			}
+		}
+
+		long startTime = System.nanoTime();
+
+		Report response = new Report();
+		for ( Future<Report> chunk : pPool.invokeAll(chunks) ) {
+			response.merge( chunk.get() );
+		}
+		response.aElapsedNanoseconds = System.nanoTime() - startTime;
+
+		return response;
+	}
+
+	/**
+	 * Compares the encoding, and the decoding, of a range of Arabic numbers
+	 */
+	private static class CanonicalChunk implements Callable<Report> {
+
+		private final RomanCodec	aReference;
+		private final RomanCodec	aCandidate;
+		private final int			aFrom;
+		private final int			aTo;
+
+		private CanonicalChunk(RomanCodec pReference, RomanCodec pCandidate, int pFrom, int pTo) {
+			this.aReference	= pReference;
+			this.aCandidate	= pCandidate;
+			this.aFrom		= pFrom;
+			this.aTo		= pTo;
+		}
+
+		@Override
+		public Report call() {
+			Report response = new Report();
+
+			String[] expected	= new String[this.aTo - this.aFrom + 1];
+			String[] actual		= new String[expected.length];
+
+			long startTime = System.nanoTime();
+			for ( int index = 0; index < expected.length; index = index + 1 ) {
+				expected[index] = this.aReference.encode(this.aFrom + index);
+			}
+			response.aReferenceNanoseconds = System.nanoTime() - startTime;
+
+			startTime = System.nanoTime();
+			for ( int index = 0; index < actual.length; index = index + 1 ) {
+				actual[index] = this.aCandidate.encode(this.aFrom + index);
+			}
+			response.aCandidateNanoseconds = System.nanoTime() - startTime;
+
+			for ( int index = 0; index < expected.length; index = index + 1 ) {
+				if ( !expected[index].equals(actual[index]) ) {
+					response.addDivergence( "encode(" + (this.aFrom + index) + ")", expected[index], actual[index] );
+				}
+			}
+
+			response.merge( compareDecoding(this.aReference, this.aCandidate, expected) );
+			response.aInputs = response.aInputs + expected.length;
+
+			return response;
+		}
+
+	}
+
+	/**
+	 * Compares the Exceptions of encode(), for the Arabic numbers out of the Roman range
+	 */
+	private static class OutOfRangeChunk implements Callable<Report> {
+
+		private final RomanCodec	aReference;
+		private final RomanCodec	aCandidate;
+
+		private OutOfRangeChunk(RomanCodec pReference, RomanCodec pCandidate) {
+			this.aReference	= pReference;
+			this.aCandidate	= pCandidate;
+		}
+
+		@Override
+		public Report call() {
+			Report response = new Report();
+
+			for ( int arabic : OUT_OF_RANGE_ARABICS ) {
+				String expected	= getEncoding(this.aReference, arabic);
+				String actual	= getEncoding(this.aCandidate, arabic);
+
+				if ( !expected.equals(actual) ) {
+					response.addDivergence( "encode(" + arabic + ")", expected, actual );
+				}
+			}
+
+			response.aInputs = OUT_OF_RANGE_ARABICS.length;
+
+			return response;
+		}
+
+	}
+
+	/**
+	 * Compares the decoding of a range of strings of Symbols, with the same length.
+	 * The string of each index is the index written in base 7, with the Symbols as its digits.
+	 */
+	private static class SymbolsChunk implements Callable<Report> {
+
+		private final RomanCodec	aReference;
+		private final RomanCodec	aCandidate;
+		private final int			aLength;
+		private final long			aFrom;
+		private final long			aTo;
+
+		private SymbolsChunk(RomanCodec pReference, RomanCodec pCandidate, int pLength, long pFrom, long pTo) {
+			this.aReference	= pReference;
+			this.aCandidate	= pCandidate;
+			this.aLength	= pLength;
+			this.aFrom		= pFrom;
+			this.aTo		= pTo;
+		}
+
+		@Override
+		public Report call() {
+			String[] romans = new String[(int) (this.aTo - this.aFrom)];
+
+			char[] characters = new char[this.aLength];
+			for ( int index = 0; index < romans.length; index = index + 1 ) {
+				long digits = this.aFrom + index;
+
+				for ( int position = this.aLength - 1; position >= 0; position = position - 1 ) {
+					characters[position] = SYMBOLS.charAt( (int) (digits % SYMBOLS.length()) );
+					digits = digits / SYMBOLS.length();
+				}
+
+				romans[index] = new String(characters);
+			}
+
+			return compareDecoding(this.aReference, this.aCandidate, romans);
+		}
+
+	}
+
+	private static Report compareDecoding(RomanCodec pReference, RomanCodec pCandidate, String[] pRomans) {
+		Report response = new Report();
+
+		int[] expected	= new int[pRomans.length];
+		int[] actual	= new int[pRomans.length];
+
+		long startTime = System.nanoTime();
+		for ( int index = 0; index < pRomans.length; index = index + 1 ) {
+			expected[index] = pReference.tryDecode(pRomans[index]);
+		}
+		response.aReferenceNanoseconds = System.nanoTime() - startTime;
+
+		startTime = System.nanoTime();
+		for ( int index = 0; index < pRomans.length; index = index + 1 ) {
+			actual[index] = pCandidate.tryDecode(pRomans[index]);
+		}
+		response.aCandidateNanoseconds = System.nanoTime() - startTime;
+
+		for ( int index = 0; index < pRomans.length; index = index + 1 ) {
+			String roman = pRomans[index];
+
+			if ( expected[index] != actual[index] ) {
+				response.addDivergence( "tryDecode(" + roman + ")", Integer.toString(expected[index]), Integer.toString(actual[index]) );
+			}
+
+			// decode() is compared on every input, so an engine that throws where the other returns is found too
+			String expectedDecoding	= getDecoding(pReference, roman);
+			String actualDecoding	= getDecoding(pCandidate, roman);
+			if ( !expectedDecoding.equals(actualDecoding) ) {
+				response.addDivergence( "decode(" + roman + ")", expectedDecoding, actualDecoding );
+			}
+
+			int expectedRule	= pReference.validate(roman);
+			int actualRule		= pCandidate.validate(roman);
+			if ( expectedRule != actualRule ) {
+				response.addDivergence( "validate(" + roman + ")", Integer.toString(expectedRule), Integer.toString(actualRule) );
+			}
+		}
+
+		response.aInputs = pRomans.length;
+
+		return response;
+	}
+
+	/**
+	 * @return	String		The value given by decode(), or the class and the message of the Exception that it throws
+	 */
+	private static String getDecoding(RomanCodec pCodec, String pRoman) {
+		String response;
+
+		try {
+			response = Integer.toString( pCodec.decode(pRoman) );
+		} catch ( RuntimeException re ) {
+			response = getDescription(re);
+		}
+
+		return response;
+	}
+
+	/**
+	 * @return	String		The Roman Number given by encode(), or the class and the message of the Exception that it throws
+	 */
+	private static String getEncoding(RomanCodec pCodec, int pArabic) {
+		String response;
+
+		try {
+			response = pCodec.encode(pArabic);
+		} catch ( RuntimeException re ) {
+			response = getDescription(re);
+		}
+
+		return response;
+	}
+
+	private static String getDescription(RuntimeException pException) {
+		return pException.getClass().getSimpleName() + ": " + pException.getMessage();
+	}
+
+	private static long pow(int pBase, int pExponent) {
+		long response = 1;
+
+		for ( int index = 0; index < pExponent; index = index + 1 ) {
+			response = response * pBase;
+		}
+
+		return response;
+	}
+
+	/**
+	 * The result of a comparison: the quantity of inputs, the first divergences, and the time spent by each engine
+	 */
+	public static class Report {
+
+		private long				aInputs;
+		private long				aDivergenceCount;
+		private final List<String>	aDivergences			= new ArrayList<String>();
+		private long				aReferenceNanoseconds;
+		private long				aCandidateNanoseconds;
+		private long				aElapsedNanoseconds;
+
+		private void addDivergence(String pInput, String pExpected, String pActual) {
+			this.aDivergenceCount = this.aDivergenceCount + 1;
+
+			if ( this.aDivergences.size() < MAXIMUM_REPORTED_DIVERGENCES ) {
+				this.aDivergences.add( pInput + ": expected <" + pExpected + "> but was <" + pActual + ">" );
+			}
+		}
+
+		private void merge(Report pOther) {
+			this.aInputs				= this.aInputs + pOther.aInputs;
+			this.aDivergenceCount		= this.aDivergenceCount + pOther.aDivergenceCount;
+			this.aReferenceNanoseconds	= this.aReferenceNanoseconds + pOther.aReferenceNanoseconds;
+			this.aCandidateNanoseconds	= this.aCandidateNanoseconds + pOther.aCandidateNanoseconds;
+
+			for ( int index = 0; index < pOther.aDivergences.size() && this.aDivergences.size() < MAXIMUM_REPORTED_DIVERGENCES; index = index + 1 ) {
+				this.aDivergences.add( pOther.aDivergences.get(index) );
+			}
+		}
+
+		public long getInputs() {
+			return this.aInputs;
+		}
+
+		public long getDivergenceCount() {
+			return this.aDivergenceCount;
+		}
+
+		/**
+		 * @return	List		The first divergences, in the order of the inputs
+		 */
+		public List<String> getDivergences() {
+			return this.aDivergences;
+		}
+
+		/**
+		 * @return	double		The inputs converted per second by the reference engine, in a single thread
+		 */
+		public double getReferenceInputsPerSecond() {
+			return this.aInputs * 1e9 / Math.max(1, this.aReferenceNanoseconds);
+		}
+
+		/**
+		 * @return	double		The inputs converted per second by the candidate engine, in a single thread
+		 */
+		public double getCandidateInputsPerSecond() {
+			return this.aInputs * 1e9 / Math.max(1, this.aCandidateNanoseconds);
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder response = new StringBuilder();
+
+			response.append(this.aInputs).append(" inputs compared in ").append(this.aElapsedNanoseconds / 1000000).append(" ms, ")
+				.append(this.aDivergenceCount).append(" divergences\n");
+			response.append("reference: ").append(Math.round(getReferenceInputsPerSecond())).append(" inputs/s per thread\n");
+			response.append("candidate: ").append(Math.round(getCandidateInputsPerSecond())).append(" inputs/s per thread\n");
+
+			for ( String divergence : this.aDivergences ) {
+				response.append(divergence).append('\n');
+			}
+
+			return response.toString();
+		}
+
+	}
+
+}
@@ -0,0 +1,83 @@
+package com.tw.math;
+
+import static com.tw.utils.Constants.MAXIMUM_ROMAN_VALUE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.tw.math.exceptions.InvalidArabicException;
+import com.tw.math.exceptions.InvalidRomanException;
+
+/**
+ * The reference of the harness is the original algorithm, so the engines that share the new tables are compared against code that does not use them.
+ * The harness runs here up to 6 Symbols (about 137 thousand strings). The full run, up to 8 Symbols, is done by RomanCodecConformance.main()
+ */
+@FixMethodOrder(MethodSorters.JVM)
+public class RomanCodecConformanceTests {
+
+	private static final int MAXIMUM_LENGTH = 6;
+
+	@Test
+	public void testPackedCodec() throws Exception {
+		RomanCodecConformance.Report report = RomanCodecConformance.run( RomanCodecs.REFERENCE, RomanCodecs.PACKED, MAXIMUM_LENGTH, ForkJoinPool.commonPool() );
+
+		assertEquals(report.toString(), 0, report.getDivergenceCount());
+		assertEquals(MAXIMUM_ROMAN_VALUE * 2 + 5 + 7 + 49 + 343 + 2401 + 16807 + 117649, report.getInputs());
+	}
+
+	@Test
+	public void testConverterCodec() throws Exception {
+		RomanCodecConformance.Report report = RomanCodecConformance.run( RomanCodecs.REFERENCE, RomanCodecs.CONVERTER, MAXIMUM_LENGTH, ForkJoinPool.commonPool() );
+
+		assertEquals(report.toString(), 0, report.getDivergenceCount());
+	}
+
+	@Test
+	public void testDivergencesAreReported() throws Exception {
+		RomanCodec candidate = new ReferenceRomanCodec() {
+			@Override
+			public int tryDecode(CharSequence pRoman) {
+				int response = super.tryDecode(pRoman);
+				return "IX".contentEquals(pRoman) ? response + 1 : response;
+			}
+		};
+
+		RomanCodecConformance.Report report = RomanCodecConformance.run( RomanCodecs.REFERENCE, candidate, 2, ForkJoinPool.commonPool() );
+
+		assertEquals(2, report.getDivergenceCount());
+		assertTrue( report.getDivergences().get(0).startsWith("tryDecode(IX): expected <9> but was <10>") );
+	}
+
+	@Test
+	public void testExceptionTypesAreCompared() throws Exception {
+		RomanCodec candidate = new ConverterRomanCodec() {
+			@Override
+			public int decode(CharSequence pRoman) {
+				if ( "VV".contentEquals(pRoman) ) {
+					throw new InvalidRomanException( pRoman.toString() );
+				}
+				return super.decode(pRoman);
+			}
+
+			@Override
+			public String encode(int pArabic) {
+				if ( pArabic == 0 ) {
+					throw new InvalidArabicException();
+				}
+				return super.encode(pArabic);
+			}
+		};
+
+		RomanCodecConformance.Report report = RomanCodecConformance.run( RomanCodecs.REFERENCE, candidate, 2, ForkJoinPool.commonPool() );
+
+		assertEquals(report.toString(), 2, report.getDivergenceCount());
+		assertTrue( report.getDivergences().get(0), report.getDivergences().get(0).startsWith("encode(0): expected <InvalidRomanException: ") );
+		assertTrue( report.getDivergences().get(1), report.getDivergences().get(1).startsWith("decode(VV): expected <FourTimesRepetitionException: ") );
+	}
+
+}
@@ -0,0 +1,112 @@
+package com.tw.math;
+
+import static com.tw.utils.Constants.I_HAVE_NO_IDEA_WHAT_YOU_ARE_TALKING_ABOUT;
+import static com.tw.utils.Constants.MAXIMUM_ROMAN_VALUE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.MethodSorters;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import com.tw.main.SentenceProcessor;
+import com.tw.math.exceptions.InvalidArabicException;
+
+/**
+ * Every RomanCodec must give exactly the results of the Converter
+ */
+@FixMethodOrder(MethodSorters.JVM)
+@RunWith(Parameterized.class)
+public class RomanCodecTests {
+
+	private static final String[] ROMANS = {
+		null,	"",		"I",	"IV",	"IIV",	"XXXIX",	"XXXX",		"IL",	"VV",	"MMMM",
+		"ABC",	"iv",	"I V",	"MMMDCCCLXXXVIII",		"MMMDCCCLXXXVIIII",	"MMMCMXCIXIIIXXXCCC"
+	};
+
+	private RomanCodec aCodec;
+
+	public RomanCodecTests(RomanCodec pCodec) {
+		this.aCodec = pCodec;
+	}
+
+	@Parameters
+	public static Collection<Object[]> generateData() {
+		return Arrays.asList(new Object[][] {
+			{RomanCodecs.REFERENCE},
+			{RomanCodecs.CONVERTER},
+			{RomanCodecs.PACKED}
+		});
+	}
+
+	@Test
+	public void testCanonicalRange() {
+		for ( int arabic = 1; arabic <= MAXIMUM_ROMAN_VALUE; arabic = arabic + 1 ) {
+			String roman = Converter.convertArabicToRoman(arabic);
+
+			assertEquals(roman,		this.aCodec.encode(arabic));
+			assertEquals(arabic,	this.aCodec.decode(roman));
+			assertEquals(arabic,	this.aCodec.tryDecode(roman));
+			assertEquals(arabic,	this.aCodec.tryDecode(RomanCode.pack(roman)));
+			assertEquals(0,			this.aCodec.validate(roman));
+		}
+	}
+
+	@Test
+	public void testAsConverter() {
+		for ( String roman : ROMANS ) {
+			int expected = Converter.tryConvertRomanToArabic(roman);
+
+			assertEquals(roman, expected,				this.aCodec.tryDecode(roman));
+			assertEquals(roman, Math.min(expected, 0),	this.aCodec.validate(roman));
+			assertEquals(roman, getExceptionDescription(ReferenceRomanCodec.NAME, roman), getExceptionDescription(this.aCodec.getName(), roman));
+		}
+	}
+
+	@Test(expected=InvalidArabicException.class)
+	public void testEncodeOutOfRange() {
+		this.aCodec.encode(MAXIMUM_ROMAN_VALUE + 1);
+	}
+
+	@Test
+	public void testSelectionByName() {
+		assertSame(this.aCodec, RomanCodecs.getCodec(this.aCodec.getName()));
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testUnknownName() {
+		RomanCodecs.getCodec("unknown");
+	}
+
+	@Test
+	public void testInjectedInSentenceProcessor() {
+		SentenceProcessor sentenceProcessor = new SentenceProcessor(this.aCodec);
+		sentenceProcessor.processInputLineRead("glob is I");
+		sentenceProcessor.processInputLineRead("prok is V");
+		sentenceProcessor.processInputLineRead("pish is X");
+		sentenceProcessor.processInputLineRead("glob glob Silver is 34 Credits");
+
+		assertEquals("pish glob prok is 14",							sentenceProcessor.processInputLineRead("how much is pish glob prok ?"));
+		assertEquals("glob prok Silver is 68 Credits",					sentenceProcessor.processInputLineRead("how many Credits is glob prok Silver ?"));
+		assertEquals(I_HAVE_NO_IDEA_WHAT_YOU_ARE_TALKING_ABOUT,	sentenceProcessor.processInputLineRead("how much is glob glob glob glob ?"));
+	}
+
+	private static String getExceptionDescription(String pCodecName, String pRoman) {
+		String response = null;
+
+		try {
+			RomanCodecs.getCodec(pCodecName).decode(pRoman);
+		} catch ( RuntimeException re ) {
+			response = re.getClass().getName() + ": " + re.getMessage();
+		}
+
+		return response;
+	}
+
+}
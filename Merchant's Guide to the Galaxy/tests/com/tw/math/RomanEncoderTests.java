@@ -0,0 +1,138 @@
+package com.tw.math;
+
+import static com.tw.utils.Constants.MAXIMUM_ROMAN_VALUE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.tw.math.exceptions.InvalidArabicException;
+import com.tw.math.exceptions.InvalidRomanException;
+
+/**
+ * Tests of the RomanEncoder, that must write exactly the Roman Numbers of Converter.convertArabicToRoman(), in every kind of buffer
+ */
+@FixMethodOrder(MethodSorters.JVM)
+public class RomanEncoderTests {
+
+	@Test
+	public void testCharArrayAtOffset() {
+		char[] buffer = new char[RomanEncoder.MAXIMUM_LENGTH + 2];
+
+		for ( int arabic = 1; arabic <= MAXIMUM_ROMAN_VALUE; arabic = arabic + 1 ) {
+			int length = RomanEncoder.encode(arabic, buffer, 2);
+
+			assertEquals(Converter.convertArabicToRoman(arabic), new String(buffer, 2, length));
+		}
+	}
+
+	@Test
+	public void testStringBuilder() {
+		StringBuilder builder = new StringBuilder();
+
+		for ( int arabic = 1; arabic <= MAXIMUM_ROMAN_VALUE; arabic = arabic + 1 ) {
+			builder.setLength(0);
+			int length = RomanEncoder.encode(arabic, builder);
+
+			assertEquals(Converter.convertArabicToRoman(arabic), builder.toString());
+			assertEquals(builder.length(), length);
+		}
+	}
+
+	@Test
+	public void testAppendable() throws IOException {
+		StringWriter writer = new StringWriter();
+
+		assertEquals(9, RomanEncoder.encode(3999, writer));
+		assertEquals("MMMCMXCIX", writer.toString());
+	}
+
+	@Test
+	public void testDirectByteBufferAtOffset() {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(RomanEncoder.MAXIMUM_LENGTH + 4);
+
+		int length = RomanEncoder.encode(3888, buffer, 4);
+
+		byte[] bytes = new byte[length];
+		for ( int index = 0; index < length; index = index + 1 ) {
+			bytes[index] = buffer.get(4 + index);
+		}
+		assertEquals("MMMDCCCLXXXVIII", new String(bytes, StandardCharsets.US_ASCII));
+		assertEquals(0, buffer.position());
+	}
+
+	@Test
+	public void testByteBufferPosition() {
+		ByteBuffer buffer = ByteBuffer.allocate(32);
+
+		RomanEncoder.encode(1944, buffer);
+		buffer.put((byte) ' ');
+		RomanEncoder.encode(4, buffer);
+
+		assertEquals("MCMXLIV IV", new String(buffer.array(), 0, buffer.position(), StandardCharsets.US_ASCII));
+	}
+
+	@Test(expected=InvalidRomanException.class)
+	public void testZero() {
+		RomanEncoder.encode(0, new StringBuilder());
+	}
+
+	@Test(expected=InvalidArabicException.class)
+	public void testGreaterThanMaximum_4000() {
+		RomanEncoder.encode(4000, new char[RomanEncoder.MAXIMUM_LENGTH], 0);
+	}
+
+	/**
+	 * The old path, digit by digit, creates StringBuffers. The encoder must not create anything.
+	 */
+	@Test
+	public void testNoAllocation() {
+		assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+		com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		assumeTrue(threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled());
+
+		long threadId = Thread.currentThread().getId();
+		char[] buffer = new char[RomanEncoder.MAXIMUM_LENGTH];
+		StringBuilder builder = new StringBuilder(RomanEncoder.MAXIMUM_LENGTH);
+
+		// Warm up, so the measurement does not see any class loading
+		encodeAll(buffer, builder);
+		threadBean.getThreadAllocatedBytes(threadId);
+
+		long before = threadBean.getThreadAllocatedBytes(threadId);
+		int written = encodeAll(buffer, builder);
+		long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+		assertTrue(written > 0);
+		assertTrue("Allocated " + allocated + " bytes", allocated < 1024);
+
+		before = threadBean.getThreadAllocatedBytes(threadId);
+		for ( int arabic = 1; arabic <= MAXIMUM_ROMAN_VALUE; arabic = arabic + 1 ) {
+			Converter.getRomanValue(arabic % 10, 1);
+		}
+		assertTrue(threadBean.getThreadAllocatedBytes(threadId) - before > allocated);
+	}
+
+	private static int encodeAll(char[] pBuffer, StringBuilder pBuilder) {
+		int response = 0;
+
+		for ( int arabic = 1; arabic <= MAXIMUM_ROMAN_VALUE; arabic = arabic + 1 ) {
+			response = response + RomanEncoder.encode(arabic, pBuffer, 0);
+
+			pBuilder.setLength(0);
+			response = response + RomanEncoder.encode(arabic, pBuilder);
+		}
+
+		return response;
+	}
+
+}
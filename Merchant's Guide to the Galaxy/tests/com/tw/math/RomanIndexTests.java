@@ -0,0 +1,52 @@
+package com.tw.math;
+
+import static com.tw.utils.Constants.MAXIMUM_ROMAN_VALUE;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests of the Perfect Hash index of the canonical Roman Numbers
+ */
+@FixMethodOrder(MethodSorters.JVM)
+public class RomanIndexTests {
+
+	@Test
+	public void testAllCanonicalRomanNumbersAreFound() {
+		for ( int arabic = 1; arabic <= MAXIMUM_ROMAN_VALUE; arabic = arabic + 1 ) {
+			assertEquals(arabic, RomanIndex.getArabicValue(Converter.convertArabicToRoman(arabic)));
+		}
+	}
+
+	/**
+	 * IIV is accepted by the rules, but it is not canonical
+	 */
+	@Test
+	public void testNonCanonical_IIV() {
+		assertEquals(RomanIndex.NOT_FOUND, RomanIndex.getArabicValue("IIV"));
+	}
+
+	@Test
+	public void testInvalid_IIII() {
+		assertEquals(RomanIndex.NOT_FOUND, RomanIndex.getArabicValue("IIII"));
+	}
+
+	@Test
+	public void testNonRomanCharacter() {
+		assertEquals(RomanIndex.NOT_FOUND, RomanIndex.getArabicValue("XIA"));
+	}
+
+	@Test
+	public void testTooLong() {
+		assertEquals(RomanIndex.NOT_FOUND, RomanIndex.getArabicValue("MMMDCCCLXXXVIIII"));
+	}
+
+	@Test
+	public void testEmptyAndNull() {
+		assertEquals(RomanIndex.NOT_FOUND, RomanIndex.getArabicValue(""));
+		assertEquals(RomanIndex.NOT_FOUND, RomanIndex.getArabicValue(null));
+	}
+
+}
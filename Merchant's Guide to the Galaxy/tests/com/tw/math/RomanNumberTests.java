@@ -0,0 +1,118 @@
+package com.tw.math;
+
+import static com.tw.utils.Constants.MAXIMUM_ROMAN_VALUE;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.tw.math.exceptions.FourTimesRepetitionException;
+import com.tw.math.exceptions.InvalidArabicException;
+import com.tw.math.exceptions.InvalidRomanException;
+
+/**
+ * There must be a single RomanNumber for each value, with all the forms given by the Converter
+ */
+@FixMethodOrder(MethodSorters.JVM)
+public class RomanNumberTests {
+
+	@Test
+	public void testCanonicalInstances() {
+		for ( int arabic = 1; arabic <= MAXIMUM_ROMAN_VALUE; arabic = arabic + 1 ) {
+			RomanNumber romanNumber = Converter.getRomanNumber(arabic);
+			String roman = Converter.convertArabicToRoman(arabic);
+
+			assertEquals(arabic,											romanNumber.intValue());
+			assertEquals(roman,												romanNumber.toString());
+			assertArrayEquals(roman.getBytes(StandardCharsets.US_ASCII),	romanNumber.getBytes());
+			assertEquals(new BigDecimal(arabic),							romanNumber.toBigDecimal());
+			assertSame(romanNumber,											Converter.getRomanNumber(roman));
+			assertSame(romanNumber,											RomanNumber.valueOf(new BigDecimal(arabic)));
+		}
+	}
+
+	@Test
+	public void testNonCanonicalRoman() {
+		assertSame( RomanNumber.valueOf(5),	Converter.getRomanNumber("IIV") );
+		assertSame( RomanNumber.valueOf(5),	RomanNumber.valueOf(new BigDecimal("5.000")) );
+	}
+
+	@Test
+	public void testMapKeys() {
+		Map<RomanNumber, String> nouns = new HashMap<RomanNumber, String>();
+		nouns.put( RomanNumber.valueOf(1), "glob" );
+		nouns.put( RomanNumber.valueOf("V"), "prok" );
+
+		assertEquals( "glob",	nouns.get(Converter.getRomanNumber("I")) );
+		assertEquals( "prok",	nouns.get(RomanNumber.valueOf(new BigDecimal(5))) );
+	}
+
+	@Test
+	public void testWriteTo() {
+		ByteBuffer buffer = ByteBuffer.allocate(32);
+		RomanNumber.valueOf(1944).writeTo(buffer);
+
+		assertEquals( "MCMXLIV", new String(buffer.array(), 0, buffer.position(), StandardCharsets.US_ASCII) );
+	}
+
+	@Test
+	public void testSerializationKeepsTheInstance() throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ObjectOutputStream output = new ObjectOutputStream(bytes);
+		output.writeObject( RomanNumber.valueOf(42) );
+		output.close();
+
+		Object deserialized = new ObjectInputStream( new ByteArrayInputStream(bytes.toByteArray()) ).readObject();
+
+		assertSame( RomanNumber.valueOf(42), deserialized );
+	}
+
+	@Test(expected=InvalidRomanException.class)
+	public void testZero() {
+		RomanNumber.valueOf(0);
+	}
+
+	@Test(expected=InvalidArabicException.class)
+	public void testOutOfRange() {
+		Converter.getRomanNumber(MAXIMUM_ROMAN_VALUE + 1);
+	}
+
+	@Test(expected=InvalidArabicException.class)
+	public void testFraction() {
+		RomanNumber.valueOf( new BigDecimal("2.5") );
+	}
+
+	@Test(expected=FourTimesRepetitionException.class)
+	public void testInvalidRoman() {
+		Converter.getRomanNumber("XXXX");
+	}
+
+	@Test(expected=InvalidRomanException.class)
+	public void testNonRomanSymbol() {
+		Converter.getRomanNumber("A");
+	}
+
+	@Test(expected=InvalidRomanException.class)
+	public void testLowercaseRoman() {
+		Converter.getRomanNumber("iv");
+	}
+
+	@Test(expected=InvalidRomanException.class)
+	public void testPunctuation() {
+		RomanNumber.valueOf("?");
+	}
+
+}
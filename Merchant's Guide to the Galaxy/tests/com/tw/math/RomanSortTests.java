@@ -0,0 +1,106 @@
+package com.tw.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.tw.math.exceptions.FourTimesRepetitionException;
+
+/**
+ * The Radix Sort, and the comparator, must give the order of a stable sort by Converter.convertRomanToArabic()
+ */
+@FixMethodOrder(MethodSorters.JVM)
+public class RomanSortTests {
+
+	private static final Comparator<String> CONVERTER_ORDER = new Comparator<String>() {
+		@Override
+		public int compare(String pRoman1, String pRoman2) {
+			return Integer.compare( Converter.convertRomanToArabic(pRoman1), Converter.convertRomanToArabic(pRoman2) );
+		}
+	};
+
+	@Test
+	public void testSortAsConverter() {
+		String[] romans = getRandomRomans(100000);
+
+		String[] expected = romans.clone();
+		Arrays.sort(expected, CONVERTER_ORDER);
+
+		String[] sorted = romans.clone();
+		RomanSort.sort(sorted);
+		assertArrayEquals(expected, sorted);
+
+		String[] compared = romans.clone();
+		Arrays.sort(compared, RomanSort.comparator());
+		assertArrayEquals(expected, compared);
+	}
+
+	@Test
+	public void testStableSort() {
+		String[] romans = { "X", "IIV", "MM", "IV", "I", "XIIV", "XIV", "V" };
+
+		RomanSort.sort(romans);
+
+		assertArrayEquals( new String[] {"I", "IV", "IIV", "V", "X", "XIV", "XIIV", "MM"}, romans );
+	}
+
+	@Test
+	public void testSortList() {
+		List<CharSequence> romans = new ArrayList<CharSequence>();
+		romans.add("MCMXLIV");
+		romans.add( new StringBuilder("IX") );
+		romans.add("MMMCMXCIX");
+		romans.add("XL");
+
+		RomanSort.sort(romans);
+
+		assertEquals("[IX, XL, MCMXLIV, MMMCMXCIX]", romans.toString());
+	}
+
+	@Test(expected=FourTimesRepetitionException.class)
+	public void testInvalidRoman() {
+		RomanSort.sort( new String[] {"X", "XXXX"} );
+	}
+
+	@Test
+	public void testNothingMovedOnInvalidRoman() {
+		String[] romans = { "X", "V", "IL" };
+
+		try {
+			RomanSort.sort(romans);
+		} catch ( RuntimeException re ) {
+			// Expected
+		}
+
+		assertArrayEquals( new String[] {"X", "V", "IL"}, romans );
+	}
+
+	/**
+	 * The canonical Roman Numbers, and some of the non canonical ones accepted by the rules
+	 */
+	private static String[] getRandomRomans(int pQuantity) {
+		Random random = new Random(19);
+
+		String[] response = new String[pQuantity];
+		for ( int index = 0; index < pQuantity; index = index + 1 ) {
+			String roman = Converter.convertArabicToRoman( 1 + random.nextInt(3999) );
+			if ( random.nextInt(8) == 0 && !Converter.isError(Converter.tryConvertRomanToArabic("I" + roman)) ) {
+				roman = "I" + roman;
+			}
+
+			response[index] = roman;
+		}
+
+		return response;
+	}
+
+}
@@ -0,0 +1,116 @@
+package com.tw.math;
+
+import static com.tw.math.RomanSymbols.*;
+import static com.tw.utils.Constants.MAXIMUM_ROMAN_VALUE;
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * The sum of the counters must be the sum of each Roman Number converted by Converter.tryConvertRomanToArabic()
+ */
+@FixMethodOrder(MethodSorters.JVM)
+public class RomanSumAggregatorTests {
+
+	@Test
+	public void testCanonicalRange() {
+		RomanSumAggregator aggregator = new RomanSumAggregator();
+
+		for ( int arabic = 1; arabic <= MAXIMUM_ROMAN_VALUE; arabic = arabic + 1 ) {
+			assertEquals( 0, aggregator.add(Converter.convertArabicToRoman(arabic)) );
+		}
+
+		assertEquals(3999L * 4000 / 2, aggregator.getSum());
+		assertEquals(MAXIMUM_ROMAN_VALUE, aggregator.getValidCount());
+		assertEquals(0, aggregator.getInvalidCount());
+	}
+
+	@Test
+	public void testCounters() {
+		RomanSumAggregator aggregator = new RomanSumAggregator();
+		aggregator.add("XIV");
+		aggregator.add("MCMXC");
+		aggregator.add("IV");
+
+		assertEquals(2, aggregator.getSymbolCount(SYMBOL_I));
+		assertEquals(2, aggregator.getSubtractionCount(SYMBOL_I, SYMBOL_V));
+		assertEquals(1, aggregator.getSubtractionCount(SYMBOL_C, SYMBOL_M));
+		assertEquals(1, aggregator.getSubtractionCount(SYMBOL_X, SYMBOL_C));
+		assertEquals(14 + 1990 + 4, aggregator.getSum());
+		assertEquals("MMVIII", aggregator.toRoman());
+	}
+
+	@Test
+	public void testInvalidNumbersAreNotSummed() {
+		RomanSumAggregator aggregator = new RomanSumAggregator();
+
+		assertEquals( Converter.ERROR_EMPTY_ROMAN,				aggregator.add("") );
+		assertEquals( Converter.ERROR_FOUR_TIMES_REPETITION,	aggregator.add("XXXX") );
+		assertEquals( Converter.ERROR_INVALID_ROMAN,			aggregator.add("IL") );
+		assertEquals( 0,										aggregator.add("X") );
+		assertEquals( Converter.ERROR_EMPTY_ROMAN,				aggregator.add(RomanCode.INVALID) );
+
+		assertEquals(10, aggregator.getSum());
+		assertEquals(1, aggregator.getValidCount());
+		assertEquals(4, aggregator.getInvalidCount());
+	}
+
+	@Test
+	public void testRandomNumbersAsConverter() {
+		Random random = new Random(13);
+		RomanSumAggregator aggregator = new RomanSumAggregator();
+		RomanSumAggregator codeAggregator = new RomanSumAggregator();
+		long expected = 0;
+
+		for ( int index = 0; index < 100000; index = index + 1 ) {
+			String roman = getRandomRoman(random);
+			int arabic = Converter.tryConvertRomanToArabic(roman);
+
+			assertEquals( Math.min(arabic, 0), aggregator.add(roman) );
+			codeAggregator.add( RomanCode.pack(roman) );
+			if ( arabic > 0 ) {
+				expected = expected + arabic;
+			}
+		}
+
+		assertEquals(expected, aggregator.getSum());
+		assertEquals(expected, codeAggregator.getSum());
+		assertEquals(BigInteger.valueOf(expected), aggregator.getBigSum());
+	}
+
+	@Test
+	public void testParallelCollector() {
+		Random random = new Random(17);
+		List<String> romans = new ArrayList<String>();
+		for ( int index = 0; index < 50000; index = index + 1 ) {
+			romans.add( getRandomRoman(random) );
+		}
+
+		RomanSumAggregator sequential = romans.stream().collect( RomanSumAggregator.collector() );
+		RomanSumAggregator parallel = romans.parallelStream().collect( RomanSumAggregator.collector() );
+
+		assertEquals(sequential.getSum(),			parallel.getSum());
+		assertEquals(sequential.getValidCount(),	parallel.getValidCount());
+		assertEquals(sequential.getInvalidCount(),	parallel.getInvalidCount());
+		assertEquals(ExtendedRomanCodec.encode(sequential.getSum()), parallel.toRoman());
+	}
+
+	private static String getRandomRoman(Random pRandom) {
+		StringBuilder response = new StringBuilder();
+
+		int length = 1 + pRandom.nextInt(8);
+		for ( int index = 0; index < length; index = index + 1 ) {
+			response.append( "IVXLCDM".charAt(pRandom.nextInt(7)) );
+		}
+
+		return response.toString();
+	}
+
+}
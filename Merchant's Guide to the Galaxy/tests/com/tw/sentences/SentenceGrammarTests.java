@@ -0,0 +1,147 @@
+package com.tw.sentences;
+
+import static com.tw.sentences.SentenceGrammar.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * The SentenceGrammar must classify each form of Sentence, and give the spans of its terms
+ */
+@FixMethodOrder(MethodSorters.JVM)
+public class SentenceGrammarTests {
+
+	private Map<String, Character>	aNouns;
+	private Map<String, Double>		aVariables;
+	private SentenceGrammar			aGrammar;
+
+	@Before
+	public void initialize() {
+		this.aNouns			= new HashMap<String, Character>();
+		this.aVariables		= new HashMap<String, Double>();
+		this.aGrammar		= new SentenceGrammar(this.aNouns, this.aVariables);
+
+		this.aNouns.put("glob", 'I');
+		this.aNouns.put("prok", 'V');
+		this.aVariables.put("Silver", 17.0);
+		this.aVariables.put("Gold", 14450.0);
+	}
+
+	@Test
+	public void testMapping() {
+		assertEquals( MAPPING, classify("glob is I") );
+		assertEquals( 0, this.aGrammar.getIndex(NOUN) );
+		assertEquals( 2, this.aGrammar.getIndex(VALUE) );
+		assertEquals( NONE, this.aGrammar.getIndex(MULTIPLIERS) );
+
+		assertEquals( NONE, classify("glob Is I") );
+		assertEquals( NONE, classify("glob is II") );
+		assertEquals( NONE, classify("glob is A") );
+		assertEquals( NONE, classify("glob glob is I") );
+	}
+
+	@Test
+	public void testValuation() {
+		assertEquals( VALUATION, classify("glob prok Iron is 3910 Credits") );
+		assertSpan( MULTIPLIERS, 0, 2 );
+		assertEquals( 2, this.aGrammar.getIndex(VARIABLE) );
+		assertEquals( 4, this.aGrammar.getIndex(VALUE) );
+		assertEquals( 5, this.aGrammar.getIndex(UNIT) );
+
+		assertEquals( VALUATION, classify("glob BitCoin is 1 Credit") );
+		assertEquals( NONE, classify("Iron is 3910 Credits") );
+		assertEquals( NONE, classify("tegj Iron is 3910 Credits") );
+		assertEquals( NONE, classify("glob Iron is 3910 credits") );
+		assertEquals( NONE, classify("glob Iron is 12x Credits") );
+	}
+
+	@Test
+	public void testHowMuch() {
+		assertEquals( HOW_MUCH, classify("how much is glob prok glob ?") );
+		assertSpan( MULTIPLIERS, 3, 6 );
+
+		assertEquals( HOW_MUCH, classify("HOW Much IS glob ?") );
+		assertEquals( HOW_MUCH, classify("how much is ?") );
+		assertSpan( MULTIPLIERS, 3, 3 );
+
+		// Every Multiplier is tested, including the first and the last ones
+		assertEquals( NONE, classify("how much is tegj glob ?") );
+		assertEquals( NONE, classify("how much is glob tegj ?") );
+		assertEquals( NONE, classify("how much wood could a woodchuck chuck if a woodchuck could chuck wood ?") );
+	}
+
+	@Test
+	public void testHowMany() {
+		assertEquals( HOW_MANY, classify("how many Credits is glob prok Silver ?") );
+		assertSpan( MULTIPLIERS, 4, 6 );
+		assertEquals( 2, this.aGrammar.getIndex(UNIT) );
+		assertEquals( 6, this.aGrammar.getIndex(VARIABLE) );
+
+		assertEquals( HOW_MANY, classify("how many Silver is glob Gold ?") );
+		assertEquals( HOW_MANY, classify("how many credits is Gold ?") );
+		assertSpan( MULTIPLIERS, 4, 4 );
+
+		assertEquals( NONE, classify("how many Credits is glob tegj Silver ?") );
+		assertEquals( NONE, classify("how many Credits is glob prok Iron ?") );
+		assertEquals( NONE, classify("how many Iron is glob Silver ?") );
+		assertEquals( NONE, classify("how many Credits is glob prok glob ?") );
+	}
+
+	@Test
+	public void testShortSentences() {
+		String[] sentences = { "", "   ", "how", "?", "how much", "how much ?", "how many Credits ?", "is I", "glob is" };
+
+		for ( String sentence : sentences ) {
+			assertEquals( sentence, NONE, classify(sentence) );
+		}
+	}
+
+	@Test
+	public void testNewNounsAndVariables() {
+		assertEquals( NONE, classify("how many Credits is tegj Iron ?") );
+
+		this.aNouns.put("tegj", 'L');
+		this.aVariables.put("Iron", 195.5);
+
+		assertEquals( HOW_MANY, classify("how many Credits is tegj Iron ?") );
+	}
+
+	@Test
+	public void testMatchesOneForm() {
+		SentenceTokens tokens = new SentenceTokens("how much is glob ?");
+
+		assertTrue( this.aGrammar.matches(tokens, HOW_MUCH) );
+		assertEquals( HOW_MUCH, this.aGrammar.getForm() );
+
+		assertFalse( this.aGrammar.matches(tokens, HOW_MANY) );
+		assertEquals( NONE, this.aGrammar.getForm() );
+		assertEquals( NONE, this.aGrammar.getStart(MULTIPLIERS) );
+	}
+
+	@Test
+	public void testWithoutNounsAndVariables() {
+		SentenceGrammar grammar = new SentenceGrammar();
+
+		assertEquals( MAPPING, grammar.classify(new SentenceTokens("glob is I")) );
+		assertEquals( NONE, grammar.classify(new SentenceTokens("glob Silver is 34 Credits")) );
+		assertEquals( NONE, grammar.classify(new SentenceTokens("how much is glob ?")) );
+	}
+
+	private int classify(String pLine) {
+		return this.aGrammar.classify( new SentenceTokens(pLine) );
+	}
+
+	private void assertSpan(int pRole, int pStart, int pEnd) {
+		assertEquals( pStart, this.aGrammar.getStart(pRole) );
+		assertEquals( pEnd, this.aGrammar.getEnd(pRole) );
+	}
+
+}
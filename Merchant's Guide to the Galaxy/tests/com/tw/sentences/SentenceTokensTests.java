@@ -0,0 +1,112 @@
+package com.tw.sentences;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.MethodSorters;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import com.tw.main.SentenceProcessor;
+import com.tw.utils.Utils;
+
+/**
+ * The SentenceTokens must have the same terms of Utils.split(), and the SentenceProcessor must classify them as it does with the line
+ */
+@FixMethodOrder(MethodSorters.JVM)
+@RunWith(Parameterized.class)
+public class SentenceTokensTests {
+
+	private String aLine;
+
+	public SentenceTokensTests(String pLine) {
+		this.aLine = pLine;
+	}
+
+	@Parameters
+	public static Collection<Object[]> generateData() {
+		return Arrays.asList(new Object[][] {
+			{"glob is I"},								{"prok is V"},
+			{"glob glob Silver is 34 Credits"},			{"glob prok Gold is 57800 Credits"},
+			{"how much is glob prok ?"},				{"how many Credits is glob prok Silver ?"},
+			{"how many Silver is glob Gold ?"},			{"how much wood could a woodchuck chuck if a woodchuck could chuck wood ?"},
+			{"glob  is I"},								{" glob is I"},
+			{"glob is I "},								{"glob\tis I"},
+			{"x"},										{" "}
+		});
+	}
+
+	@Test
+	public void testTermsAsSplit() {
+		SentenceTokens tokens = new SentenceTokens(this.aLine);
+
+		assertEquals( Utils.split(this.aLine), tokens.getTerms() );
+		assertEquals( Utils.split(this.aLine).size(), tokens.size() );
+		assertEquals( this.aLine, tokens.getLine() );
+	}
+
+	@Test
+	public void testLastTerm() {
+		SentenceTokens tokens = new SentenceTokens(this.aLine);
+
+		if ( tokens.size() > 0 ) {
+			assertEquals( tokens.get(tokens.size() - 1), tokens.getFromEnd(0) );
+		}
+	}
+
+	@Test
+	public void testClassificationAsLine() {
+		SentenceProcessor lineProcessor		= getProcessor();
+		SentenceProcessor tokensProcessor	= getProcessor();
+		SentenceTokens tokens = new SentenceTokens(this.aLine);
+
+		assertEquals( SentenceProcessor.isMappingSentence(this.aLine), SentenceProcessor.isMappingSentence(tokens) );
+		assertEquals( lineProcessor.isValuationSentence(this.aLine), tokensProcessor.isValuationSentence(tokens) );
+		assertEquals( getHowResult(lineProcessor, this.aLine), getHowResult(tokensProcessor, tokens) );
+	}
+
+	@Test
+	public void testNullLine() {
+		SentenceTokens tokens = new SentenceTokens(null);
+
+		assertNull( tokens.getTerms() );
+		assertEquals( 0, tokens.size() );
+	}
+
+	private static SentenceProcessor getProcessor() {
+		SentenceProcessor response = new SentenceProcessor();
+
+		response.addNounMultiplier_Roman_Mapping("glob is I");
+		response.addNounMultiplier_Roman_Mapping("prok is V");
+		response.addValuation("glob glob Silver is 34 Credits");
+		response.addValuation("glob prok Gold is 57800 Credits");
+
+		return response;
+	}
+
+	/**
+	 * @return	String		The response of the How sentence, or the class of the Exception that it throws
+	 */
+	private static String getHowResult(SentenceProcessor pProcessor, Object pSentence) {
+		String response;
+
+		try {
+			if ( pSentence instanceof SentenceTokens ) {
+				response = pProcessor.processHowSentence( (SentenceTokens) pSentence );
+			} else {
+				response = pProcessor.processHowSentence( (String) pSentence );
+			}
+		} catch ( RuntimeException re ) {
+			response = re.getClass().getName();
+		}
+
+		return response;
+	}
+
+}
@@ -0,0 +1,67 @@
+package com.tw.utils;
+
+import static com.tw.utils.CharClasses.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * The tables of CharClasses must give, for every character, the same answers of the Character methods
+ */
+@FixMethodOrder(MethodSorters.JVM)
+public class CharClassesTests {
+
+	@Test
+	public void testEveryCharacterAsCharacterMethods() {
+		for ( int character = 0; character <= Character.MAX_VALUE; character = character + 1 ) {
+			char actual = (char) character;
+			String message = "U+" + Integer.toHexString(character);
+
+			assertEquals( message, Character.isDigit(actual),		isDigit(actual) );
+			assertEquals( message, Character.isWhitespace(actual),	isSeparator(actual) );
+			assertEquals( message, "IVXLCDM".indexOf(actual) >= 0,	isRoman(actual) );
+			assertEquals( message, actual == '+' || actual == '-',	is(actual, SIGN) );
+		}
+	}
+
+	@Test
+	public void testPunctuation() {
+		assertTrue( isPunctuation('?') );
+		assertTrue( isPunctuation('.') );
+		assertTrue( isPunctuation('\u00BF') );
+		assertFalse( isPunctuation('a') );
+		assertFalse( isPunctuation(' ') );
+	}
+
+	@Test
+	public void testIsAnyOfClasses() {
+		assertTrue( is('5', DIGIT | SIGN) );
+		assertTrue( is('-', DIGIT | SIGN) );
+		assertFalse( is('a', DIGIT | SIGN) );
+	}
+
+	@Test
+	public void testIsAll() {
+		assertTrue( isAll("MCMXLIV", ROMAN) );
+		assertFalse( isAll("MCMXLIV ", ROMAN) );
+		assertFalse( isAll("", ROMAN) );
+		assertFalse( isAll(null, ROMAN) );
+	}
+
+	@Test
+	public void testRomanNumeralsAreBuiltOnce() {
+		assertSame( Utils.getRomanNumerals(), Utils.getRomanNumerals() );
+		assertEquals( 7, Utils.getRomanNumerals().size() );
+	}
+
+	@Test(expected=UnsupportedOperationException.class)
+	public void testRomanNumeralsCannotBeChanged() {
+		Utils.getRomanNumerals().add('A');
+	}
+
+}
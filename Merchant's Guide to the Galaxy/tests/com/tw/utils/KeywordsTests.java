@@ -0,0 +1,141 @@
+package com.tw.utils;
+
+import static com.tw.utils.Keywords.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * The perfect hash of Keywords must recognize exactly what String.equals() and String.equalsIgnoreCase() do
+ */
+@FixMethodOrder(MethodSorters.JVM)
+public class KeywordsTests {
+
+	@Test
+	public void testEveryCaseOfTheKeywords() {
+		for ( int keyword = HOW; keyword < KEYWORDS_COUNT; keyword = keyword + 1 ) {
+			for ( String token : getCases( getKeyword(keyword) ) ) {
+				assertRecognizedAsString(token);
+			}
+		}
+	}
+
+	@Test
+	public void testShortTokens() {
+		String alphabet = "hHoOwWiIsSmMuUcCaAnNyY?x\u0130\u0131\u017F";
+		List<String> tokens = new ArrayList<String>();
+		tokens.add("");
+
+		for ( int length = 1; length <= 3; length = length + 1 ) {
+			List<String> longerTokens = new ArrayList<String>();
+			for ( String token : tokens ) {
+				for ( int index = 0; index < alphabet.length(); index = index + 1 ) {
+					longerTokens.add( token + alphabet.charAt(index) );
+				}
+			}
+
+			for ( String token : longerTokens ) {
+				assertRecognizedAsString(token);
+			}
+			tokens = longerTokens;
+		}
+	}
+
+	@Test
+	public void testEverySingleCharacterToken() {
+		for ( int character = 0; character <= Character.MAX_VALUE; character = character + 1 ) {
+			assertRecognizedAsString( String.valueOf( (char) character ) );
+		}
+	}
+
+	@Test
+	public void testOtherTokens() {
+		String[] tokens = {
+			"glob", "prok", "Silver", "34", "Credit\u017F", "CREDIT\u0130", "m\u00FCch", "credits?", "Creditss", "howw",
+			"hov", "mach", "mony", "isn't", "??", "", "C", "s", "redits", "Credi"
+		};
+
+		for ( String token : tokens ) {
+			assertRecognizedAsString(token);
+		}
+	}
+
+	@Test
+	public void testTokenInsideLine() {
+		String line = "how many Credits is glob ?";
+
+		assertEquals( HOW | EXACT_CASE,				recognize(line, 0, 3) );
+		assertEquals( MANY | EXACT_CASE,			recognize(line, 4, 8) );
+		assertEquals( CREDITS | EXACT_CASE,			recognize(line, 9, 16) );
+		assertEquals( CREDIT | EXACT_CASE,			recognize(line, 9, 15) );
+		assertEquals( NONE,							recognize(line, 20, 24) );
+		assertEquals( QUESTION_MARK | EXACT_CASE,	recognize(line, 25, 26) );
+	}
+
+	@Test
+	public void testCaseFlag() {
+		assertTrue( isExactCase( recognize("is") ) );
+		assertFalse( isExactCase( recognize("Is") ) );
+		assertEquals( IS, getId( recognize("Is") ) );
+		assertEquals( NONE, recognize((CharSequence) null) );
+	}
+
+	@Test
+	public void testUtilsComparisons() {
+		assertTrue( Utils.isEqualsHow("HoW") );
+		assertTrue( Utils.isEqualsMuch("MUCH") );
+		assertTrue( Utils.isEqualsIs("iS") );
+		assertTrue( Utils.isEqualsQuestionMark("?") );
+		assertFalse( Utils.isEqualsHow("many") );
+		assertFalse( Utils.isEqualsIs(null) );
+	}
+
+	/**
+	 * The keyword must be the one that is equalsIgnoreCase() to the token, with EXACT_CASE if it is also equals()
+	 */
+	private static void assertRecognizedAsString(String pToken) {
+		int expected = NONE;
+
+		for ( int keyword = HOW; keyword < KEYWORDS_COUNT; keyword = keyword + 1 ) {
+			if ( getKeyword(keyword).equals(pToken) ) {
+				expected = keyword | EXACT_CASE;
+			} else if ( getKeyword(keyword).equalsIgnoreCase(pToken) ) {
+				expected = keyword;
+			}
+		}
+
+		assertEquals( pToken, expected, recognize(pToken) );
+		assertEquals( pToken, expected, recognize("<" + pToken + ">", 1, pToken.length() + 1) );
+	}
+
+	/**
+	 * @return	List		All the combinations of lowercase and uppercase of the characters of		pKeyword
+	 */
+	private static List<String> getCases(String pKeyword) {
+		List<String> response = new ArrayList<String>();
+
+		for ( int mask = 0; mask < 1 << pKeyword.length(); mask = mask + 1 ) {
+			char[] characters = pKeyword.toCharArray();
+
+			for ( int index = 0; index < characters.length; index = index + 1 ) {
+				if ( ( mask & (1 << index) ) != 0 ) {
+					characters[index] = Character.toUpperCase(characters[index]);
+				} else {
+					characters[index] = Character.toLowerCase(characters[index]);
+				}
+			}
+
+			response.add( new String(characters) );
+		}
+
+		return response;
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.tw.utils;
+
+import static com.tw.utils.NumericParser.*;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.MethodSorters;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * The NumericParser must accept, and reject, exactly what Integer.parseInt() does
+ */
+@FixMethodOrder(MethodSorters.JVM)
+@RunWith(Parameterized.class)
+public class NumericParserTests {
+
+	private String aNumericString;
+
+	public NumericParserTests(String pNumericString) {
+		this.aNumericString = pNumericString;
+	}
+
+	@Parameters
+	public static Collection<Object[]> generateData() {
+		return Arrays.asList(new Object[][] {
+			{"0"},				{"34"},				{"57800"},			{"+7"},
+			{"-0"},				{"-15"},			{"007"},			{"2147483647"},
+			{"2147483648"},		{"-2147483648"},	{"-2147483649"},	{"99999999999999999999"},
+			{""},				{"+"},				{"-"},				{"+-1"},
+			{"12a"},			{"1 2"},			{" 12"},			{"1.5"},
+			{"Credits"},		{"\u0663\u0664"},	{"\uFF11\uFF12"},	{"\u00B2"}
+		});
+	}
+
+	@Test
+	public void testParseIntAsInteger() {
+		long expected = INVALID;
+		try {
+			expected = Integer.parseInt(this.aNumericString);
+		} catch ( NumberFormatException nfe ) {
+			// Not an Integer
+		}
+
+		assertEquals(expected, parseInt(this.aNumericString));
+	}
+
+	@Test
+	public void testParseTokenInsideLine() {
+		String line = "glob is " + this.aNumericString + " Credits";
+		int start = "glob is ".length();
+
+		assertEquals(parseInt(this.aNumericString), parseInt(line, start, start + this.aNumericString.length()));
+	}
+
+	@Test
+	public void testIsNumeric() {
+		assertEquals(isValid(parseInt(this.aNumericString)), Utils.isNumeric(this.aNumericString));
+	}
+
+}
@@ -0,0 +1,121 @@
+package com.tw.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.MethodSorters;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * The Tokenizer must give the same tokens of a split by runs of white spaces, without empty tokens
+ */
+@FixMethodOrder(MethodSorters.JVM)
+@RunWith(Parameterized.class)
+public class TokenizerTests {
+
+	private String aLine;
+
+	public TokenizerTests(String pLine) {
+		this.aLine = pLine;
+	}
+
+	@Parameters
+	public static Collection<Object[]> generateData() {
+		return Arrays.asList(new Object[][] {
+			{"glob is I"},						{"how many Credits is glob prok Silver ?"},
+			{"glob  is   I"},					{"  glob is I  "},
+			{"glob\tis\tI"},					{" \t glob \t\t is I\t"},
+			{"glob\nis\r\nI"},					{"x"},
+			{""},								{"   "},
+			{"a b c d e f g h i j k l m n o p q r s t u v w x y z"}
+		});
+	}
+
+	@Test
+	public void testTokensAsSplitByWhiteSpaces() {
+		Tokenizer tokenizer = new Tokenizer();
+
+		assertEquals( getExpectedTokens(this.aLine), getTokens(tokenizer, this.aLine) );
+	}
+
+	@Test
+	public void testReusedTokenizer() {
+		Tokenizer tokenizer = new Tokenizer();
+		tokenizer.tokenize("a b c d e f g h i j k l m n o p q r s t u v w x y z 1 2 3");
+
+		assertEquals( getExpectedTokens(this.aLine), getTokens(tokenizer, this.aLine) );
+	}
+
+	@Test
+	public void testOffsets() {
+		Tokenizer tokenizer = new Tokenizer();
+		int count = tokenizer.tokenize(this.aLine);
+
+		for ( int index = 0; index < count; index = index + 1 ) {
+			String token = tokenizer.getString(index);
+
+			assertEquals( token, this.aLine.substring(tokenizer.getStart(index), tokenizer.getEnd(index)) );
+			assertEquals( token.length(), tokenizer.getLength(index) );
+			assertEquals( token, tokenizer.getToken(index).toString() );
+			assertEquals( token.charAt(0), tokenizer.charAt(index, 0) );
+			assertTrue( tokenizer.equals(index, token) );
+			assertTrue( tokenizer.equalsIgnoreCase(index, token.toUpperCase()) );
+			assertFalse( tokenizer.equals(index, token + "x") );
+		}
+	}
+
+	@Test
+	public void testEqualsIgnoreCaseAsString() {
+		Tokenizer tokenizer = new Tokenizer();
+		tokenizer.tokenize("how HOW How hoW Credits CREDITS \u0130s is ?");
+
+		String[] strings = { "how", "credits", "is", "IS", "?", "ho" };
+		for ( int index = 0; index < tokenizer.getCount(); index = index + 1 ) {
+			for ( String string : strings ) {
+				assertEquals( tokenizer.getString(index).equalsIgnoreCase(string), tokenizer.equalsIgnoreCase(index, string) );
+			}
+		}
+	}
+
+	@Test(expected=IndexOutOfBoundsException.class)
+	public void testTokenOutOfRange() {
+		Tokenizer tokenizer = new Tokenizer();
+		tokenizer.tokenize(this.aLine);
+
+		tokenizer.getStart( tokenizer.getCount() );
+	}
+
+	private static List<String> getTokens(Tokenizer pTokenizer, String pLine) {
+		List<String> response = new ArrayList<String>();
+
+		int count = pTokenizer.tokenize(pLine);
+		for ( int index = 0; index < count; index = index + 1 ) {
+			response.add( pTokenizer.getString(index) );
+		}
+
+		return response;
+	}
+
+	private static List<String> getExpectedTokens(String pLine) {
+		List<String> response = new ArrayList<String>();
+
+		for ( String token : pLine.split("\\s+") ) {
+			if ( !token.isEmpty() ) {
+				response.add(token);
+			}
+		}
+
+		return response;
+	}
+
+}
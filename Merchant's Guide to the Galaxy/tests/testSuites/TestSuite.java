@@ -4,15 +4,39 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
+import com.tw.main.SentenceDispatcherTests;
 import com.tw.main.SentenceProcessorIsMappingSentenceTest;
 import com.tw.main.SentenceProcessorTest;
+import com.tw.math.ConverterArabicToRomanTableTests;
 import com.tw.math.ConverterArabicToRomanTests;
+import com.tw.math.ConverterDecodeAllTests;
 import com.tw.math.ConverterExceptionTests;
 import com.tw.math.ConverterGetArabicValueTest;
 import com.tw.math.ConverterInvalidTests;
 import com.tw.math.ConverterIsArabicValidTests;
 import com.tw.math.ConverterParametizedTests;
+import com.tw.math.ConverterResultCodeTests;
+import com.tw.math.ConverterSinglePassTests;
 import com.tw.math.ConverterTest;
+import com.tw.math.ExtendedRomanCodecTests;
+import com.tw.math.FixedPointDecimalTests;
+import com.tw.math.RangeConverterTests;
+import com.tw.math.RomanAlphabetTests;
+import com.tw.math.RomanAutomatonTests;
+import com.tw.math.RomanCodeTests;
+import com.tw.math.RomanCodecConformanceTests;
+import com.tw.math.RomanCodecTests;
+import com.tw.math.RomanEncoderTests;
+import com.tw.math.RomanIndexTests;
+import com.tw.math.RomanNumberTests;
+import com.tw.math.RomanSortTests;
+import com.tw.math.RomanSumAggregatorTests;
+import com.tw.sentences.SentenceGrammarTests;
+import com.tw.sentences.SentenceTokensTests;
+import com.tw.utils.CharClassesTests;
+import com.tw.utils.KeywordsTests;
+import com.tw.utils.NumericParserTests;
+import com.tw.utils.TokenizerTests;
 import com.tw.utils.UtilsTest;
 
 /**
@@ -28,10 +52,34 @@ import com.tw.utils.UtilsTest;
 	ConverterExceptionTests.class,
 	ConverterInvalidTests.class,
 	ConverterArabicToRomanTests.class,
+	ConverterArabicToRomanTableTests.class,
 	ConverterIsArabicValidTests.class,
 	ConverterGetArabicValueTest.class,
+	ConverterSinglePassTests.class,
 	UtilsTest.class,
 	SentenceProcessorTest.class,
-	SentenceProcessorIsMappingSentenceTest.class
+	SentenceProcessorIsMappingSentenceTest.class,
+	RomanAutomatonTests.class,
+	RomanIndexTests.class,
+	RomanCodeTests.class,
+	ConverterResultCodeTests.class,
+	RomanEncoderTests.class,
+	ConverterDecodeAllTests.class,
+	FixedPointDecimalTests.class,
+	NumericParserTests.class,
+	ExtendedRomanCodecTests.class,
+	RangeConverterTests.class,
+	RomanSumAggregatorTests.class,
+	RomanCodecTests.class,
+	RomanCodecConformanceTests.class,
+	RomanSortTests.class,
+	RomanNumberTests.class,
+	RomanAlphabetTests.class,
+	CharClassesTests.class,
+	SentenceTokensTests.class,
+	TokenizerTests.class,
+	KeywordsTests.class,
+	SentenceGrammarTests.class,
+	SentenceDispatcherTests.class
 })
 public class TestSuite {}
\ No newline at end of file